@@ -0,0 +1,132 @@
+package com.example.demo.UI;
+
+import com.example.demo.characters.ActiveActor;
+import com.example.demo.manager.AssetManager;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+
+/**
+ * The ActorSprite class draws an {@link ActiveActor} of the simulation.
+ * <p>
+ * The sprite is placed at the actor's spawn position and follows the actor through its translation.
+ * {@link #sync(double)} copies the actor's interpolated position and only touches the node when it
+ * actually changed, so actors at rest cost the scene graph nothing. Sprites are reused: once its actor
+ * leaves the world, a sprite can be bound to a new actor drawn with the same image.
+ * </p>
+ * <p>
+ * Projectiles are not objects but entities of the simulation; their sprites stay unbound and are placed
+ * with {@link #moveTo(double, double)} instead.
+ * </p>
+ */
+public class ActorSprite extends ImageView {
+
+    private static final String IMAGE_LOCATION = "/com/example/demo/images/";
+
+    private ActiveActor actor;
+    private double originX = Double.NaN;
+    private double originY = Double.NaN;
+    private double translateX;
+    private double translateY;
+
+    /**
+     * Constructs a new ActorSprite for actors drawn with the specified image.
+     * The image is shared through the {@link AssetManager} and decoded at the height it is displayed with.
+     *
+     * @param imageName   the name of the image file (e.g., "enemyplane.png")
+     * @param imageHeight the height the image is displayed with (in pixels)
+     */
+    public ActorSprite(String imageName, double imageHeight) {
+        this.setImage(loadImage(imageName, imageHeight));
+        this.setFitHeight(imageHeight);
+        this.setPreserveRatio(true);
+    }
+
+    /**
+     * Gets a sprite image from the {@link AssetManager}, decoded at the height it is displayed with.
+     *
+     * @param imageName   the name of the image file
+     * @param imageHeight the display height (in pixels)
+     * @return the shared image
+     */
+    static Image loadImage(String imageName, double imageHeight) {
+        return AssetManager.getInstance().getImage(IMAGE_LOCATION + imageName, 0, imageHeight);
+    }
+
+    /**
+     * Binds the sprite to an actor and moves it to the actor's current position.
+     *
+     * @param actor the actor to draw
+     */
+    public void bind(ActiveActor actor) {
+        this.actor = actor;
+        sync(1.0);
+    }
+
+    /**
+     * Releases the sprite from its actor so it can be reused.
+     */
+    public void unbind() {
+        this.actor = null;
+    }
+
+    /**
+     * Gets the actor this sprite currently draws.
+     *
+     * @return the bound actor, or null if the sprite is idle
+     */
+    public ActiveActor getActor() {
+        return actor;
+    }
+
+    /**
+     * Places the sprite at an absolute position, for sprites that draw an entity rather than an actor.
+     *
+     * @param x the x position of the sprite's top left corner
+     * @param y the y position of the sprite's top left corner
+     */
+    public void moveTo(double x, double y) {
+        if (originX != 0 || originY != 0) {
+            originX = 0;
+            originY = 0;
+            setLayoutX(0);
+            setLayoutY(0);
+        }
+        if (x != translateX) {
+            translateX = x;
+            setTranslateX(x);
+        }
+        if (y != translateY) {
+            translateY = y;
+            setTranslateY(y);
+        }
+    }
+
+    /**
+     * Copies the actor's position to the node, interpolated between the previous and the current step.
+     * The sprite is hidden while its actor is off screen, such as an enemy that has not flown in yet.
+     *
+     * @param alpha how far the frame is between the previous and the current step, from 0.0 to 1.0
+     */
+    public void sync(double alpha) {
+        if (actor.isOnScreen() != isVisible()) {
+            setVisible(actor.isOnScreen());
+        }
+        if (actor.getOriginX() != originX || actor.getOriginY() != originY) {
+            originX = actor.getOriginX();
+            originY = actor.getOriginY();
+            setLayoutX(originX);
+            setLayoutY(originY);
+        }
+        double newTranslateX = actor.getInterpolatedOffsetX(alpha);
+        double newTranslateY = actor.getInterpolatedOffsetY(alpha);
+        if (newTranslateX != translateX) {
+            translateX = newTranslateX;
+            setTranslateX(newTranslateX);
+        }
+        if (newTranslateY != translateY) {
+            translateY = newTranslateY;
+            setTranslateY(newTranslateY);
+        }
+    }
+}
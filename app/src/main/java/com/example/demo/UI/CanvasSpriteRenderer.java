@@ -0,0 +1,132 @@
+package com.example.demo.UI;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.example.demo.UI.SceneLayers.Layer;
+import com.example.demo.characters.ActiveActorDestructible;
+import com.example.demo.ecs.Archetype;
+import com.example.demo.simulation.Faction;
+import com.example.demo.simulation.LevelSimulation;
+import com.example.demo.simulation.ProjectileType;
+
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+
+/**
+ * The CanvasSpriteRenderer class draws every plane and projectile into a single {@link Canvas}.
+ * <p>
+ * Actors stay plain data: nothing is created when they enter or leave the world. Every frame the canvas is
+ * cleared and each plane and projectile is drawn with {@link GraphicsContext#drawImage(Image, double, double)}
+ * from one shared image per image name, already decoded at its display size. The scene graph then holds one node
+ * however many actors there are, so it does no CSS, bounds or dirty region work per actor. Sprites are drawn in
+ * the order of the node layers: the user, the enemies, enemy projectiles and user projectiles.
+ * </p>
+ */
+public class CanvasSpriteRenderer implements SpriteRenderer {
+
+    private final LevelSimulation simulation;
+    private final Canvas canvas;
+    private final GraphicsContext graphics;
+    private final Map<String, Image> actorImages;
+    private final Image[] projectileImages;
+
+    /**
+     * Constructs a renderer drawing into a canvas the size of the screen, added to the user layer.
+     *
+     * @param simulation the simulation to draw
+     * @param layers     the layers of the level's scene
+     */
+    public CanvasSpriteRenderer(LevelSimulation simulation, SceneLayers layers) {
+        this.simulation = simulation;
+        this.canvas = new Canvas(simulation.getScreenWidth(), simulation.getScreenHeight());
+        this.canvas.setMouseTransparent(true);
+        this.graphics = canvas.getGraphicsContext2D();
+        this.actorImages = new HashMap<>();
+        ProjectileType[] types = ProjectileType.values();
+        this.projectileImages = new Image[types.length];
+        for (ProjectileType type : types) {
+            projectileImages[type.ordinal()] = ActorSprite.loadImage(type.getImageName(), type.getHeight());
+        }
+        layers.getGroup(Layer.USER).getChildren().add(canvas);
+    }
+
+    /**
+     * Clears the canvas and draws every plane and projectile at its interpolated position.
+     *
+     * @param alpha how far the frame is between the previous and the current step, from 0.0 to 1.0
+     */
+    @Override
+    public void render(double alpha) {
+        graphics.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        drawActors(simulation.getFriendlyUnits(), alpha);
+        drawActors(simulation.getEnemyUnits(), alpha);
+        drawProjectiles(Faction.ENEMY, alpha);
+        drawProjectiles(Faction.FRIENDLY, alpha);
+    }
+
+    /**
+     * Drops the images of the actors. The canvas leaves the scene with its layer.
+     */
+    @Override
+    public void dispose() {
+        actorImages.clear();
+    }
+
+    @Override
+    public Mode getMode() {
+        return Mode.CANVAS;
+    }
+
+    /**
+     * Loads the image of an actor that entered the world, so drawing it never decodes an image.
+     *
+     * @param actor the added actor
+     */
+    @Override
+    public void actorAdded(ActiveActorDestructible actor) {
+        actorImages.computeIfAbsent(actor.getImageName(), name -> ActorSprite.loadImage(name, actor.getHeight()));
+    }
+
+    /**
+     * Draws the specified actors that are on screen.
+     *
+     * @param actors the actors to draw
+     * @param alpha  how far the frame is between the previous and the current step
+     */
+    private void drawActors(List<ActiveActorDestructible> actors, double alpha) {
+        for (int i = 0; i < actors.size(); i++) {
+            ActiveActorDestructible actor = actors.get(i);
+            Image image = actorImages.get(actor.getImageName());
+            if (image != null && actor.isOnScreen()) {
+                graphics.drawImage(image, actor.getOriginX() + actor.getInterpolatedOffsetX(alpha),
+                        actor.getOriginY() + actor.getInterpolatedOffsetY(alpha));
+            }
+        }
+    }
+
+    /**
+     * Draws the projectiles fired by one side.
+     *
+     * @param faction the side whose projectiles are drawn
+     * @param alpha   how far the frame is between the previous and the current step
+     */
+    private void drawProjectiles(Faction faction, double alpha) {
+        Archetype projectiles = simulation.getProjectiles().getArchetype();
+        int[] factions = projectiles.getFaction();
+        int[] kind = projectiles.getKind();
+        double[] x = projectiles.getPositionX();
+        double[] y = projectiles.getPositionY();
+        double[] previousX = projectiles.getPreviousX();
+        double[] previousY = projectiles.getPreviousY();
+        for (int row = 0; row < projectiles.size(); row++) {
+            if (factions[row] == faction.ordinal()) {
+                graphics.drawImage(projectileImages[kind[row]],
+                        previousX[row] + (x[row] - previousX[row]) * alpha,
+                        previousY[row] + (y[row] - previousY[row]) * alpha);
+            }
+        }
+    }
+}
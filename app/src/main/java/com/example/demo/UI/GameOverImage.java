@@ -1,6 +1,7 @@
 package com.example.demo.UI;
 
-import javafx.scene.image.Image;
+import com.example.demo.manager.AssetManager;
+
 import javafx.scene.image.ImageView;
 
 /**
@@ -18,7 +19,7 @@ public class GameOverImage extends ImageView {
      * @param yPosition the y position of the game over image
      */
 	public GameOverImage(double xPosition, double yPosition) {
-		setImage(new Image(getClass().getResource(IMAGE_NAME).toExternalForm()) );
+		setImage(AssetManager.getInstance().getImage(IMAGE_NAME));
 		setLayoutX(xPosition);
 		setLayoutY(yPosition);
 	}
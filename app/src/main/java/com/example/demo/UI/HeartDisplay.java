@@ -1,5 +1,7 @@
 package com.example.demo.UI;
 
+import com.example.demo.manager.AssetManager;
+
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
@@ -16,7 +18,7 @@ public class HeartDisplay {
     private static final int REMOVE_INDEX = 0;   // Always remove the first item
 
     private HBox container;
-    private int numberOfHeartsToDisplay;
+    private int numberOfHeartsToDisplay;  // Kept in step with the container, so it is never counted
     private Image heartImage; // Cache the image to avoid reloading it each time
 
     /**
@@ -49,8 +51,8 @@ public class HeartDisplay {
      * Loads the heart image to be used in the heart display.
      */
     private void loadHeartImage() {
-        // Load the heart image once, for reuse
-        heartImage = new Image(getClass().getResource(HEART_IMAGE_NAME).toExternalForm());
+        // Load the heart image once, at the height it is displayed with, shared by every level
+        heartImage = AssetManager.getInstance().getImage(HEART_IMAGE_NAME, 0, HEART_HEIGHT);
     }
 
     /**
@@ -70,11 +72,21 @@ public class HeartDisplay {
      * Always removes the first heart in the container.
      */
     public void removeHeart() {
-        if (!container.getChildren().isEmpty()) {
+        if (numberOfHeartsToDisplay > 0) {
             container.getChildren().remove(REMOVE_INDEX);  // Always remove the first item
+            numberOfHeartsToDisplay--;
         }
     }
 
+    /**
+     * Gets the number of hearts displayed.
+     *
+     * @return the number of hearts
+     */
+    public int getNumberOfHearts() {
+        return numberOfHeartsToDisplay;
+    }
+
     /**
      * Gets the container for the heart display.
      *
@@ -0,0 +1,225 @@
+package com.example.demo.UI;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.example.demo.UI.SceneLayers.Layer;
+import com.example.demo.characters.ActiveActor;
+import com.example.demo.characters.ActiveActorDestructible;
+import com.example.demo.ecs.Archetype;
+import com.example.demo.ecs.Entity;
+import com.example.demo.simulation.Faction;
+import com.example.demo.simulation.LevelSimulation;
+import com.example.demo.simulation.ProjectileType;
+
+/**
+ * The NodeSpriteRenderer class draws every plane and projectile with its own {@link ActorSprite} node.
+ * <p>
+ * A sprite is created for every actor that enters the world and moved to the actor's position once per rendered
+ * frame. Sprites of removed actors are kept per image and reused for the next actor drawn with the same image.
+ * Projectiles are entities rather than actors; their sprites are indexed by entity slot and placed by reading
+ * the projectile rows directly. Sprites entering or leaving during a step are queued on their layer and the
+ * queues are flushed at the next frame, so the scene graph sees one bulk change per layer.
+ * </p>
+ */
+public class NodeSpriteRenderer implements SpriteRenderer {
+
+    private final LevelSimulation simulation;
+    private final SceneLayers layers;
+    private final List<ActorSprite> sprites;
+    private final Map<ActiveActor, ActorSprite> spritesByActor;
+    private final Map<String, Deque<ActorSprite>> idleSprites;
+    private ActorSprite[] projectileSprites;
+
+    /**
+     * Constructs a renderer adding its sprites to the specified layers.
+     *
+     * @param simulation the simulation to draw
+     * @param layers     the layers of the level's scene
+     */
+    public NodeSpriteRenderer(LevelSimulation simulation, SceneLayers layers) {
+        this.simulation = simulation;
+        this.layers = layers;
+        this.sprites = new ArrayList<>();
+        this.spritesByActor = new IdentityHashMap<>();
+        this.idleSprites = new HashMap<>();
+        this.projectileSprites = new ActorSprite[64];
+    }
+
+    /**
+     * Applies the queued sprite changes and moves every sprite to its interpolated position.
+     *
+     * @param alpha how far the frame is between the previous and the current step, from 0.0 to 1.0
+     */
+    @Override
+    public void render(double alpha) {
+        layers.flush();
+        for (int i = 0; i < sprites.size(); i++) {
+            sprites.get(i).sync(alpha);
+        }
+        renderProjectiles(alpha);
+    }
+
+    /**
+     * Unbinds every sprite from its actor and drops the sprites, including the idle ones.
+     */
+    @Override
+    public void dispose() {
+        for (int i = 0; i < sprites.size(); i++) {
+            sprites.get(i).unbind();
+        }
+        sprites.clear();
+        spritesByActor.clear();
+        idleSprites.clear();
+        Arrays.fill(projectileSprites, null);
+    }
+
+    @Override
+    public Mode getMode() {
+        return Mode.NODES;
+    }
+
+    /**
+     * Gets the sprite drawing the specified actor.
+     *
+     * @param actor the actor
+     * @return the actor's sprite, or null if the actor is not in the scene
+     */
+    public ActorSprite getSprite(ActiveActor actor) {
+        return spritesByActor.get(actor);
+    }
+
+    /**
+     * Creates or reuses a sprite for an actor that entered the world and queues it for the scene.
+     * The user plane is drawn on the user layer, every other actor on the enemy layer.
+     *
+     * @param actor the added actor
+     */
+    @Override
+    public void actorAdded(ActiveActorDestructible actor) {
+        Deque<ActorSprite> idle = idleSprites.get(actor.getImageName());
+        ActorSprite sprite = idle != null ? idle.pollFirst() : null;
+        if (sprite == null) {
+            sprite = new ActorSprite(actor.getImageName(), actor.getHeight());
+        }
+        sprite.bind(actor);
+        sprites.add(sprite);
+        spritesByActor.put(actor, sprite);
+        layers.add(actorLayer(actor), sprite);
+    }
+
+    /**
+     * Removes the sprite of an actor that left the world and keeps it for reuse.
+     *
+     * @param actor the removed actor
+     */
+    @Override
+    public void actorRemoved(ActiveActorDestructible actor) {
+        ActorSprite sprite = spritesByActor.remove(actor);
+        if (sprite == null) {
+            return;
+        }
+        layers.remove(actorLayer(actor), sprite);
+        sprites.remove(sprite);
+        sprite.unbind();
+        idleSprites.computeIfAbsent(actor.getImageName(), name -> new ArrayDeque<>()).addFirst(sprite);
+    }
+
+    /**
+     * Creates or reuses a sprite for a projectile that entered the world and queues it for the scene.
+     *
+     * @param handle the entity handle of the projectile
+     */
+    @Override
+    public void projectileAdded(int handle) {
+        ProjectileType type = projectileType(handle);
+        Deque<ActorSprite> idle = idleSprites.get(type.getImageName());
+        ActorSprite sprite = idle != null ? idle.pollFirst() : null;
+        if (sprite == null) {
+            sprite = new ActorSprite(type.getImageName(), type.getHeight());
+        }
+        int index = Entity.index(handle);
+        if (index >= projectileSprites.length) {
+            projectileSprites = Arrays.copyOf(projectileSprites, Math.max(index + 1, projectileSprites.length * 2));
+        }
+        projectileSprites[index] = sprite;
+        Archetype projectiles = simulation.getProjectiles().getArchetype();
+        int row = simulation.getProjectiles().getWorld().getRow(handle);
+        sprite.moveTo(projectiles.getPositionX()[row], projectiles.getPositionY()[row]);
+        layers.add(projectileLayer(type), sprite);
+    }
+
+    /**
+     * Removes the sprite of a projectile that left the world and keeps it for reuse.
+     *
+     * @param handle the entity handle of the projectile
+     */
+    @Override
+    public void projectileRemoved(int handle) {
+        int index = Entity.index(handle);
+        ActorSprite sprite = projectileSprites[index];
+        if (sprite == null) {
+            return;
+        }
+        projectileSprites[index] = null;
+        ProjectileType type = projectileType(handle);
+        layers.remove(projectileLayer(type), sprite);
+        idleSprites.computeIfAbsent(type.getImageName(), name -> new ArrayDeque<>()).addFirst(sprite);
+    }
+
+    /**
+     * Moves every projectile sprite to its projectile's position, interpolated between the last two steps.
+     *
+     * @param alpha how far the frame is between the previous and the current step, from 0.0 to 1.0
+     */
+    protected void renderProjectiles(double alpha) {
+        Archetype projectiles = simulation.getProjectiles().getArchetype();
+        int[] entities = projectiles.getEntities();
+        double[] x = projectiles.getPositionX();
+        double[] y = projectiles.getPositionY();
+        double[] previousX = projectiles.getPreviousX();
+        double[] previousY = projectiles.getPreviousY();
+        for (int row = 0; row < projectiles.size(); row++) {
+            ActorSprite sprite = projectileSprites[Entity.index(entities[row])];
+            sprite.moveTo(previousX[row] + (x[row] - previousX[row]) * alpha,
+                    previousY[row] + (y[row] - previousY[row]) * alpha);
+        }
+    }
+
+    /**
+     * Gets the type of a living projectile.
+     *
+     * @param handle the entity handle of the projectile
+     * @return the projectile's type
+     */
+    private ProjectileType projectileType(int handle) {
+        int row = simulation.getProjectiles().getWorld().getRow(handle);
+        return ProjectileType.of(simulation.getProjectiles().getArchetype().getKind()[row]);
+    }
+
+    /**
+     * Gets the layer an actor is drawn on.
+     *
+     * @param actor the actor
+     * @return the user layer for the user plane, the enemy layer otherwise
+     */
+    private Layer actorLayer(ActiveActorDestructible actor) {
+        return actor == simulation.getUser() ? Layer.USER : Layer.ENEMIES;
+    }
+
+    /**
+     * Gets the layer a projectile is drawn on.
+     *
+     * @param type the type of the projectile
+     * @return the projectile layer of the projectile's faction
+     */
+    private static Layer projectileLayer(ProjectileType type) {
+        return type.getFaction() == Faction.FRIENDLY ? Layer.USER_PROJECTILES : Layer.ENEMY_PROJECTILES;
+    }
+}
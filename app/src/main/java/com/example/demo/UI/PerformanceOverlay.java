@@ -0,0 +1,223 @@
+package com.example.demo.UI;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import com.example.demo.ecs.Archetype;
+import com.example.demo.ecs.EntityWorld;
+import com.example.demo.simulation.Faction;
+import com.example.demo.simulation.LatencyHistogram;
+import com.example.demo.simulation.LevelSimulation;
+
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.Text;
+
+/**
+ * The PerformanceOverlay class shows live performance figures of a level on top of the game.
+ * <p>
+ * It shows ticks and frames per second, the last and the 99th percentile tick time, the render mode with the last
+ * and the 99th percentile time spent drawing sprites, the 99th percentile and the longest wait of a key between its
+ * event and the step that applied it since the level started, the number of actors and projectiles with the peak,
+ * capacity, growths and slot reuse rate of the projectile storage, the number of nodes in the scene, the heap in
+ * use, and the garbage collections since the level started. Ticks and frames are only counted while the overlay is
+ * visible, and the text is rebuilt four times a second into a reused buffer, so a hidden overlay costs nothing and
+ * a visible one allocates no string per tick.
+ * </p>
+ */
+public class PerformanceOverlay extends Text {
+
+    private static final long REFRESH_NANOS = 250_000_000L;  // 4 Hz
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final long BYTES_PER_MEGABYTE = 1024 * 1024;
+
+    private final LevelSimulation simulation;
+    private final SceneLayers layers;
+    private final List<GarbageCollectorMXBean> garbageCollectors;
+    private final long initialGcCount;
+    private final long initialGcMillis;
+    private final SpriteRenderer.Mode renderMode;
+    private final LatencyHistogram tickNanos;
+    private final LatencyHistogram renderNanos;
+    private final StringBuilder buffer;
+
+    private long windowStart;
+    private int windowTicks;
+    private int windowFrames;
+    private long lastTickNanos;
+    private long lastRenderNanos;
+
+    /**
+     * Constructs a hidden overlay for the specified level.
+     *
+     * @param simulation the simulation of the level
+     * @param layers     the layers of the level's scene, whose nodes are counted
+     * @param renderMode the way the level draws its sprites
+     */
+    public PerformanceOverlay(LevelSimulation simulation, SceneLayers layers, SpriteRenderer.Mode renderMode) {
+        this.simulation = simulation;
+        this.layers = layers;
+        this.garbageCollectors = ManagementFactory.getGarbageCollectorMXBeans();
+        this.initialGcCount = totalGcCount();
+        this.initialGcMillis = totalGcMillis();
+        this.renderMode = renderMode;
+        this.tickNanos = new LatencyHistogram();
+        this.renderNanos = new LatencyHistogram();
+        this.buffer = new StringBuilder(256);
+
+        setFont(Font.font("Monospaced", FontWeight.BOLD, 12));
+        setFill(Color.DARKRED);
+        setTranslateX(10);
+        setTranslateY(130);
+        setVisible(false);
+        setMouseTransparent(true);
+    }
+
+    /**
+     * Shows or hides the overlay. Figures restart from zero every time it is shown.
+     */
+    public void toggle() {
+        setVisible(!isVisible());
+        windowStart = 0;
+        windowTicks = 0;
+        windowFrames = 0;
+        tickNanos.reset();
+        renderNanos.reset();
+    }
+
+    /**
+     * Records the duration of a simulation step.
+     *
+     * @param nanos the duration in nanoseconds
+     */
+    public void recordTick(long nanos) {
+        if (!isVisible()) {
+            return;
+        }
+        lastTickNanos = nanos;
+        tickNanos.record(nanos);
+        windowTicks++;
+    }
+
+    /**
+     * Records the time spent drawing the sprites of a frame.
+     *
+     * @param nanos the duration in nanoseconds
+     */
+    public void recordRender(long nanos) {
+        if (!isVisible()) {
+            return;
+        }
+        lastRenderNanos = nanos;
+        renderNanos.record(nanos);
+    }
+
+    /**
+     * Counts a rendered frame and refreshes the text when the refresh interval has elapsed.
+     *
+     * @param now the current time in nanoseconds
+     */
+    public void frameRendered(long now) {
+        if (!isVisible()) {
+            return;
+        }
+        windowFrames++;
+        if (windowStart == 0) {
+            windowStart = now;
+            return;
+        }
+        long elapsed = now - windowStart;
+        if (elapsed >= REFRESH_NANOS) {
+            refresh(elapsed);
+            windowStart = now;
+            windowTicks = 0;
+            windowFrames = 0;
+            tickNanos.reset();
+            renderNanos.reset();
+        }
+    }
+
+    /**
+     * Rebuilds the text from the figures of the elapsed window.
+     *
+     * @param elapsed the length of the window in nanoseconds
+     */
+    private void refresh(long elapsed) {
+        Runtime runtime = Runtime.getRuntime();
+        long heapUsed = runtime.totalMemory() - runtime.freeMemory();
+
+        buffer.setLength(0);
+        buffer.append("TPS ").append(windowTicks * NANOS_PER_SECOND / elapsed)
+                .append("  FPS ").append(windowFrames * NANOS_PER_SECOND / elapsed).append('\n');
+        buffer.append("tick ");
+        appendMillis(lastTickNanos);
+        buffer.append(" ms  p99 ");
+        appendMillis(tickNanos.getValueAtPercentile(99));
+        buffer.append(" ms\n");
+        buffer.append("render ").append(renderMode).append(' ');
+        appendMillis(lastRenderNanos);
+        buffer.append(" ms  p99 ");
+        appendMillis(renderNanos.getValueAtPercentile(99));
+        buffer.append(" ms\n");
+        LatencyHistogram inputNanos = simulation.getInputQueue().getLatencyNanos();
+        buffer.append("input p99 ");
+        appendMillis(inputNanos.getValueAtPercentile(99));
+        buffer.append(" ms  max ");
+        appendMillis(inputNanos.getMax());
+        buffer.append(" ms\n");
+        buffer.append("friendly ").append(simulation.getFriendlyUnits().size())
+                .append("  enemy ").append(simulation.getEnemyUnits().size()).append('\n');
+        buffer.append("shots ").append(simulation.getProjectiles().count(Faction.FRIENDLY))
+                .append("  enemy shots ").append(simulation.getProjectiles().count(Faction.ENEMY)).append('\n');
+        EntityWorld world = simulation.getProjectiles().getWorld();
+        Archetype projectiles = simulation.getProjectiles().getArchetype();
+        buffer.append("shot rows peak ").append(projectiles.getPeakSize())
+                .append('/').append(projectiles.getCapacity())
+                .append("  grows ").append(projectiles.getGrowthCount())
+                .append("  reuse ").append(Math.round(world.getReuseRate() * 100)).append("%\n");
+        buffer.append("nodes ").append(layers.getNodeCount()).append('\n');
+        buffer.append("heap ").append(heapUsed / BYTES_PER_MEGABYTE)
+                .append('/').append(runtime.maxMemory() / BYTES_PER_MEGABYTE).append(" MB\n");
+        buffer.append("GC ").append(totalGcCount() - initialGcCount)
+                .append(" (").append(totalGcMillis() - initialGcMillis).append(" ms)");
+        setText(buffer.toString());
+    }
+
+    /**
+     * Appends a duration in milliseconds with one decimal.
+     *
+     * @param nanos the duration in nanoseconds
+     */
+    private void appendMillis(long nanos) {
+        long tenths = (nanos + 50_000) / 100_000;
+        buffer.append(tenths / 10).append('.').append(tenths % 10);
+    }
+
+    /**
+     * Sums the collections of every garbage collector.
+     *
+     * @return the number of collections since the JVM started
+     */
+    private long totalGcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean collector : garbageCollectors) {
+            count += Math.max(0, collector.getCollectionCount());
+        }
+        return count;
+    }
+
+    /**
+     * Sums the time spent in every garbage collector.
+     *
+     * @return the collection time in milliseconds since the JVM started
+     */
+    private long totalGcMillis() {
+        long millis = 0;
+        for (GarbageCollectorMXBean collector : garbageCollectors) {
+            millis += Math.max(0, collector.getCollectionTime());
+        }
+        return millis;
+    }
+}
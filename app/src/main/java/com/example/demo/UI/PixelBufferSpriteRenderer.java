@@ -0,0 +1,137 @@
+package com.example.demo.UI;
+
+import java.nio.IntBuffer;
+
+import com.example.demo.UI.SceneLayers.Layer;
+import com.example.demo.ecs.Archetype;
+import com.example.demo.render.PixelSurface;
+import com.example.demo.render.SpriteBitmap;
+import com.example.demo.simulation.Faction;
+import com.example.demo.simulation.LevelSimulation;
+import com.example.demo.simulation.ProjectileType;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelBuffer;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+
+/**
+ * The PixelBufferSpriteRenderer class draws planes as nodes, like its parent, and every projectile in software.
+ * <p>
+ * The projectile images are converted once to premultiplied {@link SpriteBitmap}s and blitted each frame onto a
+ * screen-sized {@link PixelSurface}. The surface's direct buffer backs a {@link PixelBuffer} shown by a single
+ * {@link ImageView} in the user projectile layer, so projectiles cost neither nodes nor canvas commands, and the
+ * frame is handed to JavaFX with one {@link PixelBuffer#updateBuffer} call covering only the changed region.
+ * Enemy projectiles are blitted before user projectiles, as the layers would draw them.
+ * </p>
+ */
+public class PixelBufferSpriteRenderer extends NodeSpriteRenderer {
+
+    private final LevelSimulation simulation;
+    private final PixelSurface surface;
+    private final PixelBuffer<IntBuffer> pixelBuffer;
+    private final SpriteBitmap[] projectileBitmaps;
+
+    /**
+     * Constructs a renderer adding its plane sprites and its projectile image to the specified layers.
+     *
+     * @param simulation the simulation to draw
+     * @param layers     the layers of the level's scene
+     */
+    public PixelBufferSpriteRenderer(LevelSimulation simulation, SceneLayers layers) {
+        super(simulation, layers);
+        this.simulation = simulation;
+        this.surface = new PixelSurface((int) Math.ceil(simulation.getScreenWidth()),
+                (int) Math.ceil(simulation.getScreenHeight()));
+        this.pixelBuffer = new PixelBuffer<>(surface.getWidth(), surface.getHeight(), surface.getPixels(),
+                PixelFormat.getIntArgbPreInstance());
+        ProjectileType[] types = ProjectileType.values();
+        this.projectileBitmaps = new SpriteBitmap[types.length];
+        for (ProjectileType type : types) {
+            projectileBitmaps[type.ordinal()] = toBitmap(ActorSprite.loadImage(type.getImageName(), type.getHeight()));
+        }
+        ImageView view = new ImageView(new WritableImage(pixelBuffer));
+        view.setMouseTransparent(true);
+        layers.getGroup(Layer.USER_PROJECTILES).getChildren().add(view);
+    }
+
+    @Override
+    public Mode getMode() {
+        return Mode.PIXEL_BUFFER;
+    }
+
+    /**
+     * Does nothing: projectiles have no node.
+     *
+     * @param handle the entity handle of the projectile
+     */
+    @Override
+    public void projectileAdded(int handle) {
+    }
+
+    /**
+     * Does nothing: projectiles have no node.
+     *
+     * @param handle the entity handle of the projectile
+     */
+    @Override
+    public void projectileRemoved(int handle) {
+    }
+
+    /**
+     * Clears the previous frame's projectiles, blits every projectile at its interpolated position and uploads the
+     * changed region.
+     *
+     * @param alpha how far the frame is between the previous and the current step, from 0.0 to 1.0
+     */
+    @Override
+    protected void renderProjectiles(double alpha) {
+        surface.beginFrame();
+        blitProjectiles(Faction.ENEMY, alpha);
+        blitProjectiles(Faction.FRIENDLY, alpha);
+        if (surface.isChanged()) {
+            pixelBuffer.updateBuffer(buffer -> new Rectangle2D(surface.getChangedMinX(), surface.getChangedMinY(),
+                    surface.getChangedMaxX() - surface.getChangedMinX(),
+                    surface.getChangedMaxY() - surface.getChangedMinY()));
+        }
+    }
+
+    /**
+     * Blits the projectiles fired by one side.
+     *
+     * @param faction the side whose projectiles are drawn
+     * @param alpha   how far the frame is between the previous and the current step
+     */
+    private void blitProjectiles(Faction faction, double alpha) {
+        Archetype projectiles = simulation.getProjectiles().getArchetype();
+        int[] factions = projectiles.getFaction();
+        int[] kind = projectiles.getKind();
+        double[] x = projectiles.getPositionX();
+        double[] y = projectiles.getPositionY();
+        double[] previousX = projectiles.getPreviousX();
+        double[] previousY = projectiles.getPreviousY();
+        for (int row = 0; row < projectiles.size(); row++) {
+            if (factions[row] == faction.ordinal()) {
+                surface.blit(projectileBitmaps[kind[row]],
+                        (int) Math.round(previousX[row] + (x[row] - previousX[row]) * alpha),
+                        (int) Math.round(previousY[row] + (y[row] - previousY[row]) * alpha));
+            }
+        }
+    }
+
+    /**
+     * Converts a decoded image to a premultiplied bitmap.
+     *
+     * @param image the image
+     * @return the bitmap
+     */
+    private static SpriteBitmap toBitmap(Image image) {
+        int width = (int) image.getWidth();
+        int height = (int) image.getHeight();
+        int[] argb = new int[width * height];
+        image.getPixelReader().getPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(), argb, 0, width);
+        return SpriteBitmap.fromArgb(width, height, argb);
+    }
+}
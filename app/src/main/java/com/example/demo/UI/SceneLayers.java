@@ -0,0 +1,153 @@
+package com.example.demo.UI;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import javafx.scene.Group;
+import javafx.scene.Node;
+
+/**
+ * The SceneLayers class splits the scene of a level into one {@link Group} per {@link Layer}, drawn in layer order.
+ * <p>
+ * Layers are unmanaged and do not resize their children, so adding a node never asks the scene for a layout pass.
+ * Nodes that come and go with the simulation, such as sprites, are queued with {@link #add(Layer, Node)} and
+ * {@link #remove(Layer, Node)} and reach the scene graph at the next {@link #flush()}: every layer then gets at
+ * most one bulk removal and one bulk addition, each firing a single change. A removal is one pass over the
+ * layer however many nodes leave it, and a node removed and added again before the flush, as a reused sprite
+ * is, never leaves the scene at all. Static nodes such as the HUD can be added to a layer's group directly.
+ * </p>
+ */
+public class SceneLayers {
+
+    /**
+     * The layers of a level's scene, from back to front.
+     */
+    public enum Layer {
+        BACKGROUND,
+        USER,
+        ENEMIES,
+        ENEMY_PROJECTILES,
+        USER_PROJECTILES,
+        EFFECTS,
+        HUD
+    }
+
+    private static final Layer[] LAYERS = Layer.values();
+
+    private final Group root;
+    private final Group[] groups;
+    private final List<List<Node>> pendingAdditions;
+    private final List<Set<Node>> pendingRemovals;
+
+    /**
+     * Constructs the layers and adds them to the specified root.
+     *
+     * @param root the root group of the scene
+     */
+    public SceneLayers(Group root) {
+        this.root = root;
+        this.groups = new Group[LAYERS.length];
+        this.pendingAdditions = new ArrayList<>(LAYERS.length);
+        this.pendingRemovals = new ArrayList<>(LAYERS.length);
+        for (Layer layer : LAYERS) {
+            Group group = new Group();
+            group.setManaged(false);
+            group.setAutoSizeChildren(false);
+            groups[layer.ordinal()] = group;
+            pendingAdditions.add(new ArrayList<>());
+            pendingRemovals.add(Collections.newSetFromMap(new IdentityHashMap<>()));
+        }
+        root.setAutoSizeChildren(false);
+        root.getChildren().setAll(groups);
+    }
+
+    /**
+     * Gets the group of a layer, to add static nodes to it directly.
+     *
+     * @param layer the layer
+     * @return the layer's group
+     */
+    public Group getGroup(Layer layer) {
+        return groups[layer.ordinal()];
+    }
+
+    /**
+     * Queues a node to be added to a layer at the next flush.
+     *
+     * @param layer the layer
+     * @param node  the node, which is not in the layer or is queued for removal from it
+     */
+    public void add(Layer layer, Node node) {
+        if (!pendingRemovals.get(layer.ordinal()).remove(node)) {
+            pendingAdditions.get(layer.ordinal()).add(node);
+        }
+    }
+
+    /**
+     * Queues a node to be removed from a layer at the next flush.
+     *
+     * @param layer the layer
+     * @param node  the node, which is in the layer or is queued to be added to it
+     */
+    public void remove(Layer layer, Node node) {
+        if (!pendingAdditions.get(layer.ordinal()).remove(node)) {
+            pendingRemovals.get(layer.ordinal()).add(node);
+        }
+    }
+
+    /**
+     * Applies the queued changes, removals first, as one bulk change per layer and kind of change.
+     */
+    public void flush() {
+        for (Layer layer : LAYERS) {
+            Set<Node> removals = pendingRemovals.get(layer.ordinal());
+            if (!removals.isEmpty()) {
+                groups[layer.ordinal()].getChildren().removeAll(removals);
+                removals.clear();
+            }
+        }
+        for (Layer layer : LAYERS) {
+            List<Node> additions = pendingAdditions.get(layer.ordinal());
+            if (!additions.isEmpty()) {
+                groups[layer.ordinal()].getChildren().addAll(additions);
+                additions.clear();
+            }
+        }
+    }
+
+    /**
+     * Drops the queued changes and removes every node from the layers.
+     */
+    public void clear() {
+        for (Layer layer : LAYERS) {
+            pendingAdditions.get(layer.ordinal()).clear();
+            pendingRemovals.get(layer.ordinal()).clear();
+            groups[layer.ordinal()].getChildren().clear();
+        }
+    }
+
+    /**
+     * Counts the nodes in every layer, not counting queued changes.
+     *
+     * @return the number of nodes in the layers
+     */
+    public int getNodeCount() {
+        int count = 0;
+        for (Group group : groups) {
+            count += group.getChildren().size();
+        }
+        return count;
+    }
+
+    /**
+     * Gets the root group holding the layers.
+     *
+     * @return the root group
+     */
+    public Group getRoot() {
+        return root;
+    }
+}
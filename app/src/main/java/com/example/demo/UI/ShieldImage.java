@@ -1,5 +1,7 @@
 package com.example.demo.UI;
 
+import com.example.demo.manager.AssetManager;
+
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 
@@ -28,19 +30,20 @@ public class ShieldImage extends ImageView {
     public ShieldImage(double xPosition, double yPosition, int size) {
         this.setLayoutX(xPosition);
         this.setLayoutY(yPosition);
-        this.setImage(loadShieldImage());
+        this.setImage(loadShieldImage(size));
         this.setVisible(false);
         this.setFitHeight(size);
         this.setFitWidth(size);
     }
 
     /**
-     * Loads the shield image, ensuring the image is found.
+     * Loads the shield image at its display size, ensuring the image is found.
      * 
+     * @param size The size the shield is displayed with.
      * @return the loaded image
      */
-    private Image loadShieldImage() {
-        Image shieldImage = new Image(getClass().getResource(IMAGE_NAME).toExternalForm());
+    private Image loadShieldImage(int size) {
+        Image shieldImage = AssetManager.getInstance().getImage(IMAGE_NAME, size, size);
         if (shieldImage.isError()) {
             throw new RuntimeException("Shield image not found at " + IMAGE_NAME);
         }
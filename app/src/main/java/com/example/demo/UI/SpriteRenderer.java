@@ -0,0 +1,62 @@
+package com.example.demo.UI;
+
+import com.example.demo.simulation.LevelSimulation;
+import com.example.demo.simulation.SimulationListener;
+
+/**
+ * The SpriteRenderer interface draws the planes and projectiles of a {@link LevelSimulation}.
+ * <p>
+ * A renderer follows the simulation as a {@link SimulationListener} and draws the interpolated state of the
+ * world once per rendered frame. HUD elements are not drawn by the renderer; they stay nodes of their layer.
+ * The renderer of a level is chosen at startup with the {@code game.render.mode} system property.
+ * </p>
+ */
+public interface SpriteRenderer extends SimulationListener {
+
+    /**
+     * The available ways of drawing sprites.
+     */
+    enum Mode {
+        /** One {@link ActorSprite} node per plane and projectile. */
+        NODES,
+        /** Every plane and projectile drawn into a single canvas. */
+        CANVAS,
+        /** Planes as nodes, projectiles blitted in software into a single pixel buffer. */
+        PIXEL_BUFFER
+    }
+
+    /**
+     * Draws the world, interpolated between the previous and the current step.
+     *
+     * @param alpha how far the frame is between the previous and the current step, from 0.0 to 1.0
+     */
+    void render(double alpha);
+
+    /**
+     * Releases every sprite and image held by the renderer, once its level is disposed.
+     */
+    void dispose();
+
+    /**
+     * Gets the way this renderer draws sprites.
+     *
+     * @return the render mode
+     */
+    Mode getMode();
+
+    /**
+     * Creates the renderer selected by the {@code game.render.mode} system property.
+     *
+     * @param simulation the simulation to draw
+     * @param layers     the layers of the level's scene
+     * @return the selected renderer, or a {@link Mode#NODES} renderer if none is selected
+     */
+    static SpriteRenderer create(LevelSimulation simulation, SceneLayers layers) {
+        Mode mode = Mode.valueOf(System.getProperty("game.render.mode", Mode.NODES.name()));
+        return switch (mode) {
+            case NODES -> new NodeSpriteRenderer(simulation, layers);
+            case CANVAS -> new CanvasSpriteRenderer(simulation, layers);
+            case PIXEL_BUFFER -> new PixelBufferSpriteRenderer(simulation, layers);
+        };
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.demo.UI;
 
-import javafx.scene.image.Image;
+import com.example.demo.manager.AssetManager;
+
 import javafx.scene.image.ImageView;
 
 /**
@@ -34,7 +35,7 @@ public class WinImage extends ImageView {
      * @param height the height of the win image
      */
     public WinImage(double xPosition, double yPosition, String imagePath, int width, int height) {
-        this.setImage(new Image(getClass().getResource(imagePath).toExternalForm()));
+        this.setImage(AssetManager.getInstance().getImage(imagePath, width, height));
         this.setVisible(false);
         this.setFitHeight(height);
         this.setFitWidth(width);
@@ -0,0 +1,362 @@
+package com.example.demo.controller;
+
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import com.example.demo.diagnostics.GameEvents;
+import com.example.demo.diagnostics.LevelTransitionEvent;
+import com.example.demo.levels.LevelParent;
+import com.example.demo.manager.AssetManager;
+import com.example.demo.replay.InputLog;
+import com.example.demo.replay.InputRecorder;
+import com.example.demo.replay.InputReplay;
+import com.example.demo.simulation.GameRandom;
+import com.example.demo.simulation.LevelOneSimulation;
+import com.example.demo.simulation.LevelSemiSimulation;
+
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.scene.Scene;
+import javafx.scene.control.Alert;
+import javafx.scene.control.Alert.AlertType;
+import javafx.stage.Stage;
+
+/**
+ * Controller class for managing the game's levels and handling transitions between them.
+ * This class uses a map to register levels and dynamically loads the appropriate level
+ * based on the provided level name.
+ * <p>
+ * As soon as a level starts, the level that follows it is built on the {@link AssetManager}'s background executor:
+ * its simulation, actors, decoded images and nodes are ready before the current level ends, and the transition
+ * only has to create the scene and attach it to the stage. The time each transition takes is reported.
+ * </p>
+ * <p>
+ * With {@code -Dgame.record=<directory>}, the inputs of every level are recorded into a binary log saved in that
+ * directory when the level ends. With {@code -Dgame.replay=<file>}, the game starts at the recorded level, built
+ * from the recorded seed and screen size, and replays the log in real time in place of the keyboard.
+ * </p>
+ */
+public class Controller {
+
+    /**
+     * A map that associates level names (fully qualified class names) with their corresponding classes.
+     */
+    private static final Map<String, Class<? extends LevelParent>> LEVEL_CLASSES = new HashMap<>();
+
+    // Static block to initialize the LEVEL_CLASSES map with registered level classes
+    static {
+        LEVEL_CLASSES.put("com.example.demo.LevelOne", com.example.demo.levels.LevelOne.class);
+        LEVEL_CLASSES.put("com.example.demo.LevelSemi", com.example.demo.levels.LevelSemi.class);
+        LEVEL_CLASSES.put("com.example.demo.LevelTwo", com.example.demo.levels.LevelTwo.class);
+    }
+
+    /**
+     * A map that associates level names with the name of the level that follows them, for the levels that have one.
+     */
+    private static final Map<String, String> NEXT_LEVELS = new HashMap<>();
+
+    static {
+        NEXT_LEVELS.put("com.example.demo.LevelOne", LevelOneSimulation.NEXT_LEVEL);
+        NEXT_LEVELS.put("com.example.demo.LevelSemi", LevelSemiSimulation.NEXT_LEVEL);
+    }
+
+    private static final String RECORD_PROPERTY = "game.record";
+    private static final String REPLAY_PROPERTY = "game.replay";
+
+    /**
+     * The primary stage of the application where the game's scenes are displayed.
+     */
+    private final Stage stage;
+
+    /**
+     * A StringProperty to track the current level's name. This allows for binding and updates when levels change.
+     */
+    private final StringProperty levelNameProperty = new SimpleStringProperty();
+
+    /**
+     * The name of the level currently shown, or null before the first level is loaded.
+     */
+    private String currentLevelName;
+
+    /**
+     * The level currently shown, or null before the first level is loaded.
+     */
+    private LevelParent currentLevel;
+
+    /**
+     * The name of the level being built in the background, or null if none is.
+     */
+    private String preparedLevelName;
+
+    /**
+     * The level being built in the background, or null if none is.
+     */
+    private CompletableFuture<LevelParent> preparedLevel;
+
+    /**
+     * The time the last transition took, in nanoseconds.
+     */
+    private long lastTransitionNanos;
+
+    /**
+     * The directory input recordings are saved in, or null if inputs are not recorded.
+     */
+    private final Path recordDirectory;
+
+    /**
+     * The log to replay in the next level, or null if there is none.
+     */
+    private InputLog pendingReplay;
+
+    /**
+     * Constructor for the Controller class.
+     *
+     * @param stage The primary stage of the application where game scenes will be displayed.
+     */
+    public Controller(Stage stage) {
+        this.stage = stage;
+        String recordPath = System.getProperty(RECORD_PROPERTY);
+        this.recordDirectory = recordPath != null ? Path.of(recordPath) : null;
+        // Listener to handle level changes when the levelNameProperty changes
+        levelNameProperty.addListener((observable, oldValue, newValue) -> handleLevelChange(newValue));
+    }
+
+    /**
+     * Gets the primary stage of the application.
+     *
+     * @return The application's primary stage.
+     */
+    public Stage getStage() {
+        return stage;
+    }
+
+    /**
+     * Launches the game by showing the stage and starting the first level.
+     */
+    public void launchGame() {
+        stage.show();
+        String replayPath = System.getProperty(REPLAY_PROPERTY);
+        if (replayPath != null) {
+            try {
+                pendingReplay = InputLog.load(Path.of(replayPath));
+                handleLevelChange(pendingReplay.getLevelName()); // Start at the recorded level
+                return;
+            } catch (IOException | IllegalArgumentException e) {
+                showErrorDialog("Failed to load replay: " + replayPath, e);
+            }
+        }
+        handleLevelChange("com.example.demo.LevelOne"); // Start at LevelOne
+    }
+
+    /**
+     * Handles the transition to a new level based on the level's name.
+     *
+     * @param levelName The fully qualified name of the level class to load.
+     */
+    public void handleLevelChange(String levelName) {
+        try {
+            goToLevel(levelName);
+        } catch (Exception e) {
+            showErrorDialog("Failed to load level: " + levelName, e);
+        }
+    }
+
+    /**
+     * Transitions to a specified level by dynamically loading and initializing the level.
+     *
+     * @param levelName The fully qualified name of the level class to load.
+     * @throws Exception If there is an error during level instantiation or initialization.
+     */
+    private void goToLevel(String levelName) throws Exception {
+        // With the game's flight recorder events on, the whole load is recorded, from reflection to the game loop start
+        long startTime = System.nanoTime();
+        LevelTransitionEvent event = null;
+        if (GameEvents.ENABLED) {
+            event = new LevelTransitionEvent();
+            event.begin();
+            event.from = currentLevelName;
+            event.to = levelName;
+        }
+
+        // A replayed level is rebuilt as recorded; otherwise use the level built in the background if it is the
+        // requested one, or build it now
+        InputLog replayLog = pendingReplay != null && levelName.equals(pendingReplay.getLevelName()) ? pendingReplay : null;
+        pendingReplay = null;
+        LevelParent level = null;
+        if (replayLog != null) {
+            level = createLevel(levelName, replayLog.getScreenHeight(), replayLog.getScreenWidth(),
+                    replayLog.getSessionSeed());
+        } else {
+            level = takePreparedLevel(levelName);
+        }
+        boolean preloaded = replayLog == null && level != null;
+        if (level == null) {
+            level = createLevel(levelName, stage.getHeight(), stage.getWidth(), GameRandom.sessionSeed());
+        }
+        attachInputLog(level, levelName, replayLog);
+
+        // Release the level being replaced, then bind the new level's property and initialize its scene
+        disposeCurrentLevel();
+        level.levelNameProperty().bindBidirectional(levelNameProperty);
+        Scene scene = level.initializeScene();
+        stage.setScene(scene);
+        level.startGame();
+        currentLevel = level;
+        currentLevelName = levelName;
+        lastTransitionNanos = System.nanoTime() - startTime;
+        if (event != null) {
+            event.preloaded = preloaded;
+            event.commit();
+        }
+        System.out.println("Started " + levelName + (preloaded ? " (preloaded)" : "") + " in "
+                + lastTransitionNanos / 1_000 / 1_000.0 + " ms");
+
+        prepareNextLevel(levelName);
+    }
+
+    /**
+     * Replays a log in a level, or records the level's inputs when recording is on.
+     *
+     * @param level     the new level
+     * @param levelName the name of the level
+     * @param replayLog the log to replay, or null
+     */
+    private void attachInputLog(LevelParent level, String levelName, InputLog replayLog) {
+        if (replayLog != null) {
+            if (replayLog.getStepSeconds() != level.getStepSeconds()) {
+                System.out.println("Replay was recorded at " + replayLog.getStepSeconds() + " s per step but the game"
+                        + " steps " + level.getStepSeconds() + " s; set game.loop.tickRate to replay it exactly");
+            }
+            level.getInputHandler().startReplay(new InputReplay(replayLog));
+        } else if (recordDirectory != null) {
+            InputRecorder recorder = new InputRecorder(levelName, GameRandom.sessionSeed(),
+                    level.getSimulation().getScreenHeight(), level.getSimulation().getScreenWidth(),
+                    level.getStepSeconds());
+            String fileName = levelName.substring(levelName.lastIndexOf('.') + 1) + '-'
+                    + System.currentTimeMillis() + ".input";
+            level.getInputHandler().startRecording(recorder, recordDirectory.resolve(fileName));
+        }
+    }
+
+    /**
+     * Instantiates a level by reflection. Levels only build unattached nodes, so this may run on any thread.
+     *
+     * @param levelName    the fully qualified name of the level class
+     * @param screenHeight the height of the screen
+     * @param screenWidth  the width of the screen
+     * @param sessionSeed  the session seed the level's random sources are seeded from
+     * @return the new level
+     * @throws ReflectiveOperationException if the level cannot be instantiated
+     * @throws IllegalArgumentException     if no level is registered under the specified name
+     */
+    private static LevelParent createLevel(String levelName, double screenHeight, double screenWidth,
+                                           long sessionSeed) throws ReflectiveOperationException {
+        // Retrieve the class for the specified level name
+        Class<? extends LevelParent> levelClass = LEVEL_CLASSES.get(levelName);
+        if (levelClass == null) {
+            throw new IllegalArgumentException("Level not found: " + levelName);
+        }
+
+        // Use reflection to instantiate the level with the required constructor
+        Constructor<? extends LevelParent> constructor =
+                levelClass.getConstructor(double.class, double.class, long.class);
+        return constructor.newInstance(screenHeight, screenWidth, sessionSeed);
+    }
+
+    /**
+     * Starts building the level that follows the specified one in the background, if there is one.
+     *
+     * @param levelName the name of the level that has just started
+     */
+    private void prepareNextLevel(String levelName) {
+        String nextLevelName = NEXT_LEVELS.get(levelName);
+        if (nextLevelName == null) {
+            return;
+        }
+        double screenHeight = stage.getHeight();
+        double screenWidth = stage.getWidth();
+        preparedLevelName = nextLevelName;
+        preparedLevel = AssetManager.getInstance().supplyInBackground(() -> {
+            try {
+                return createLevel(nextLevelName, screenHeight, screenWidth, GameRandom.sessionSeed());
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Failed to prepare level: " + nextLevelName, e);
+            }
+        });
+    }
+
+    /**
+     * Takes the level built in the background, waiting for it if it is still being built.
+     * A level prepared under another name is dropped, and a level that failed to build is reported and skipped.
+     *
+     * @param levelName the name of the level to go to
+     * @return the prepared level, or null if it has to be built now
+     */
+    private LevelParent takePreparedLevel(String levelName) {
+        CompletableFuture<LevelParent> future = preparedLevel;
+        boolean matches = levelName.equals(preparedLevelName);
+        preparedLevel = null;
+        preparedLevelName = null;
+        if (future == null) {
+            return null;
+        }
+        if (!matches) {
+            future.cancel(false);
+            return null;
+        }
+        try {
+            return future.join();
+        } catch (CompletionException | CancellationException e) {
+            System.out.println("Failed to preload " + levelName + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Gets the time the last level transition took, from the request to the start of the new level's game loop.
+     *
+     * @return the duration in nanoseconds, or 0 before the first level is loaded
+     */
+    public long getLastTransitionNanos() {
+        return lastTransitionNanos;
+    }
+
+    /**
+     * Gets the level currently shown.
+     *
+     * @return the current level, or null before the first level is loaded
+     */
+    public LevelParent getCurrentLevel() {
+        return currentLevel;
+    }
+
+    /**
+     * Unbinds the current level from this controller and disposes it, so nothing keeps the old level reachable.
+     */
+    private void disposeCurrentLevel() {
+        if (currentLevel != null) {
+            currentLevel.levelNameProperty().unbindBidirectional(levelNameProperty);
+            currentLevel.dispose();
+            currentLevel = null;
+        }
+    }
+
+    /**
+     * Displays an error dialog when an exception occurs during level loading or transition.
+     *
+     * @param message The error message to display to the user.
+     * @param e       The exception that occurred.
+     */
+    public void showErrorDialog(String message, Exception e) {
+        Alert alert = new Alert(AlertType.ERROR);
+        alert.setContentText(message);
+        alert.show();
+        e.printStackTrace();
+    }
+}
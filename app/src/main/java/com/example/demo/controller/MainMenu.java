@@ -1,5 +1,6 @@
 package com.example.demo.controller;
 
+import com.example.demo.manager.AssetManager;
 import com.example.demo.manager.BackgroundMusicPlayer;
 import javafx.application.Application;
 import javafx.geometry.Pos;
@@ -25,6 +26,11 @@ import javafx.scene.control.Label;
  */
 public class MainMenu extends Application {
 
+    private static final String IMAGE_LOCATION = "/com/example/demo/images/";
+    private static final double MENU_WIDTH = 1300;
+    private static final double MENU_HEIGHT = 700;
+    private static final double KEY_SIZE = 50;
+
     private Controller controller;
     private BackgroundMusicPlayer bgMusic;
 
@@ -38,12 +44,14 @@ public class MainMenu extends Application {
     public void start(Stage primaryStage) {
         controller = new Controller(primaryStage);
 
+        // Warm the game's assets in the background while the menu is shown
+        AssetManager.getInstance().preloadAll();
+
         bgMusic = BackgroundMusicPlayer.getInstance();
         bgMusic.play();
 
        // Load the background image
-        Image backgroundImage = new Image(getClass().getResourceAsStream("/com/example/demo/images/MainMenuImage3.png"));
-        ImageView backgroundView = new ImageView(backgroundImage);
+        ImageView backgroundView = new ImageView(loadMenuBackground());
 
         // Make the background image stretch to fit the window size without blurring
         backgroundView.setPreserveRatio(false);
@@ -104,7 +112,7 @@ public class MainMenu extends Application {
         root.heightProperty().addListener((obs, oldVal, newVal) -> backgroundView.setFitHeight((double) newVal));
 
         // Set up the scene
-        Scene menuScene = new Scene(root, 1300, 700);
+        Scene menuScene = new Scene(root, MENU_WIDTH, MENU_HEIGHT);
         primaryStage.setTitle("Main Menu");
 
         // Prevent resizing and full-screen capabilities
@@ -126,8 +134,7 @@ public class MainMenu extends Application {
      * Allows the user to choose between different levels.
      */
     private void showLevelSelectMenu() {
-        Image backgroundImage = new Image(getClass().getResourceAsStream("/com/example/demo/images/MainMenuImage3.png"));
-        ImageView backgroundView = new ImageView(backgroundImage);
+        ImageView backgroundView = new ImageView(loadMenuBackground());
         backgroundView.setPreserveRatio(false);
         backgroundView.setSmooth(true);
         backgroundView.setCache(true);
@@ -151,7 +158,7 @@ public class MainMenu extends Application {
         root.widthProperty().addListener((obs, oldVal, newVal) -> backgroundView.setFitWidth((double) newVal));
         root.heightProperty().addListener((obs, oldVal, newVal) -> backgroundView.setFitHeight((double) newVal));
 
-        Scene levelSelectScene = new Scene(root, 1300, 700);
+        Scene levelSelectScene = new Scene(root, MENU_WIDTH, MENU_HEIGHT);
         controller.getStage().setTitle("Level Select");
         controller.getStage().setScene(levelSelectScene);
 
@@ -167,25 +174,19 @@ public class MainMenu extends Application {
      */
     private void showHowToPlayPage(Stage primaryStage) {
         
-        Image spaceKeyImage = new Image(getClass().getResourceAsStream("/com/example/demo/images/Space.png"));
-        Image wKeyImage = new Image(getClass().getResourceAsStream("/com/example/demo/images/W.png"));
-        Image sKeyImage = new Image(getClass().getResourceAsStream("/com/example/demo/images/S.png"));
-        Image pKeyImage = new Image(getClass().getResourceAsStream("/com/example/demo/images/p.png"));
+        ImageView spaceKeyView = new ImageView(loadKeyImage("Space.png"));
+        ImageView wKeyView = new ImageView(loadKeyImage("W.png"));
+        ImageView sKeyView = new ImageView(loadKeyImage("S.png"));
+        ImageView pKeyView = new ImageView(loadKeyImage("P.png"));
     
-        ImageView spaceKeyView = new ImageView(spaceKeyImage);
-        ImageView wKeyView = new ImageView(wKeyImage);
-        ImageView sKeyView = new ImageView(sKeyImage);
-        ImageView pKeyView = new ImageView(pKeyImage);
-    
-        double keySize = 50;
-        spaceKeyView.setFitWidth(keySize);
-        spaceKeyView.setFitHeight(keySize);
-        wKeyView.setFitWidth(keySize);
-        wKeyView.setFitHeight(keySize);
-        sKeyView.setFitWidth(keySize);
-        sKeyView.setFitHeight(keySize);
-        pKeyView.setFitWidth(keySize);
-        pKeyView.setFitHeight(keySize);
+        spaceKeyView.setFitWidth(KEY_SIZE);
+        spaceKeyView.setFitHeight(KEY_SIZE);
+        wKeyView.setFitWidth(KEY_SIZE);
+        wKeyView.setFitHeight(KEY_SIZE);
+        sKeyView.setFitWidth(KEY_SIZE);
+        sKeyView.setFitHeight(KEY_SIZE);
+        pKeyView.setFitWidth(KEY_SIZE);
+        pKeyView.setFitHeight(KEY_SIZE);
     
         Text spaceText = new Text("Spacebar - Shoot");
         Text wText = new Text("W - Move Up");
@@ -219,13 +220,32 @@ public class MainMenu extends Application {
         VBox combinedLayout = new VBox(20, mainLayout, secondLayout,mainLayout2);
         combinedLayout.setAlignment(Pos.CENTER);
     
-        Scene howToPlayScene = new Scene(combinedLayout, 1300, 700);
+        Scene howToPlayScene = new Scene(combinedLayout, MENU_WIDTH, MENU_HEIGHT);
     
         primaryStage.setTitle("How to Play");
         primaryStage.setScene(howToPlayScene);
         primaryStage.show();    
     }   
 
+    /**
+     * Gets the menu background image, decoded once at the menu's size and shared by every menu page.
+     *
+     * @return the menu background image
+     */
+    private Image loadMenuBackground() {
+        return AssetManager.getInstance().getImage(IMAGE_LOCATION + "MainMenuImage3.png", MENU_WIDTH, MENU_HEIGHT);
+    }
+
+    /**
+     * Gets the image of a keyboard key shown on the "How to Play" page, decoded at its display size.
+     *
+     * @param imageName the name of the key image file
+     * @return the key image
+     */
+    private Image loadKeyImage(String imageName) {
+        return AssetManager.getInstance().getImage(IMAGE_LOCATION + imageName, KEY_SIZE, KEY_SIZE);
+    }
+
     /**
      * Handles the transition to a specified level.
      *
@@ -0,0 +1,51 @@
+package com.example.demo.levels;
+
+import com.example.demo.UI.SceneLayers.Layer;
+import com.example.demo.simulation.LevelOneSimulation;
+
+/**
+ * The LevelOne class represents the first level of the game.
+ * It extends the LevelParent class and shows a {@link LevelOneSimulation}, which holds the rules of the level:
+ * enemies spawn randomly, the game advances when the player reaches the required kill target
+ * and ends if the player is destroyed.
+ */
+public class LevelOne extends LevelParent {
+
+    // Constants for level configuration
+	/**
+	 * The name of the background image for Level One.
+	 * Located in the resources path: "/com/example/demo/images/background1.jpg".
+	 */
+    private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background1.jpg";
+
+	/**
+     * Constructs a new LevelOne instance with the specified screen height and width.
+     *
+     * @param screenHeight the height of the screen
+     * @param screenWidth the width of the screen
+     */
+	public LevelOne(double screenHeight, double screenWidth) {
+		super(new LevelOneSimulation(screenHeight, screenWidth), BACKGROUND_IMAGE_NAME);
+	}
+
+	/**
+     * Constructs a new LevelOne instance with the specified screen height and width and session seed.
+     *
+     * @param screenHeight the height of the screen
+     * @param screenWidth the width of the screen
+     * @param sessionSeed the seed of the session
+     */
+	public LevelOne(double screenHeight, double screenWidth, long sessionSeed) {
+		super(new LevelOneSimulation(screenHeight, screenWidth, sessionSeed), BACKGROUND_IMAGE_NAME);
+	}
+
+	/**
+     * Instantiates the LevelView for Level One, which manages the UI elements specific to this level.
+     *
+     * @return a new LevelView instance for Level One
+     */
+	@Override
+	protected LevelView instantiateLevelView() {
+		return new LevelView(getLayer(Layer.HUD), LevelOneSimulation.PLAYER_INITIAL_HEALTH);
+	}
+}
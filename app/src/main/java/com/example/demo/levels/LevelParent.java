@@ -0,0 +1,496 @@
+package com.example.demo.levels;
+
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.scene.Group;
+import javafx.scene.Scene;
+import javafx.scene.image.ImageView;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.Text;
+
+import com.example.demo.UI.PerformanceOverlay;
+import com.example.demo.UI.SceneLayers;
+import com.example.demo.UI.SceneLayers.Layer;
+import com.example.demo.UI.SpriteRenderer;
+import com.example.demo.characters.ActiveActorDestructible;
+import com.example.demo.characters.UserPlane;
+import com.example.demo.event.GameEvent;
+import com.example.demo.event.GameEventType;
+import com.example.demo.manager.AssetManager;
+import com.example.demo.manager.GameLoop;
+import com.example.demo.manager.InputHandler;
+import com.example.demo.manager.BackgroundMusicPlayer;
+import com.example.demo.simulation.LevelSimulation;
+import com.example.demo.simulation.SimulationListener;
+import com.example.demo.simulation.TickPhase;
+
+/**
+ * The LevelParent class serves as an abstract base class for all game levels.
+ * It manages the game loop and the scene of a level.
+ * <p>
+ * The rules and actors of the level live in a headless {@link LevelSimulation}. The game loop steps the
+ * simulation at a fixed rate; the level follows it as a {@link SimulationListener} and passes every change to
+ * its {@link SpriteRenderer}, which draws the planes and projectiles once per rendered frame.
+ * </p>
+ * <p>
+ * The scene is drawn in {@link SceneLayers}: the renderer draws into the actor and projectile layers, while the
+ * background, the effects and the HUD stay nodes of their own layers. The HUD subscribes to the simulation's
+ * game events, so the kill counter and the hearts are only touched when a kill or a hit changes them.
+ * </p>
+ * <p>
+ * A level goes through the {@link State}s of its lifecycle in order, driven by the {@code Controller}: it is
+ * created, runs, may be paused and resumed, and is disposed once the next level replaces it. Disposing stops
+ * its loop and releases everything that could keep the level reachable, so the old scene can be collected.
+ * </p>
+ */
+public abstract class LevelParent implements SimulationListener {
+
+    /**
+     * The stages of a level's lifecycle.
+     */
+    public enum State {
+        INITIALIZED,  // Created, the game loop has not started yet
+        RUNNING,      // The game loop is running
+        PAUSED,       // The game loop is stopped, by the user or because the level ended
+        DISPOSED      // Replaced by another level; the level must not be used anymore
+    }
+
+    private final double screenHeight;
+    private final double screenWidth;
+
+    private final Group root;
+    private final SceneLayers layers;
+    private Scene scene;
+    private final ImageView background;
+
+    private final LevelSimulation simulation;
+    private final GameLoop gameLoop;
+
+    private final SpriteRenderer renderer;
+
+    private LevelView levelView;
+
+    private final StringProperty levelNameProperty = new SimpleStringProperty();
+    private Text killCounterText;
+    private PerformanceOverlay performanceOverlay;
+
+    private InputHandler inputHandler; // Reference to InputHandler
+    private State state = State.INITIALIZED;
+
+    /**
+     * Constructs a new LevelParent instance that shows the specified simulation on the specified background.
+     * <p>
+     * The constructor only builds nodes that are not yet part of a scene, so a level can be constructed on a
+     * background thread while another level is playing. The scene itself is created by {@link #initializeScene()}
+     * on the JavaFX Application Thread.
+     * </p>
+     *
+     * @param simulation the simulation holding the rules and actors of the level
+     * @param backgroundImageName the name of the background image
+     */
+    public LevelParent(LevelSimulation simulation, String backgroundImageName) {
+        this.simulation = simulation;
+        this.screenHeight = simulation.getScreenHeight();
+        this.screenWidth = simulation.getScreenWidth();
+        this.root = new Group();
+        this.layers = new SceneLayers(root);
+
+        this.renderer = SpriteRenderer.create(simulation, layers);
+
+        this.background = new ImageView(AssetManager.getInstance().getImage(backgroundImageName));
+
+        this.levelView = instantiateLevelView();
+
+        // Initialize GameLoop with the fixed-step update and the per-frame render
+        this.gameLoop = new GameLoop(this::updateScene, this::renderScene);
+
+        // Initialize InputHandler
+        inputHandler = new InputHandler(this); // Pass LevelParent to InputHandler
+
+		loadCustomFont();
+    }
+
+    /**
+     * Abstract method to instantiate the level view.
+     * This method should be implemented by subclasses to create a LevelView instance.
+     *
+     * @return a new LevelView instance
+     */
+    protected abstract LevelView instantiateLevelView();
+
+    /**
+     * Creates the scene and sets up the background, friendly units, and UI elements.
+     * Must be called once, on the JavaFX Application Thread.
+     *
+     * @return the initialized Scene object
+     */
+    public Scene initializeScene() {
+        scene = new Scene(root, screenWidth, screenHeight);
+        initializeBackground();
+        simulation.setListener(this);  // Creates the sprites of the actors already in the world, such as the user
+        levelView.showHeartDisplay();
+
+        killCounterText = new Text("Kills: " + getUser().getNumberOfKills());
+        killCounterText.setFont(Font.font("Orbitron", FontWeight.BOLD, 15));
+        killCounterText.setFill(Color.DARKRED);
+        killCounterText.setTranslateX(10);
+        killCounterText.setTranslateY(100);
+        layers.getGroup(Layer.HUD).getChildren().add(killCounterText);
+        simulation.getEvents().subscribe(GameEventType.ENEMY_KILLED, this::updateKillCounter);
+        simulation.getEvents().subscribe(GameEventType.PLAYER_DAMAGED, this::updateLevelView);
+
+        performanceOverlay = new PerformanceOverlay(simulation, layers, renderer.getMode());
+        layers.getGroup(Layer.HUD).getChildren().add(performanceOverlay);
+
+        layers.flush();
+        return scene;
+    }
+
+    /**
+     * Loads a custom font for the game.
+     * The font is only read once; later levels get it from the {@link AssetManager} cache.
+     */
+	private void loadCustomFont() {
+        try {
+            AssetManager.getInstance().getFont("Orbitron.ttf", 15);
+        } catch (Exception e) {
+            System.out.println("Failed to load custom font: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Starts the game, or resumes it, by starting the game loop.
+     *
+     * @throws IllegalStateException if the level has been disposed
+     */
+    public void startGame() {
+        if (state == State.DISPOSED) {
+            throw new IllegalStateException("A disposed level cannot be started");
+        }
+        state = State.RUNNING;
+        gameLoop.start();
+    }
+
+    /**
+     * Pauses the game by pausing the game loop.
+     */
+    public void pauseGame() {
+        if (state == State.RUNNING) {
+            state = State.PAUSED;
+            gameLoop.pause();
+        }
+    }
+
+    /**
+     * Stops the game by stopping the game loop. The level stays on screen.
+     */
+    public void stopGame() {
+        if (state == State.RUNNING) {
+            state = State.PAUSED;
+        }
+        gameLoop.stop();
+    }
+
+    /**
+     * Disposes the level once it has been replaced: stops its loop, detaches it from its simulation and its input,
+     * releases the pooled sprites and empties the scene. Disposing twice does nothing.
+     */
+    public void dispose() {
+        if (state == State.DISPOSED) {
+            return;
+        }
+        state = State.DISPOSED;
+        gameLoop.stop();
+        inputHandler.stopRecording();
+        simulation.dispose();
+        renderer.dispose();
+        background.setOnKeyPressed(null);
+        background.setOnKeyReleased(null);
+        layers.clear();
+    }
+
+    /**
+     * Gets the stage of the level's lifecycle.
+     *
+     * @return the current state
+     */
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * Transitions to the next level by stopping this level's loop and setting the level name property.
+     *
+     * @param levelName the name of the next level
+     */
+    public void goToNextLevel(String levelName) {
+        stopGame();
+        levelNameProperty.set(levelName);
+
+       // Ensure background music continues playing
+       BackgroundMusicPlayer bgMusic = BackgroundMusicPlayer.getInstance();
+       if (bgMusic != null) {
+           bgMusic.play();
+       }
+    }
+
+    /**
+     * Gets the name of the current level.
+     *
+     * @return the name of the current level
+     */
+    public String getLevelName() {
+        return levelNameProperty.get();
+    }
+
+    /**
+     * Sets the name of the current level.
+     *
+     * @param levelName the name of the current level
+     */
+    public void setLevelName(String levelName) {
+        levelNameProperty.set(levelName);
+    }
+
+    /**
+     * Gets the level name property.
+     *
+     * @return the level name property
+     */
+    public StringProperty levelNameProperty() {
+        return levelNameProperty;
+    }
+
+    /**
+     * Advances the simulation by one step.
+     *
+     * @param deltaSeconds the length of the simulation step (in seconds)
+     */
+    private void updateScene(double deltaSeconds) {
+        long start = System.nanoTime();
+        inputHandler.beforeStep();
+        simulation.step(deltaSeconds);
+        performanceOverlay.recordTick(System.nanoTime() - start);
+    }
+
+    /**
+     * Draws every plane and projectile at its position, interpolated between the last two steps, and refreshes the UI.
+     *
+     * @param alpha how far the frame is between the previous and the current step, from 0.0 to 1.0
+     */
+    private void renderScene(double alpha) {
+        long start = System.nanoTime();
+        renderer.render(alpha);
+        performanceOverlay.recordRender(System.nanoTime() - start);
+        long mark = simulation.getProfiler().begin();
+        updateView(alpha);
+        simulation.getProfiler().end(TickPhase.VIEW, mark);
+        performanceOverlay.frameRendered(System.nanoTime());
+    }
+
+    /**
+     * Updates the level-specific UI elements once per rendered frame.
+     * Does nothing by default; levels override it to follow their simulation's state.
+     *
+     * @param alpha how far the frame is between the previous and the current step, from 0.0 to 1.0
+     */
+    protected void updateView(double alpha) {
+    }
+
+    /**
+     * Passes an actor that entered the world to the renderer.
+     *
+     * @param actor the added actor
+     */
+    @Override
+    public void actorAdded(ActiveActorDestructible actor) {
+        renderer.actorAdded(actor);
+    }
+
+    /**
+     * Passes an actor that left the world to the renderer.
+     *
+     * @param actor the removed actor
+     */
+    @Override
+    public void actorRemoved(ActiveActorDestructible actor) {
+        renderer.actorRemoved(actor);
+    }
+
+    /**
+     * Passes a projectile that entered the world to the renderer.
+     *
+     * @param handle the entity handle of the projectile
+     */
+    @Override
+    public void projectileAdded(int handle) {
+        renderer.projectileAdded(handle);
+    }
+
+    /**
+     * Passes a projectile that is leaving the world to the renderer.
+     *
+     * @param handle the entity handle of the projectile
+     */
+    @Override
+    public void projectileRemoved(int handle) {
+        renderer.projectileRemoved(handle);
+    }
+
+    /**
+     * Passes a keyboard input the simulation applied to the input handler, which records it.
+     *
+     * @param tick    the number of steps the simulation had run before the step that applies the input
+     * @param keys    the bits of the keys
+     * @param pressed whether the keys were pressed or released
+     */
+    @Override
+    public void inputApplied(long tick, int keys, boolean pressed) {
+        inputHandler.inputApplied(tick, keys, pressed);
+    }
+
+    /**
+     * Shows the end of the level: the win or game over image, or the next level.
+     * With tick profiling enabled, the statistics of the level's tick phases are printed first.
+     *
+     * @param outcome how the level ended
+     */
+    @Override
+    public void levelEnded(LevelSimulation.Outcome outcome) {
+        inputHandler.stopRecording();
+        if (simulation.getProfiler().isEnabled()) {
+            System.out.print(simulation.getProfiler().format(simulation.getClass().getSimpleName()));
+        }
+        switch (outcome) {
+            case WON -> winGame();
+            case LOST -> loseGame();
+            case NEXT_LEVEL -> goToNextLevel(simulation.getNextLevelName());
+            default -> { }
+        }
+    }
+
+    /**
+     * Initializes the background image and sets up key event handlers.
+     */
+    private void initializeBackground() {
+        background.setFocusTraversable(true);
+        background.setFitHeight(screenHeight);
+        background.setFitWidth(screenWidth);
+        background.setOnKeyPressed(inputHandler::handleKeyPressed); // Use InputHandler for keyPressed
+        background.setOnKeyReleased(inputHandler::handleKeyReleased); // Use InputHandler for keyReleased
+
+        layers.getGroup(Layer.BACKGROUND).getChildren().add(background);
+    }
+
+    /**
+     * Gets the handler of the level's keyboard input, which also records and replays it.
+     *
+     * @return the input handler
+     */
+    public InputHandler getInputHandler() {
+        return inputHandler;
+    }
+
+    /**
+     * Gets the length of the level's simulation steps.
+     *
+     * @return the step length (in seconds)
+     */
+    public double getStepSeconds() {
+        return gameLoop.getStepSeconds();
+    }
+
+    /**
+     * Shows or hides the performance overlay.
+     */
+    public void togglePerformanceOverlay() {
+        performanceOverlay.toggle();
+    }
+
+    /**
+     * Updates the kill counter text to display the number of kills after a kill.
+     *
+     * @param event the kill, carrying the user's number of kills
+     */
+    private void updateKillCounter(GameEvent event) {
+        killCounterText.setText("Kills: " + event.getValue());
+    }
+
+    /**
+     * Updates the level view to reflect the health the user has left after a hit.
+     *
+     * @param event the hit, carrying the user's health
+     */
+    private void updateLevelView(GameEvent event) {
+        levelView.removeHearts(event.getValue());
+    }
+
+    /**
+     * Handles the win condition by stopping the game loop and displaying the win image.
+     * The final step is rendered first, since the loop will not render it anymore.
+     */
+    protected void winGame() {
+        stopGame();
+        renderScene(1.0);
+        levelView.showWinImage();
+    }
+
+    /**
+     * Handles the lose condition by stopping the game loop and displaying the game over image.
+     * The final step is rendered first, since the loop will not render it anymore.
+     */
+    protected void loseGame() {
+        stopGame();
+        renderScene(1.0);
+        levelView.showGameOverImage();
+
+    }
+
+    /**
+     * Gets the user plane.
+     *
+     * @return the user plane
+     */
+    protected UserPlane getUser() {
+        return simulation.getUser();
+    }
+
+    /**
+     * Gets the simulation shown by this level.
+     *
+     * @return the level's simulation
+     */
+    public LevelSimulation getSimulation() {
+        return simulation;
+    }
+
+    /**
+     * Gets the root group of the scene.
+     *
+     * @return the root group
+     */
+    protected Group getRoot() {
+        return root;
+    }
+
+    /**
+     * Gets the group of a layer of the scene.
+     *
+     * @param layer the layer
+     * @return the layer's group
+     */
+    protected Group getLayer(Layer layer) {
+        return layers.getGroup(layer);
+    }
+
+    /**
+     * Gets the current number of enemies.
+     *
+     * @return the current number of enemies
+     */
+    protected int getCurrentNumberOfEnemies() {
+        return simulation.getCurrentNumberOfEnemies();
+    }
+}
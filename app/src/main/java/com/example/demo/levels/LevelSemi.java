@@ -0,0 +1,125 @@
+package com.example.demo.levels;
+
+import com.example.demo.UI.SceneLayers.Layer;
+import com.example.demo.event.GameEvent;
+import com.example.demo.event.GameEventType;
+import com.example.demo.simulation.LevelSemiSimulation;
+import javafx.scene.Scene;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.Text;
+
+/**
+ * The LevelSemi class represents the semi-final level of the game.
+ * It extends the LevelParent class and shows a {@link LevelSemiSimulation}, in which enemies come in waves,
+ * along with a counter of the current wave that follows the simulation's wave events.
+ */
+public class LevelSemi extends LevelParent {
+    private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background2.jpg";
+
+    private final LevelSemiSimulation simulation;
+    private Text waveCounterText; // Text for wave counter
+
+    /**
+     * Constructs a new LevelSemi instance with the specified screen height and width.
+     *
+     * @param screenHeight the height of the screen
+     * @param screenWidth the width of the screen
+     */
+    public LevelSemi(double screenHeight, double screenWidth) {
+        this(new LevelSemiSimulation(screenHeight, screenWidth));
+    }
+
+    /**
+     * Constructs a new LevelSemi instance with the specified screen height and width and session seed.
+     *
+     * @param screenHeight the height of the screen
+     * @param screenWidth the width of the screen
+     * @param sessionSeed the seed of the session
+     */
+    public LevelSemi(double screenHeight, double screenWidth, long sessionSeed) {
+        this(new LevelSemiSimulation(screenHeight, screenWidth, sessionSeed));
+    }
+
+    /**
+     * Constructs a new LevelSemi instance showing the specified simulation.
+     *
+     * @param simulation the simulation holding the rules and actors of the level
+     */
+    private LevelSemi(LevelSemiSimulation simulation) {
+        super(simulation, BACKGROUND_IMAGE_NAME);
+        this.simulation = simulation;
+    }
+
+    public int getCurrentWave() {
+        return simulation.getCurrentWave();
+    }
+
+    public static int getTotalWaves() {
+        return LevelSemiSimulation.TOTAL_WAVES;
+    }
+
+    /**
+     * Initializes the scene by setting up the background, friendly units, and UI elements.
+     *
+     * @return the initialized Scene object
+     */
+    @Override
+    public Scene initializeScene() {
+        Scene scene = super.initializeScene();
+        initializeWaveCounter(); // Initialize wave counter
+        return scene;
+    }
+
+    /**
+     * Initializes the wave counter text, adds it to the scene and subscribes it to the wave events.
+     */
+    private void initializeWaveCounter() {
+        waveCounterText = new Text("Wave: " + simulation.getCurrentWave() + " / " + getTotalWaves());
+        waveCounterText.setFont(Font.font("Arial", FontWeight.BOLD, 20));
+        waveCounterText.setFill(javafx.scene.paint.Color.YELLOW);
+        waveCounterText.setTranslateX(600);
+        waveCounterText.setTranslateY(40); 
+        getLayer(Layer.HUD).getChildren().add(waveCounterText);
+        simulation.getEvents().subscribe(GameEventType.WAVE_STARTED, this::updateWaveCounter);
+    }
+
+    /**
+     * Updates the wave counter text to display the wave that started, or that every wave has been cleared.
+     *
+     * @param event the start of a wave, carrying its number
+     */
+    private void updateWaveCounter(GameEvent event) {
+        int wave = event.getValue();
+        if (wave <= getTotalWaves()) {
+            waveCounterText.setText("Wave: " + wave + " / " + getTotalWaves());
+        } else {
+            waveCounterText.setText("All waves cleared!"); // Final wave message
+        }
+    }
+
+    /**
+     * Spawns enemy units for this level based on the spawn probability and the size of the current wave.
+     */
+    protected void spawnEnemyUnits() {
+        simulation.spawnEnemyUnits();
+    }
+
+    /**
+     * Starts the next wave and updates the wave counter right away, without waiting for the next step.
+     */
+    protected void startNextWave() {
+        simulation.startNextWave();
+        simulation.getEvents().dispatch();
+    }
+
+    /**
+     * Instantiates the LevelView for this level, which manages the UI elements specific to this level.
+     *
+     * @return a new LevelView instance for this level
+     */
+    @Override
+    protected LevelView instantiateLevelView() {
+        return new LevelView(getLayer(Layer.HUD), LevelSemiSimulation.PLAYER_INITIAL_HEALTH);
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.demo.levels;
+
+import com.example.demo.UI.SceneLayers.Layer;
+import com.example.demo.UI.ShieldImage;
+import com.example.demo.characters.ActiveActorDestructible;
+import com.example.demo.characters.Boss;
+import com.example.demo.event.GameEvent;
+import com.example.demo.event.GameEventType;
+import com.example.demo.simulation.LevelTwoSimulation;
+import javafx.scene.Scene;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+
+/**
+ * The LevelTwo class represents the second level of the game.
+ * It extends the LevelParent class and shows a {@link LevelTwoSimulation}, in which the player fights the boss,
+ * along with the boss's shield and health bar, which follow the boss's shield and damage events.
+ */
+public class LevelTwo extends LevelParent {
+
+    private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background2.jpg";
+    private static final double SHIELD_X_OFFSET = -95;
+    private static final double SHIELD_Y_OFFSET = -165;
+    private final Boss boss;
+    /** The shield image drawn around the boss */
+    private final ShieldImage shieldImage;
+    /** The health bar representing the boss's health */
+    private final Rectangle healthBar;
+
+   /**
+     * Constructs a new LevelTwo instance with the specified screen height and width.
+     *
+     * @param screenHeight the height of the screen
+     * @param screenWidth the width of the screen
+     */
+    public LevelTwo(double screenHeight, double screenWidth) {
+        this(new LevelTwoSimulation(screenHeight, screenWidth));
+    }
+
+    /**
+     * Constructs a new LevelTwo instance with the specified screen height and width and session seed.
+     *
+     * @param screenHeight the height of the screen
+     * @param screenWidth the width of the screen
+     * @param sessionSeed the seed of the session
+     */
+    public LevelTwo(double screenHeight, double screenWidth, long sessionSeed) {
+        this(new LevelTwoSimulation(screenHeight, screenWidth, sessionSeed));
+    }
+
+    /**
+     * Constructs a new LevelTwo instance showing the specified simulation.
+     *
+     * @param simulation the simulation holding the rules and actors of the level
+     */
+    private LevelTwo(LevelTwoSimulation simulation) {
+        super(simulation, BACKGROUND_IMAGE_NAME);
+        boss = simulation.getBoss();
+        shieldImage = new ShieldImage(0, 0);
+        healthBar = createHealthBar();
+    }
+
+    /**
+     * Initializes the scene and subscribes the shield and the health bar to the boss's events.
+     *
+     * @return the initialized Scene object
+     */
+    @Override
+    public Scene initializeScene() {
+        Scene scene = super.initializeScene();
+        getSimulation().getEvents().subscribe(GameEventType.BOSS_SHIELD_CHANGED, this::updateShieldImage);
+        getSimulation().getEvents().subscribe(GameEventType.BOSS_DAMAGED, this::updateHealthBar);
+        return scene;
+    }
+
+    /**
+     * Adds the boss's health bar and shield image on top of the boss when it enters the scene.
+     *
+     * @param actor the added actor
+     */
+    @Override
+    public void actorAdded(ActiveActorDestructible actor) {
+        super.actorAdded(actor);
+        if (actor == boss && healthBar.getParent() == null) {
+            getLayer(Layer.EFFECTS).getChildren().add(shieldImage);
+            getLayer(Layer.HUD).getChildren().add(healthBar);
+        }
+    }
+
+    /**
+     * Moves the shield along with the boss.
+     *
+     * @param alpha how far the frame is between the previous and the current step
+     */
+    @Override
+    protected void updateView(double alpha) {
+        shieldImage.setLayoutX(boss.getOriginX() + boss.getInterpolatedOffsetX(alpha) + SHIELD_X_OFFSET);
+        shieldImage.setLayoutY(boss.getOriginY() + boss.getInterpolatedOffsetY(alpha) + SHIELD_Y_OFFSET);
+    }
+
+    /**
+     * Shows, dims or hides the shield image to match the boss's new shield state.
+     *
+     * @param event the shield change, carrying the ordinal of the new state
+     */
+    private void updateShieldImage(GameEvent event) {
+        switch (Boss.ShieldState.of(event.getValue())) {
+            case ACTIVE -> shieldImage.showShield();
+            case DAMAGED -> shieldImage.weakenShield();  // Visual indicator for damage
+            case INACTIVE -> shieldImage.hideShield();
+        }
+    }
+
+    /**
+     * Creates a health bar to visually represent the boss's health status on the screen.
+     *
+     * @return the health bar
+     */
+    private Rectangle createHealthBar() {
+        // Create the health bar with initial full width
+        Rectangle bar = new Rectangle(1000, 10, boss.getHealth(), 20);  // X, Y, width, height
+        bar.setFill(Color.GREEN);  // Set the initial color to green
+        return bar;
+    }
+
+    /**
+     * Updates the health bar based on the boss's health after a hit.
+     *
+     * Changes the health bar color depending on the health percentage:
+     * - Green: Full health
+     * - Yellow: Medium health
+     * - Red: Low health
+     *
+     * @param event the hit, carrying the boss's health
+     */
+    private void updateHealthBar(GameEvent event) {
+        // Update the health bar width based on current health
+        int health = event.getValue();
+        healthBar.setWidth(health);
+        if (health > 10) {
+            healthBar.setFill(Color.GREEN);
+        } else if (health > 5) {
+            healthBar.setFill(Color.YELLOW);
+        } else {
+            healthBar.setFill(Color.RED);
+        }
+    }
+
+    /**
+     * Instantiates the LevelView for this level, which manages the UI elements specific to this level.
+     *
+     * @return a new LevelView instance for this level
+     */
+    @Override
+    protected LevelView instantiateLevelView() {
+        return new LevelView(getLayer(Layer.HUD), LevelTwoSimulation.PLAYER_INITIAL_HEALTH);
+    }
+
+}
@@ -64,8 +64,7 @@ public class LevelView {
      * @param heartsRemaining the number of hearts remaining
      */
 	public void removeHearts(int heartsRemaining) {
-		int currentNumberOfHearts = heartDisplay.getContainer().getChildren().size();
-		for (int i = 0; i < currentNumberOfHearts - heartsRemaining; i++) {
+		for (int i = heartDisplay.getNumberOfHearts(); i > Math.max(heartsRemaining, 0); i--) {
 			heartDisplay.removeHeart();
 		}
 	}
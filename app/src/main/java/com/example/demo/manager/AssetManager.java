@@ -0,0 +1,273 @@
+package com.example.demo.manager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import javafx.scene.image.Image;
+import javafx.scene.media.Media;
+import javafx.scene.text.Font;
+
+/**
+ * The AssetManager class decodes and caches the game's images, fonts and media.
+ * It follows the Singleton pattern so every actor, UI element and level shares the same decoded copy of a resource.
+ * <p>
+ * Images can be requested at their display size, in which case they are decoded directly at that size instead of
+ * at their full resolution. {@link #preloadAll()} warms the whole asset set in parallel on a background executor,
+ * so levels can be built from the cache without paying the decode cost on the JavaFX Application Thread.
+ * </p>
+ */
+public class AssetManager {
+
+    private static final String IMAGE_LOCATION = "/com/example/demo/images/";
+    private static final String FONT_LOCATION = "/com/example/demo/font/";
+    private static final int BYTES_PER_PIXEL = 4;  // Decoded images are stored as 32-bit ARGB
+
+    private static AssetManager instance;
+
+    private final Map<String, Image> images = new ConcurrentHashMap<>();
+    private final Map<String, Font> fonts = new ConcurrentHashMap<>();
+    private final Map<String, Media> media = new ConcurrentHashMap<>();
+    private final AtomicLong decodedBytes = new AtomicLong();
+    private final ExecutorService executor;
+    private CompletableFuture<Void> preloadTask;
+
+    /**
+     * Private constructor to enforce Singleton pattern.
+     * Creates the daemon worker threads used for background loading.
+     */
+    private AssetManager() {
+        executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), runnable -> {
+            Thread thread = new Thread(runnable, "asset-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Gets the singleton instance of the AssetManager.
+     *
+     * @return the singleton instance of the AssetManager
+     */
+    public static synchronized AssetManager getInstance() {
+        if (instance == null) {
+            instance = new AssetManager();
+        }
+        return instance;
+    }
+
+    /**
+     * Gets an image decoded at its full resolution.
+     *
+     * @param imagePath the resource path of the image
+     * @return the shared decoded image
+     * @throws IllegalArgumentException if the image cannot be found at the specified path
+     */
+    public Image getImage(String imagePath) {
+        return getImage(imagePath, 0, 0);
+    }
+
+    /**
+     * Gets an image decoded at its display size.
+     * <p>
+     * If only one dimension is given the image keeps its aspect ratio; if both are given it is stretched to fit,
+     * matching an {@code ImageView} with the same fit size. A size of zero means the natural size.
+     * </p>
+     *
+     * @param imagePath the resource path of the image
+     * @param width     the width to decode the image at, or 0
+     * @param height    the height to decode the image at, or 0
+     * @return the shared decoded image
+     * @throws IllegalArgumentException if the image cannot be found at the specified path
+     */
+    public Image getImage(String imagePath, double width, double height) {
+        String key = imagePath + '@' + width + 'x' + height;
+        return images.computeIfAbsent(key, k -> decodeImage(imagePath, width, height));
+    }
+
+    /**
+     * Loads a custom font from the font folder and registers its family with JavaFX.
+     *
+     * @param fontName the file name of the font (e.g., "Orbitron.ttf")
+     * @param size     the default size of the loaded font
+     * @return the loaded font
+     * @throws IllegalArgumentException if the font cannot be found or loaded
+     */
+    public Font getFont(String fontName, double size) {
+        String key = fontName + '@' + size;
+        return fonts.computeIfAbsent(key, k -> loadFont(FONT_LOCATION + fontName, size));
+    }
+
+    /**
+     * Gets a media resource such as background music.
+     *
+     * @param mediaPath the resource path of the media file
+     * @return the shared media object
+     * @throws IllegalArgumentException if the media cannot be found at the specified path
+     */
+    public Media getMedia(String mediaPath) {
+        return media.computeIfAbsent(mediaPath, k -> new Media(findResource(mediaPath).toExternalForm()));
+    }
+
+    /**
+     * Decodes every image and font the game uses in parallel on the background executor.
+     * <p>
+     * Sizes mirror the fit sizes used by the actors and UI elements, so their later requests are cache hits.
+     * Calling this method again returns the task that is already running or finished.
+     * </p>
+     *
+     * @return a future completed once every asset is cached
+     */
+    public synchronized CompletableFuture<Void> preloadAll() {
+        if (preloadTask != null) {
+            return preloadTask;
+        }
+        long startTime = System.nanoTime();
+        List<CompletableFuture<?>> tasks = new ArrayList<>();
+
+        // Menus
+        tasks.add(preloadImage(IMAGE_LOCATION + "MainMenuImage3.png", 1300, 700));
+        tasks.add(preloadImage(IMAGE_LOCATION + "Space.png", 50, 50));
+        tasks.add(preloadImage(IMAGE_LOCATION + "W.png", 50, 50));
+        tasks.add(preloadImage(IMAGE_LOCATION + "S.png", 50, 50));
+        tasks.add(preloadImage(IMAGE_LOCATION + "P.png", 50, 50));
+
+        // Levels and UI
+        tasks.add(preloadImage(IMAGE_LOCATION + "background1.jpg", 0, 0));
+        tasks.add(preloadImage(IMAGE_LOCATION + "background2.jpg", 0, 0));
+        tasks.add(preloadImage(IMAGE_LOCATION + "heart.png", 0, 30));
+        tasks.add(preloadImage(IMAGE_LOCATION + "shield.png", 450, 450));
+        tasks.add(preloadImage(IMAGE_LOCATION + "youwin.png", 600, 500));
+        tasks.add(preloadImage(IMAGE_LOCATION + "gameover.png", 0, 0));
+
+        // Actors, at the image heights they are displayed with
+        tasks.add(preloadImage(IMAGE_LOCATION + "userplane.png", 0, 75));
+        tasks.add(preloadImage(IMAGE_LOCATION + "enemyplane.png", 0, 70));
+        tasks.add(preloadImage(IMAGE_LOCATION + "bossplane.png", 0, 130));
+        tasks.add(preloadImage(IMAGE_LOCATION + "userfire1.png", 0, 10));
+        tasks.add(preloadImage(IMAGE_LOCATION + "enemyfire1.png", 0, 80));
+        tasks.add(preloadImage(IMAGE_LOCATION + "fireball1.png", 0, 70));
+
+        tasks.add(CompletableFuture.runAsync(() -> getFont("Orbitron.ttf", 15), executor));
+
+        preloadTask = CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[0]))
+                .whenComplete((result, error) -> {
+                    if (error != null) {
+                        System.out.println("Failed to preload assets: " + error.getMessage());
+                    } else {
+                        System.out.println("Preloaded " + images.size() + " images (" + getDecodedBytes() / 1024
+                                + " KB decoded) in " + (System.nanoTime() - startTime) / 1_000_000 + " ms");
+                    }
+                });
+        return preloadTask;
+    }
+
+    /**
+     * Runs a task on the asset manager's background executor.
+     *
+     * @param task the task to run
+     * @return a future completed when the task has run
+     */
+    public CompletableFuture<Void> runInBackground(Runnable task) {
+        return CompletableFuture.runAsync(task, executor);
+    }
+
+    /**
+     * Computes a value on the asset manager's background executor.
+     *
+     * @param task the task computing the value
+     * @param <T>  the type of the value
+     * @return a future completed with the value
+     */
+    public <T> CompletableFuture<T> supplyInBackground(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, executor);
+    }
+
+    /**
+     * Gets the total memory used by the decoded pixels of all cached images.
+     *
+     * @return the decoded size in bytes
+     */
+    public long getDecodedBytes() {
+        return decodedBytes.get();
+    }
+
+    /**
+     * Gets the number of decoded images in the cache.
+     *
+     * @return the number of cached images
+     */
+    public int getCachedImageCount() {
+        return images.size();
+    }
+
+    /**
+     * Schedules an image to be decoded on the background executor.
+     *
+     * @param imagePath the resource path of the image
+     * @param width     the width to decode the image at, or 0
+     * @param height    the height to decode the image at, or 0
+     * @return a future completed once the image is cached
+     */
+    private CompletableFuture<Void> preloadImage(String imagePath, double width, double height) {
+        return CompletableFuture.runAsync(() -> getImage(imagePath, width, height), executor);
+    }
+
+    /**
+     * Decodes an image and records the memory used by its pixels.
+     *
+     * @param imagePath the resource path of the image
+     * @param width     the width to decode the image at, or 0
+     * @param height    the height to decode the image at, or 0
+     * @return the decoded image
+     */
+    private Image decodeImage(String imagePath, double width, double height) {
+        boolean preserveRatio = width == 0 || height == 0;
+        Image image = new Image(findResource(imagePath).toExternalForm(), width, height, preserveRatio, true);
+        decodedBytes.addAndGet((long) image.getWidth() * (long) image.getHeight() * BYTES_PER_PIXEL);
+        return image;
+    }
+
+    /**
+     * Loads a font from the resource path.
+     *
+     * @param fontPath the resource path of the font
+     * @param size     the default size of the loaded font
+     * @return the loaded font
+     */
+    private Font loadFont(String fontPath, double size) {
+        try (InputStream stream = findResource(fontPath).openStream()) {
+            Font font = Font.loadFont(stream, size);
+            if (font == null) {
+                throw new IllegalArgumentException("Font could not be loaded: " + fontPath);
+            }
+            return font;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Font could not be read: " + fontPath, e);
+        }
+    }
+
+    /**
+     * Finds a resource on the class path.
+     *
+     * @param resourcePath the resource path
+     * @return the URL of the resource
+     * @throws IllegalArgumentException if the resource cannot be found
+     */
+    private URL findResource(String resourcePath) {
+        URL resourceUrl = AssetManager.class.getResource(resourcePath);
+        if (resourceUrl == null) {
+            throw new IllegalArgumentException("Resource not found: " + resourcePath);
+        }
+        return resourceUrl;
+    }
+}
@@ -21,7 +21,7 @@ public class BackgroundMusicPlayer {
      */
     private BackgroundMusicPlayer(String audioPath) {
         try {
-            Media backgroundMusic = new Media(BackgroundMusicPlayer.class.getResource(audioPath).toExternalForm());
+            Media backgroundMusic = AssetManager.getInstance().getMedia(audioPath);
             mediaPlayer = new MediaPlayer(backgroundMusic);
             mediaPlayer.setCycleCount(MediaPlayer.INDEFINITE);  // Play music in a loop
         } catch (Exception e) {
@@ -0,0 +1,227 @@
+package com.example.demo.manager;
+
+import java.util.function.DoubleConsumer;
+
+import com.example.demo.diagnostics.FrameEvent;
+import com.example.demo.diagnostics.GameEvents;
+
+import javafx.animation.AnimationTimer;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.util.Duration;
+
+/**
+ * The GameLoop class manages the main game loop.
+ * It handles starting, pausing, and stopping the game loop.
+ * <p>
+ * The simulation always advances in fixed steps so that gameplay does not depend on the display's refresh rate.
+ * In {@link Mode#FIXED_TIMESTEP} mode an {@link AnimationTimer} runs once per rendered frame, adds the elapsed
+ * time to an accumulator and runs as many steps as fit into it. The leftover fraction of a step is passed to the
+ * render task, which places every node between its previous and its current position. In {@link Mode#TIMELINE}
+ * mode a {@link Timeline} runs exactly one step per key frame, as the game originally did.
+ * </p>
+ * <p>
+ * The mode is chosen with the {@code game.loop.mode} system property and the number of steps per second with
+ * {@code game.loop.tickRate}. With the game's flight recorder events on (see {@link GameEvents}), every frame of
+ * the {@link Mode#FIXED_TIMESTEP} loop is recorded as a {@link FrameEvent}.
+ * </p>
+ */
+public class GameLoop {
+
+    /**
+     * The available ways of driving the game loop.
+     */
+    public enum Mode {
+        /** One step per key frame of a {@link Timeline}, without interpolation. */
+        TIMELINE,
+        /** Fixed steps driven by an {@link AnimationTimer}, with interpolated rendering. */
+        FIXED_TIMESTEP
+    }
+
+    private static final int DEFAULT_TICK_RATE = 20;  // Steps per second
+    private static final int MAX_STEPS_PER_FRAME = 5;  // Prevents the spiral of death after a long stall
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final Mode mode;
+    private final DoubleConsumer stepTask;
+    private final DoubleConsumer renderTask;
+    private final double stepSeconds;
+    private final long stepNanos;
+
+    private final Timeline timeline;
+    private final AnimationTimer animationTimer;
+    private long lastFrameTime;
+    private long accumulatedNanos;
+    private boolean running;
+
+    /**
+     * Constructs a new GameLoop instance using the mode and tick rate selected by the system properties.
+     *
+     * @param stepTask   the task advancing the simulation by the given number of seconds
+     * @param renderTask the task updating the nodes, given how far the frame is between the previous and the current step
+     */
+    public GameLoop(DoubleConsumer stepTask, DoubleConsumer renderTask) {
+        this(stepTask, renderTask, readMode(), Integer.getInteger("game.loop.tickRate", DEFAULT_TICK_RATE));
+    }
+
+    /**
+     * Constructs a new GameLoop instance with the specified mode and tick rate.
+     *
+     * @param stepTask   the task advancing the simulation by the given number of seconds
+     * @param renderTask the task updating the nodes, given how far the frame is between the previous and the current step
+     * @param mode       the way the loop is driven
+     * @param tickRate   the number of simulation steps per second
+     * @throws IllegalArgumentException if the tick rate is not positive
+     */
+    public GameLoop(DoubleConsumer stepTask, DoubleConsumer renderTask, Mode mode, int tickRate) {
+        if (tickRate <= 0) {
+            throw new IllegalArgumentException("Tick rate must be positive: " + tickRate);
+        }
+        this.mode = mode;
+        this.stepTask = stepTask;
+        this.renderTask = renderTask;
+        this.stepNanos = NANOS_PER_SECOND / tickRate;
+        this.stepSeconds = (double) stepNanos / NANOS_PER_SECOND;
+
+        if (mode == Mode.TIMELINE) {
+            this.timeline = new Timeline(new KeyFrame(Duration.seconds(stepSeconds), e -> {
+                stepTask.accept(stepSeconds);
+                renderTask.accept(1.0);
+            }));
+            this.timeline.setCycleCount(Timeline.INDEFINITE);
+            this.animationTimer = null;
+        } else {
+            this.timeline = null;
+            this.animationTimer = new AnimationTimer() {
+                @Override
+                public void handle(long now) {
+                    runFrame(now);
+                }
+            };
+        }
+    }
+
+    /**
+     * Starts or resumes the game loop.
+     * Time spent paused is not simulated.
+     */
+    public void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        lastFrameTime = 0;
+        if (timeline != null) {
+            timeline.play();
+        } else {
+            animationTimer.start();
+        }
+    }
+
+    /**
+     * Pauses the game loop.
+     */
+    public void pause() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        if (timeline != null) {
+            timeline.pause();
+        } else {
+            animationTimer.stop();
+        }
+    }
+
+    /**
+     * Stops the game loop.
+     */
+    public void stop() {
+        running = false;
+        accumulatedNanos = 0;
+        if (timeline != null) {
+            timeline.stop();
+        } else {
+            animationTimer.stop();
+        }
+    }
+
+    /**
+     * Checks if the game loop is currently running.
+     *
+     * @return true if running, false otherwise.
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Gets the way this loop is driven.
+     *
+     * @return the loop mode
+     */
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Gets the length of one simulation step.
+     *
+     * @return the step length in seconds
+     */
+    public double getStepSeconds() {
+        return stepSeconds;
+    }
+
+    /**
+     * Runs the simulation steps that fit into the time elapsed since the previous frame, then renders.
+     * <p>
+     * If the frame is so late that more than {@link #MAX_STEPS_PER_FRAME} steps are due, the remaining
+     * backlog is dropped and the game slows down instead of freezing while it catches up.
+     * </p>
+     *
+     * @param now the timestamp of the current frame in nanoseconds
+     */
+    private void runFrame(long now) {
+        if (lastFrameTime == 0) {
+            lastFrameTime = now;
+            return;
+        }
+        FrameEvent event = null;
+        if (GameEvents.ENABLED) {
+            event = new FrameEvent();
+            event.begin();
+        }
+        accumulatedNanos += now - lastFrameTime;
+        lastFrameTime = now;
+
+        int steps = 0;
+        long droppedSteps = 0;
+        while (accumulatedNanos >= stepNanos && running) {
+            stepTask.accept(stepSeconds);
+            accumulatedNanos -= stepNanos;
+            if (++steps == MAX_STEPS_PER_FRAME) {
+                droppedSteps = accumulatedNanos / stepNanos;
+                accumulatedNanos %= stepNanos;
+                break;
+            }
+        }
+        if (running) {
+            renderTask.accept((double) accumulatedNanos / stepNanos);
+        }
+        if (event != null) {
+            event.steps = steps;
+            event.droppedSteps = droppedSteps;
+            event.commit();
+        }
+    }
+
+    /**
+     * Reads the loop mode from the {@code game.loop.mode} system property.
+     *
+     * @return the selected mode, or {@link Mode#FIXED_TIMESTEP} if none is set
+     */
+    private static Mode readMode() {
+        return Mode.valueOf(System.getProperty("game.loop.mode", Mode.FIXED_TIMESTEP.name()));
+    }
+}
@@ -0,0 +1,195 @@
+package com.example.demo.manager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.example.demo.levels.LevelParent;
+import com.example.demo.replay.InputKey;
+import com.example.demo.replay.InputRecorder;
+import com.example.demo.replay.InputReplay;
+import com.example.demo.simulation.InputQueue;
+
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+
+/**
+ * The InputHandler class handles keyboard input for the game.
+ * It manages user plane movements, firing projectiles, and pausing/resuming the game.
+ * F3 shows or hides the performance overlay, also while the game is paused.
+ * <p>
+ * Gameplay keys are applied as {@link InputKey}s: a press or release is offered to the simulation's
+ * {@link InputQueue}, which the simulation drains into its key state at the start of the next step. Handling a key
+ * never touches the user plane and never waits for the simulation, so the keyboard's repeat rate changes nothing
+ * and the level could be stepped on another thread. While recording, every change of a key's state is written
+ * to an {@link InputRecorder} when the simulation applies it, with the step it was applied before; repeated
+ * presses of a held key are not. While replaying, the keyboard no longer steers the plane: the recorded inputs
+ * are applied instead, before the same steps.
+ * </p>
+ */
+public class InputHandler {
+    private LevelParent levelParent; // Reference to LevelParent for firing projectiles
+    private boolean isPaused; // Track if the game is paused
+    private InputRecorder recorder; // Records the applied inputs, or null
+    private Path recordingFile; // Where the recording is saved once it is finished
+    private InputReplay replay; // Feeds recorded inputs in place of the keyboard, or null
+    private int heldKeys; // The bits of the gameplay keys held on the keyboard
+
+    /**
+     * Constructs a new InputHandler instance for the specified level parent.
+     *
+     * @param levelParent the level parent
+     */
+    public InputHandler(LevelParent levelParent) {
+        this.levelParent = levelParent;
+        this.isPaused = false; // Initially, the game is not paused
+    }
+
+    /**
+     * Sets the paused state of the game.
+     *
+     * @param paused the new paused state
+     */
+    public void setPaused(boolean paused) {
+        this.isPaused = paused; // Update the pause state from outside
+    }
+
+    /**
+     * Starts recording every applied input, to be saved to the specified file when the recording stops.
+     *
+     * @param recorder the recorder, whose header describes the level
+     * @param file     the file the log is saved to
+     */
+    public void startRecording(InputRecorder recorder, Path file) {
+        this.recorder = recorder;
+        this.recordingFile = file;
+    }
+
+    /**
+     * Stops the recording, if there is one, and saves the log. Stopping twice does nothing.
+     */
+    public void stopRecording() {
+        if (recorder == null || recorder.isFinished()) {
+            return;
+        }
+        byte[] log = recorder.finish(levelParent.getSimulation().getStepCount());
+        try {
+            Files.createDirectories(recordingFile.toAbsolutePath().getParent());
+            Files.write(recordingFile, log);
+            System.out.println("Recorded " + log.length + " bytes of input to " + recordingFile);
+        } catch (IOException e) {
+            System.out.println("Failed to save input recording: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Replaces the keyboard with a recorded log.
+     *
+     * @param replay the replay, built for this level
+     */
+    public void startReplay(InputReplay replay) {
+        this.replay = replay;
+    }
+
+    /**
+     * Applies the replayed inputs due before the next step. Called by the level before every step.
+     */
+    public void beforeStep() {
+        if (replay != null) {
+            replay.applyDueInputs(levelParent.getSimulation());
+        }
+    }
+
+    /**
+     * Records a keyboard input as the simulation applies it, if a recording is running. Called on the thread that
+     * steps the level, so the recorded step is exactly the one the input took effect at.
+     *
+     * @param tick    the number of steps the simulation had run before the step that applies the input
+     * @param keys    the bits of the keys
+     * @param pressed whether the keys were pressed or released
+     */
+    public void inputApplied(long tick, int keys, boolean pressed) {
+        if (recorder != null && !recorder.isFinished()) {
+            recorder.record(tick, keys, pressed);
+        }
+    }
+
+    /**
+     * Handles key pressed events.
+     * Manages user plane movements, firing projectiles, and toggling pause/resume.
+     *
+     * @param e the key event
+     */
+    public void handleKeyPressed(KeyEvent e) {
+        KeyCode kc = e.getCode();
+        
+        if (kc == KeyCode.P) {
+            togglePause(); // Toggle pause/resume when 'P' is pressed
+        }
+
+        if (kc == KeyCode.F3) {
+            levelParent.togglePerformanceOverlay(); // Show or hide the performance overlay
+        }
+
+        if (isPaused) {
+            return; // Ignore input events if the game is paused
+        }
+
+        if (kc == KeyCode.W) apply(InputKey.UP, true);
+        if (kc == KeyCode.S) apply(InputKey.DOWN, true);
+        if (kc == KeyCode.SPACE) apply(InputKey.FIRE, true);
+    }
+
+    /**
+     * Handles key released events.
+     * Releases the movement and fire keys.
+     *
+     * @param e the key event
+     */
+    public void handleKeyReleased(KeyEvent e) {
+        if (isPaused) {
+            return; // Ignore input events if the game is paused
+        }
+
+        KeyCode kc = e.getCode();
+        if (kc == KeyCode.W) apply(InputKey.UP, false);
+        if (kc == KeyCode.S) apply(InputKey.DOWN, false);
+        if (kc == KeyCode.SPACE) apply(InputKey.FIRE, false);
+    }
+
+    /**
+     * Offers a gameplay input from the keyboard to the level's input queue. Keyboard input is ignored while a
+     * replay steers the plane, and so are inputs that leave the key as it is.
+     *
+     * @param key     the key
+     * @param pressed whether the key was pressed or released
+     */
+    private void apply(InputKey key, boolean pressed) {
+        if (replay != null) {
+            return;
+        }
+        if (((heldKeys & key.getBit()) != 0) == pressed) {
+            return;  // Auto-repeat of a held key, or the release of a key pressed before the level started
+        }
+        if (!levelParent.getSimulation().getInputQueue().offer(key.getBit(), pressed)) {
+            return;  // The simulation is too far behind; the key keeps its state, so a repeat retries it
+        }
+        heldKeys ^= key.getBit();
+    }
+
+    /**
+     * Toggles the paused state of the game.
+     * Pauses or resumes the game loop and background music.
+     */
+    private void togglePause() {
+        isPaused = !isPaused; // Toggle the pause state
+
+        if (isPaused) {
+            levelParent.pauseGame(); // Pause the game loop when paused
+            BackgroundMusicPlayer.getInstance().pause(); 
+        } else {
+            levelParent.startGame(); // Resume the game loop when unpaused
+            BackgroundMusicPlayer.getInstance().resume();
+        }
+    }
+}
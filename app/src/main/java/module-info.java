@@ -4,13 +4,15 @@ module com.example.demo {
     requires javafx.fxml;
     requires transitive javafx.base;
     requires javafx.media;
+    requires java.management;
+    requires jdk.jfr;
+    requires com.example.demo.core;
     requires org.junit.jupiter.api;
     requires org.testfx.junit5;
     requires org.junit.platform.commons;
 
     requires transitive javafx.graphics;
     opens com.example.demo.UI to javafx.fxml;
-    opens com.example.demo.characters to javafx.fxml;
     opens com.example.demo.controller to javafx.fxml;
     opens com.example.demo.levels to javafx.fxml;
     opens com.example.demo.manager to javafx.fxml;
@@ -0,0 +1,55 @@
+package com.example.demo.controller;
+
+import java.lang.ref.WeakReference;
+
+import com.example.demo.levels.LevelParent;
+
+import javafx.stage.Stage;
+import org.junit.jupiter.api.Test;
+import org.testfx.framework.junit5.ApplicationTest;
+import org.testfx.util.WaitForAsyncUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ControllerTest extends ApplicationTest {
+
+    private Controller controller;
+
+    @Override
+    public void start(Stage stage) {
+        controller = new Controller(stage);
+    }
+
+    @Test
+    void testNextLevelStartsFromThePreparedLevel() {
+        interact(controller::launchGame);
+        assertTrue(controller.getLastTransitionNanos() > 0);
+
+        interact(() -> controller.handleLevelChange("com.example.demo.LevelSemi"));
+        LevelParent level = controller.getCurrentLevel();
+        assertEquals("LevelSemi", level.getClass().getSimpleName());
+        assertEquals(LevelParent.State.RUNNING, level.getState());
+        assertNotNull(controller.getStage().getScene());
+    }
+
+    @Test
+    void testReplacedLevelIsDisposedAndCollected() throws InterruptedException {
+        interact(controller::launchGame);
+        LevelParent firstLevel = controller.getCurrentLevel();
+        assertEquals(LevelParent.State.RUNNING, firstLevel.getState());
+
+        interact(() -> controller.handleLevelChange("com.example.demo.LevelTwo"));
+        assertNotSame(firstLevel, controller.getCurrentLevel());
+        assertEquals(LevelParent.State.DISPOSED, firstLevel.getState());
+        assertThrows(IllegalStateException.class, firstLevel::startGame);
+
+        WeakReference<LevelParent> reference = new WeakReference<>(firstLevel);
+        firstLevel = null;
+        for (int attempt = 0; attempt < 50 && reference.get() != null; attempt++) {
+            WaitForAsyncUtils.waitForFxEvents();  // Let a pulse go by, so the old scene is no longer referenced
+            System.gc();
+            Thread.sleep(20);
+        }
+        assertNull(reference.get(), "The replaced level is still reachable");
+    }
+}
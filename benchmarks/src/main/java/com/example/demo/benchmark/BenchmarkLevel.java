@@ -0,0 +1,119 @@
+package com.example.demo.benchmark;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import com.example.demo.characters.ActiveActorDestructible;
+import com.example.demo.characters.EnemyPlane;
+import com.example.demo.ecs.Archetype;
+import com.example.demo.simulation.Faction;
+import com.example.demo.simulation.LevelSimulation;
+import com.example.demo.simulation.ProjectileType;
+
+/**
+ * A level that keeps a fixed population on screen, so every step of a benchmark does the same amount of work.
+ * <p>
+ * The level holds {@code entityCount} enemy planes and {@code entityCount} user projectiles. A share of the
+ * projectiles given by the hit density is placed on an enemy, the others fly in a lane left of every enemy.
+ * Whenever enemies or projectiles are removed, whether destroyed or culled, the next step replaces them.
+ * The level never ends.
+ * </p>
+ * <p>
+ * An immortal level has enemies that neither move nor fire and projectiles that survive their hits, so
+ * collisions can be resolved again and again on the same world.
+ * </p>
+ */
+public class BenchmarkLevel extends LevelSimulation {
+
+    /** The screen width of the game. */
+    public static final double SCREEN_WIDTH = 1300;
+    /** The screen height of the game. */
+    public static final double SCREEN_HEIGHT = 750;
+
+    private static final int PLAYER_INITIAL_HEALTH = 5;
+    private static final double ENEMY_MINIMUM_X_POSITION = 300;
+    private static final double MISS_LANE_MINIMUM_X_POSITION = 120;
+    private static final double MISS_LANE_WIDTH = 150;
+    private static final double ENEMY_VELOCITY = -120;  // Pixels per second
+    private static final double ENEMY_FIRE_RATE = 0.01;
+    private static final int IMMORTAL_HEALTH = Integer.MAX_VALUE;
+
+    private final int entityCount;
+    private final double hitDensity;
+    private final boolean immortal;
+    private final SplittableRandom random;
+
+    /**
+     * Constructs a populated benchmark level.
+     *
+     * @param entityCount the number of enemy planes, and the number of projectiles
+     * @param hitDensity  the share of projectiles spawned on an enemy, from 0.0 to 1.0
+     * @param immortal    whether enemies stay in place and nothing is destroyed by collisions
+     * @param seed        the seed of the positions and of the level's random sources
+     */
+    public BenchmarkLevel(int entityCount, double hitDensity, boolean immortal, long seed) {
+        super(SCREEN_HEIGHT, SCREEN_WIDTH, PLAYER_INITIAL_HEALTH, seed);
+        this.entityCount = entityCount;
+        this.hitDensity = hitDensity;
+        this.immortal = immortal;
+        this.random = new SplittableRandom(seed);
+        spawnEnemyUnits();
+        getProjectiles().flush();
+        if (immortal) {
+            Archetype projectiles = getProjectiles().getArchetype();
+            Arrays.fill(projectiles.getHealth(), 0, projectiles.size(), IMMORTAL_HEALTH);
+        }
+    }
+
+    /**
+     * Tops the population up to the entity count.
+     */
+    @Override
+    public void spawnEnemyUnits() {
+        while (getCurrentNumberOfEnemies() < entityCount) {
+            addEnemyUnit(createEnemy());
+        }
+        for (int i = getProjectiles().count(Faction.FRIENDLY); i < entityCount; i++) {
+            spawnProjectile();
+        }
+    }
+
+    /**
+     * Never ends the level.
+     */
+    @Override
+    protected void checkIfGameOver() {
+    }
+
+    /**
+     * Creates an enemy at a random position on screen, right of the projectiles' miss lane.
+     *
+     * @return the enemy
+     */
+    private ActiveActorDestructible createEnemy() {
+        double x = random.nextDouble(ENEMY_MINIMUM_X_POSITION, SCREEN_WIDTH);
+        double y = random.nextDouble(getEnemyMaximumYPosition());
+        return immortal
+                ? new EnemyPlane(x, y, 0, 0, IMMORTAL_HEALTH, getProjectiles(), getRandom().getEnemyFire())
+                : new EnemyPlane(x, y, ENEMY_VELOCITY, ENEMY_FIRE_RATE, 1, getProjectiles(), getRandom().getEnemyFire());
+    }
+
+    /**
+     * Queues a user projectile, either on a random enemy or in the miss lane.
+     */
+    private void spawnProjectile() {
+        List<ActiveActorDestructible> enemies = getEnemyUnits();
+        ProjectileType type = ProjectileType.USER;
+        if (!enemies.isEmpty() && random.nextDouble() < hitDensity) {
+            ActiveActorDestructible enemy = enemies.get(random.nextInt(enemies.size()));
+            double x = (enemy.getMinX() + enemy.getMaxX() - type.getWidth()) / 2;
+            double y = (enemy.getMinY() + enemy.getMaxY() - type.getHeight()) / 2;
+            getProjectiles().spawn(type, x, y);
+        } else {
+            double x = MISS_LANE_MINIMUM_X_POSITION + random.nextDouble(MISS_LANE_WIDTH - type.getWidth());
+            double y = random.nextDouble(SCREEN_HEIGHT - type.getHeight());
+            getProjectiles().spawn(type, x, y);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.demo.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import com.example.demo.simulation.CollisionManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures one pass of {@link CollisionManager#handleCollisions()} over a world of enemies and user projectiles.
+ * <p>
+ * The level is immortal, so the same world is resolved on every invocation: the hit density decides how many
+ * projectiles overlap an enemy and therefore how much damage handling each pass does. The level is rebuilt
+ * every iteration, long before any health could run out.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollisionBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    public int entityCount;
+
+    @Param({"0.0", "0.1", "1.0"})
+    public double hitDensity;
+
+    @Param({"SPATIAL_HASH", "BRUTE_FORCE"})
+    public CollisionManager.BroadphaseMode broadphase;
+
+    private CollisionManager collisionManager;
+
+    /**
+     * Builds a fresh immortal level.
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        BenchmarkLevel level = new BenchmarkLevel(entityCount, hitDensity, true, 42);
+        collisionManager = level.getCollisionManager();
+        collisionManager.setBroadphaseMode(broadphase);
+    }
+
+    /**
+     * Resolves every collision of the world once.
+     */
+    @Benchmark
+    public void handleCollisions() {
+        collisionManager.handleCollisions();
+    }
+}
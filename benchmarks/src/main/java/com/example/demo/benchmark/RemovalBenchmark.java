@@ -0,0 +1,74 @@
+package com.example.demo.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import com.example.demo.ecs.Archetype;
+import com.example.demo.simulation.ProjectileSystem;
+import com.example.demo.simulation.ProjectileType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the removal of destroyed projectiles at the end of a step.
+ * <p>
+ * Each invocation destroys the share of projectiles given by the hit density, scattered over the rows, flushes
+ * the removals and spawns the same number of projectiles back, so the world keeps its size. The report therefore
+ * covers a removal and a spawn flush, as happens when shots hit and new shots are fired in the same step.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RemovalBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    public int entityCount;
+
+    @Param({"0.01", "0.1", "1.0"})
+    public double hitDensity;
+
+    private ProjectileSystem projectiles;
+    private int removedPerStep;
+    private int stride;
+
+    /**
+     * Builds the projectile world.
+     */
+    @Setup
+    public void setUp() {
+        projectiles = new BenchmarkLevel(entityCount, 0, false, 42).getProjectiles();
+        removedPerStep = Math.max(1, (int) Math.round(entityCount * hitDensity));
+        stride = Math.max(1, entityCount / removedPerStep);
+    }
+
+    /**
+     * Removes the hit projectiles and refills the world.
+     *
+     * @return the number of projectiles, so the work cannot be optimised away
+     */
+    @Benchmark
+    public int destroyAndRespawn() {
+        Archetype archetype = projectiles.getArchetype();
+        for (int i = 0, row = 0; i < removedPerStep; i++, row += stride) {
+            projectiles.damage(row % archetype.size());
+        }
+        projectiles.flush();
+        for (int i = archetype.size(); i < entityCount; i++) {
+            projectiles.spawn(ProjectileType.USER, 200, i % BenchmarkLevel.SCREEN_HEIGHT);
+        }
+        projectiles.flush();
+        return archetype.size();
+    }
+}
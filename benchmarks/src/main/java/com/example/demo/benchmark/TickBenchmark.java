@@ -0,0 +1,63 @@
+package com.example.demo.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import com.example.demo.simulation.SimulationTime;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a full simulation step, the headless equivalent of the game loop's update: spawning, actor updates,
+ * enemy fire, collisions, removal and the game over check.
+ * <p>
+ * The level replaces every enemy and projectile it loses, so the population stays at the entity count while
+ * enemies die, fire back and leave the screen. Running with and without the tick profiler shows what the
+ * per-phase timing costs.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TickBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    public int entityCount;
+
+    @Param({"0.0", "0.1", "1.0"})
+    public double hitDensity;
+
+    @Param({"false", "true"})
+    public boolean profiled;
+
+    private BenchmarkLevel level;
+
+    /**
+     * Builds a fresh level, so every iteration starts from the same population.
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        level = new BenchmarkLevel(entityCount, hitDensity, false, 42);
+        level.getProfiler().setEnabled(profiled);
+    }
+
+    /**
+     * Runs one simulation step.
+     */
+    @Benchmark
+    public void step() {
+        level.step(SimulationTime.REFERENCE_STEP_SECONDS);
+    }
+}
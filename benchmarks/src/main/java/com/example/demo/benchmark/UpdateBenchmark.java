@@ -0,0 +1,70 @@
+package com.example.demo.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.example.demo.characters.ActiveActorDestructible;
+import com.example.demo.simulation.ProjectileSystem;
+import com.example.demo.simulation.SimulationTime;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the per-step update of actors: the projectile movement over the entity arrays, and the virtual
+ * {@code updateActor} calls of the enemy planes.
+ * <p>
+ * Projectiles are measured up to 100,000, the target of the entity store being a full update of that many
+ * in under a millisecond.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UpdateBenchmark {
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int entityCount;
+
+    private ProjectileSystem projectiles;
+    private List<ActiveActorDestructible> enemies;
+
+    /**
+     * Builds a level with the requested number of enemies and projectiles.
+     */
+    @Setup
+    public void setUp() {
+        BenchmarkLevel level = new BenchmarkLevel(entityCount, 0, false, 42);
+        projectiles = level.getProjectiles();
+        enemies = level.getEnemyUnits();
+    }
+
+    /**
+     * Moves every projectile by one step.
+     */
+    @Benchmark
+    public void moveProjectiles() {
+        projectiles.move(SimulationTime.REFERENCE_STEP_SECONDS);
+    }
+
+    /**
+     * Updates every enemy plane by one step, as the level does for its unit lists.
+     */
+    @Benchmark
+    public void updatePlanes() {
+        for (int i = 0; i < enemies.size(); i++) {
+            enemies.get(i).updateActor(SimulationTime.REFERENCE_STEP_SECONDS);
+        }
+    }
+}
@@ -0,0 +1,377 @@
+package com.example.demo.characters;
+
+/**
+ * Represents an active actor in the game.
+ * <p>
+ * An active actor is a movable element of the game world. It holds the actor's position, hitbox and the
+ * name of the sprite it is drawn with, but no JavaFX state, so the whole simulation can run headless.
+ * The view layer creates a sprite for each actor and copies the actor's position to it when rendering.
+ * </p>
+ * <p>
+ * The simulated position of the actor is kept as an offset from the position it was spawned at.
+ * The simulation moves the actor in fixed steps, and {@link #getInterpolatedOffsetX(double)} places the actor
+ * between the previous and the current step so motion stays smooth at any display refresh rate. The actor also
+ * keeps its axis-aligned bounds as primitive fields, refreshed only when its position actually changes, so
+ * collision checks read them directly.
+ * </p>
+ * <p>
+ * The simulation also tracks how long the actor has been in the world and whether it is inside the screen.
+ * An actor spawned beyond the edge of the screen is not drawn until it enters it, and can only be culled once
+ * it has been on screen; an actor type may also bound its lifetime by overriding {@link #getMaxLifetime()}.
+ * </p>
+ */
+public abstract class ActiveActor {
+
+    /** The name of the image the actor is drawn with. */
+    private final String imageName;
+
+    /** The size of the actor's hitbox, which matches the size of its sprite. */
+    private final double width;
+    private final double height;
+
+    /** The position the actor was spawned at. */
+    private double originX;
+    private double originY;
+
+    /** The simulated offset from the origin, and its value at the end of the previous step. */
+    private double offsetX;
+    private double offsetY;
+    private double previousOffsetX;
+    private double previousOffsetY;
+
+    /** The cached bounds of the actor in world coordinates. */
+    private double minX;
+    private double minY;
+    private double maxX;
+    private double maxY;
+
+    /** The time the actor has spent in the world, and whether it is and has ever been inside the screen. */
+    private double age;
+    private boolean onScreen;
+    private boolean enteredScreen;
+
+    /**
+     * Constructs an ActiveActor with the specified image, size and position.
+     * <p>
+     * Initializes the actor with the name of its image and a hitbox of the size the image is displayed with,
+     * and positions it at the specified X and Y coordinates on the game screen.
+     * </p>
+     *
+     * @param imageName   the name of the image file to use (e.g., "hero.png")
+     * @param imageWidth  the width the image is displayed with (in pixels)
+     * @param imageHeight the height the image is displayed with (in pixels)
+     * @param initialXPos the initial X position of the actor on the screen
+     * @param initialYPos the initial Y position of the actor on the screen
+     */
+    public ActiveActor(String imageName, double imageWidth, double imageHeight, double initialXPos, double initialYPos) {
+        this.imageName = imageName;
+        this.width = imageWidth;
+        this.height = imageHeight;
+        setOrigin(initialXPos, initialYPos);
+    }
+
+    /**
+     * Abstract method to be implemented by subclasses to update the actor's position.
+     * <p>
+     * Subclasses will define how the actor's position changes based on game logic,
+     * such as movement, collisions, or interactions.
+     * </p>
+     *
+     * @param deltaSeconds the length of the simulation step (in seconds)
+     */
+    public abstract void updatePosition(double deltaSeconds);
+
+    /**
+     * Moves the actor horizontally by the specified distance.
+     * <p>
+     * Updates the actor's horizontal position by changing the X-coordinate with the given
+     * distance. This movement is relative to the actor's current position.
+     * </p>
+     *
+     * @param horizontalMove the distance to move horizontally (in pixels)
+     */
+    protected void moveHorizontally(double horizontalMove) {
+        setOffsetX(offsetX + horizontalMove);
+    }
+
+    /**
+     * Moves the actor vertically by the specified distance.
+     * <p>
+     * Updates the actor's vertical position by changing the Y-coordinate with the provided
+     * distance. This movement is relative to the actor's current position.
+     * </p>
+     *
+     * @param verticalMove the distance to move vertically (in pixels)
+     */
+    protected void moveVertically(double verticalMove) {
+        setOffsetY(offsetY + verticalMove);
+    }
+
+    /**
+     * Gets the simulated horizontal offset of the actor from the position it was spawned at.
+     *
+     * @return the horizontal offset (in pixels)
+     */
+    public double getOffsetX() {
+        return offsetX;
+    }
+
+    /**
+     * Gets the simulated vertical offset of the actor from the position it was spawned at.
+     *
+     * @return the vertical offset (in pixels)
+     */
+    public double getOffsetY() {
+        return offsetY;
+    }
+
+    /**
+     * Sets the simulated horizontal offset of the actor from the position it was spawned at.
+     *
+     * @param offsetX the new horizontal offset (in pixels)
+     */
+    protected void setOffsetX(double offsetX) {
+        if (this.offsetX != offsetX) {
+            this.offsetX = offsetX;
+            updateBounds();
+        }
+    }
+
+    /**
+     * Sets the simulated vertical offset of the actor from the position it was spawned at.
+     *
+     * @param offsetY the new vertical offset (in pixels)
+     */
+    protected void setOffsetY(double offsetY) {
+        if (this.offsetY != offsetY) {
+            this.offsetY = offsetY;
+            updateBounds();
+        }
+    }
+
+    /**
+     * Gets the simulated X position of the actor.
+     *
+     * @return the X position (in pixels)
+     */
+    public double getPositionX() {
+        return originX + offsetX;
+    }
+
+    /**
+     * Gets the simulated Y position of the actor.
+     *
+     * @return the Y position (in pixels)
+     */
+    public double getPositionY() {
+        return originY + offsetY;
+    }
+
+    /**
+     * Moves the actor to a new spawn position and clears its offset and interpolation history.
+     *
+     * @param initialXPos the new X position of the actor
+     * @param initialYPos the new Y position of the actor
+     */
+    protected void setOrigin(double initialXPos, double initialYPos) {
+        originX = initialXPos;
+        originY = initialYPos;
+        offsetX = 0;
+        offsetY = 0;
+        previousOffsetX = 0;
+        previousOffsetY = 0;
+        updateBounds();
+    }
+
+    /**
+     * Records the current position as the start of the next simulation step.
+     * Called once per step, before any actor is updated.
+     */
+    public void savePreviousPosition() {
+        previousOffsetX = offsetX;
+        previousOffsetY = offsetY;
+    }
+
+    /**
+     * Gets the horizontal offset of the actor interpolated between the previous and the current step.
+     *
+     * @param alpha how far the renderer is between the previous and the current step, from 0.0 to 1.0
+     * @return the interpolated horizontal offset (in pixels)
+     */
+    public double getInterpolatedOffsetX(double alpha) {
+        return previousOffsetX + (offsetX - previousOffsetX) * alpha;
+    }
+
+    /**
+     * Gets the vertical offset of the actor interpolated between the previous and the current step.
+     *
+     * @param alpha how far the renderer is between the previous and the current step, from 0.0 to 1.0
+     * @return the interpolated vertical offset (in pixels)
+     */
+    public double getInterpolatedOffsetY(double alpha) {
+        return previousOffsetY + (offsetY - previousOffsetY) * alpha;
+    }
+
+    /**
+     * Gets the X position the actor was spawned at.
+     *
+     * @return the spawn X position (in pixels)
+     */
+    public double getOriginX() {
+        return originX;
+    }
+
+    /**
+     * Gets the Y position the actor was spawned at.
+     *
+     * @return the spawn Y position (in pixels)
+     */
+    public double getOriginY() {
+        return originY;
+    }
+
+    /**
+     * Gets the name of the image the actor is drawn with.
+     *
+     * @return the image file name
+     */
+    public String getImageName() {
+        return imageName;
+    }
+
+    /**
+     * Gets the width of the actor's hitbox.
+     *
+     * @return the width (in pixels)
+     */
+    public double getWidth() {
+        return width;
+    }
+
+    /**
+     * Gets the height of the actor's hitbox.
+     *
+     * @return the height (in pixels)
+     */
+    public double getHeight() {
+        return height;
+    }
+
+    /**
+     * Gets the minimum X coordinate of the actor's bounds in its parent.
+     *
+     * @return the cached minimum X coordinate
+     */
+    public double getMinX() {
+        return minX;
+    }
+
+    /**
+     * Gets the minimum Y coordinate of the actor's bounds in its parent.
+     *
+     * @return the cached minimum Y coordinate
+     */
+    public double getMinY() {
+        return minY;
+    }
+
+    /**
+     * Gets the maximum X coordinate of the actor's bounds in its parent.
+     *
+     * @return the cached maximum X coordinate
+     */
+    public double getMaxX() {
+        return maxX;
+    }
+
+    /**
+     * Gets the maximum Y coordinate of the actor's bounds in its parent.
+     *
+     * @return the cached maximum Y coordinate
+     */
+    public double getMaxY() {
+        return maxY;
+    }
+
+    /**
+     * Adds the length of a simulation step to the time the actor has spent in the world.
+     *
+     * @param deltaSeconds the length of the simulation step (in seconds)
+     */
+    public void advanceAge(double deltaSeconds) {
+        age += deltaSeconds;
+    }
+
+    /**
+     * Gets the time the actor has spent in the world.
+     *
+     * @return the age (in seconds)
+     */
+    public double getAge() {
+        return age;
+    }
+
+    /**
+     * Gets the longest time an actor of this type may stay in the world before it is despawned.
+     * Actors live until they are destroyed or leave the screen by default; types override this to bound it.
+     *
+     * @return the maximum lifetime (in seconds), or positive infinity if it is unbounded
+     */
+    public double getMaxLifetime() {
+        return Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Records whether the actor overlaps the screen.
+     *
+     * @param screenWidth  the width of the screen
+     * @param screenHeight the height of the screen
+     */
+    public void updateScreenState(double screenWidth, double screenHeight) {
+        onScreen = maxX > 0 && minX < screenWidth && maxY > 0 && minY < screenHeight;
+        enteredScreen |= onScreen;
+    }
+
+    /**
+     * Checks whether the actor overlapped the screen when its screen state was last updated.
+     * Actors off screen are not drawn.
+     *
+     * @return true if the actor is on screen
+     */
+    public boolean isOnScreen() {
+        return onScreen;
+    }
+
+    /**
+     * Checks whether the actor has ever been on screen. Actors still waiting to enter it are never culled.
+     *
+     * @return true if the actor has been on screen
+     */
+    public boolean hasEnteredScreen() {
+        return enteredScreen;
+    }
+
+    /**
+     * Checks whether this actor's bounds intersect another actor's bounds.
+     * <p>
+     * Uses the cached bounds, so no bounds object is created. Edges that touch count as an
+     * intersection, as they do with JavaFX's {@code Bounds.intersects}.
+     * </p>
+     *
+     * @param other the actor to test against
+     * @return true if the bounds of both actors intersect, false otherwise
+     */
+    public boolean intersects(ActiveActor other) {
+        return other.maxX >= minX && other.maxY >= minY && other.minX <= maxX && other.minY <= maxY;
+    }
+
+    /**
+     * Recomputes the cached bounds from the hitbox size and the simulated position.
+     */
+    private void updateBounds() {
+        minX = getPositionX();
+        minY = getPositionY();
+        maxX = minX + width;
+        maxY = minY + height;
+    }
+}
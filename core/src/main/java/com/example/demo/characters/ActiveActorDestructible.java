@@ -16,16 +16,18 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
     /**
      * Constructor to initialize the destructible active actor.
      * <p>
-     * Sets up the actor with the specified image, height, and position on the screen.
+     * Sets up the actor with the specified image, size, and position on the screen.
      * </p>
      *
      * @param imageName   The name of the image file representing the actor.
+     * @param imageWidth  The width of the actor's image (in pixels).
      * @param imageHeight The height of the actor's image (in pixels).
      * @param initialXPos The initial X-coordinate where the actor will be placed.
      * @param initialYPos The initial Y-coordinate where the actor will be placed.
      */
-    public ActiveActorDestructible(String imageName, int imageHeight, double initialXPos, double initialYPos) {
-        super(imageName, imageHeight, initialXPos, initialYPos);
+    public ActiveActorDestructible(String imageName, double imageWidth, double imageHeight, double initialXPos,
+                                   double initialYPos) {
+        super(imageName, imageWidth, imageHeight, initialXPos, initialYPos);
     }
 
     /**
@@ -34,9 +36,11 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
      * Subclasses must provide an implementation for this method to define how the actor moves
      * and interacts with the environment.
      * </p>
+     *
+     * @param deltaSeconds The length of the simulation step (in seconds).
      */
     @Override
-    public abstract void updatePosition();
+    public abstract void updatePosition(double deltaSeconds);
 
     /**
      * Updates the state or behavior of the actor.
@@ -44,8 +48,10 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
      * Subclasses must implement this method to define specific behaviors such as movement,
      * interaction, animations, or any custom logic required in the game.
      * </p>
+     *
+     * @param deltaSeconds The length of the simulation step (in seconds).
      */
-    public abstract void updateActor();
+    public abstract void updateActor(double deltaSeconds);
 
     /**
      * Handles the logic for taking damage.
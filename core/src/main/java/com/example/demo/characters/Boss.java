@@ -0,0 +1,314 @@
+package com.example.demo.characters;
+
+import java.util.*;
+import com.example.demo.event.GameEventBus;
+import com.example.demo.event.GameEventType;
+import com.example.demo.simulation.ProjectileSystem;
+import com.example.demo.simulation.ProjectileType;
+import com.example.demo.simulation.SimulationTime;
+
+/**
+ * Represents the boss character in the game.
+ * <p>
+ * The Boss class extends {@link FighterPlane} and contains functionalities such as movement patterns,
+ * shield mechanics, projectile attacks, health management, and damage interactions.
+ * It has an evolving shield state; every change of the shield and every hit on the boss is published as a
+ * {@link GameEventType#BOSS_SHIELD_CHANGED} or {@link GameEventType#BOSS_DAMAGED} event, which the view layer
+ * follows to draw the shield and the health bar.
+ * </p>
+ */
+public class Boss extends FighterPlane {
+
+	private static final String IMAGE_NAME = "bossplane.png";
+	private static final double INITIAL_X_POSITION = 1000.0;
+	private static final double INITIAL_Y_POSITION = 400;
+	private static final double PROJECTILE_X_POSITION = 950;
+	private static final double PROJECTILE_Y_POSITION_OFFSET = 75;
+	private static final double BOSS_FIRE_RATE = 0.1;
+	private static final double BOSS_SHIELD_PROBABILITY = .1;
+	private static final int IMAGE_HEIGHT = 130;
+	private static final double IMAGE_WIDTH = IMAGE_HEIGHT * 670.0 / 373;  // bossplane.png is 670x373
+	private static final int VERTICAL_VELOCITY = 160;  // Pixels per second
+	private static final int HEALTH = 10;
+	private static final int MOVE_FREQUENCY_PER_CYCLE = 5;
+	private static final int ZERO = 0;
+	private static final long MAX_NANOS_WITH_SAME_MOVE = SimulationTime.toNanos(0.5);
+	private static final int Y_POSITION_UPPER_BOUND = 0;
+	private static final int Y_POSITION_LOWER_BOUND = 525;
+	private static final long MAX_NANOS_WITH_SHIELD = SimulationTime.toNanos(5.0);
+	/** List representing the boss's movement pattern, as vertical velocities in pixels per second */
+	private final List<Integer> movePattern;
+	/** The current state of the boss's shield */
+	private ShieldState shieldState;
+	/** The time spent moving in the same direction, in nanoseconds */
+	private long nanosWithSameMove;
+	/** The index of the current move in the move pattern */
+	private int indexOfCurrentMove;
+	/** The time the shield has been activated, in nanoseconds */
+	private long nanosWithShieldActivated;
+	/** The length of the latest simulation step, used to scale the per-step chances */
+	private double stepSeconds = SimulationTime.REFERENCE_STEP_SECONDS;
+	/** The projectile system the boss's projectiles are spawned in */
+	private final ProjectileSystem projectiles;
+	/** The random stream deciding the boss's moves, shots and shield */
+	private final SplittableRandom random;
+	/** The bus the boss's shield changes and hits are published on */
+	private final GameEventBus events;
+
+	 /**
+     * Enum representing the possible states of the boss's shield.
+     */
+	public enum ShieldState {
+		ACTIVE,   // Shield is fully functional
+		DAMAGED,  // Shield is partially functional
+		INACTIVE; // Shield is off
+
+		private static final ShieldState[] VALUES = values();
+
+		/**
+		 * Gets the shield state with the specified ordinal, as carried by a shield event.
+		 *
+		 * @param ordinal the ordinal
+		 * @return the shield state
+		 */
+		public static ShieldState of(int ordinal) {
+			return VALUES[ordinal];
+		}
+	}
+	
+ 	/**
+     * Constructs the boss character with default properties and initializes essential components.
+     * <p>
+     * Sets up the boss's image, movement pattern, shield mechanics, and health.
+     * </p>
+     *
+     * @param projectiles The projectile system the boss's projectiles are spawned in.
+     * @param events      The bus the boss's shield changes and hits are published on.
+     * @param random      The random stream deciding the boss's moves, shots and shield.
+     */
+	public Boss(ProjectileSystem projectiles, GameEventBus events, SplittableRandom random) {
+		super(IMAGE_NAME, IMAGE_WIDTH, IMAGE_HEIGHT, INITIAL_X_POSITION, INITIAL_Y_POSITION, HEALTH);
+		this.projectiles = projectiles;
+		this.events = events;
+		this.random = random;
+		movePattern = new ArrayList<>();
+		nanosWithSameMove = 0;
+		indexOfCurrentMove = 0;
+		nanosWithShieldActivated = 0;
+		shieldState = ShieldState.INACTIVE;
+		initializeMovePattern();
+	}
+	/**
+     * Updates the boss's position on the game screen.
+     * Moves the boss vertically according to the next move in the movement pattern while ensuring it stays within bounds.
+     *
+     * @param deltaSeconds the length of the simulation step (in seconds)
+     */
+	@Override
+	public void updatePosition(double deltaSeconds) {
+		double initialOffsetY = getOffsetY();
+		moveVertically(getNextMove(deltaSeconds) * deltaSeconds);
+		double currentPosition = getPositionY();
+		if (currentPosition < Y_POSITION_UPPER_BOUND || currentPosition > Y_POSITION_LOWER_BOUND) {
+			setOffsetY(initialOffsetY);
+
+		}
+	}
+
+	/**
+     * Updates the boss's state and behavior every frame.
+     * Moves the boss and updates the shield mechanics.
+     *
+     * @param deltaSeconds the length of the simulation step (in seconds)
+     */
+	@Override
+	public void updateActor(double deltaSeconds) {
+		stepSeconds = deltaSeconds;
+		updatePosition(deltaSeconds);
+		updateShield(deltaSeconds);
+		
+	}
+
+	/**
+     * Fires a projectile if the boss's firing condition is met.
+     *
+     * @return `true` if the boss fired a projectile, `false` otherwise.
+     */
+	@Override
+	public boolean fireProjectile() {
+		if (bossFiresInCurrentFrame()) {
+			projectiles.spawn(ProjectileType.BOSS, PROJECTILE_X_POSITION, getProjectileInitialPosition());
+			return true;
+		}
+		return false;
+	}
+	
+	/**
+     * Handles the boss taking damage, considering shield mechanics and health reduction.
+     * <p>
+     * Transitions the shield state or reduces the boss's health based on the current shield status.
+     * </p>
+     */
+	@Override
+	public void takeDamage() {
+        if (shieldState == ShieldState.ACTIVE) {
+            setShieldState(ShieldState.DAMAGED);  // Transition to DAMAGED state
+        } else if (shieldState == ShieldState.DAMAGED) {
+            setShieldState(ShieldState.INACTIVE); // Fully deactivate the shield
+        } else {
+            super.takeDamage();                   // Directly reduce health if shield is INACTIVE
+            events.publish(GameEventType.BOSS_DAMAGED, getHealth());
+        }
+    }
+
+	/**
+     * Initializes the boss's movement pattern, ensuring it follows a predefined sequence of movements.
+     */
+	private void initializeMovePattern() {
+		for (int i = 0; i < MOVE_FREQUENCY_PER_CYCLE; i++) {
+			movePattern.add(VERTICAL_VELOCITY);
+			movePattern.add(-VERTICAL_VELOCITY);
+			movePattern.add(ZERO);
+		}
+		shuffleMovePattern();
+	}
+
+	/**
+	 * Shuffles the movement pattern with the boss's random stream.
+	 */
+	private void shuffleMovePattern() {
+		for (int i = movePattern.size() - 1; i > 0; i--) {
+			Collections.swap(movePattern, i, random.nextInt(i + 1));
+		}
+	}
+
+	/**
+     * Updates the shield state based on game mechanics and random probability.
+     *
+     * @param deltaSeconds the length of the simulation step (in seconds)
+     */
+	private void updateShield(double deltaSeconds) {
+		if (shieldState == ShieldState.ACTIVE) {
+			nanosWithShieldActivated += SimulationTime.toNanos(deltaSeconds);
+		}
+		else if (shieldShouldBeActivated()) {
+			activateShield();	
+			
+		}
+		if (shieldExhausted()) {
+			
+			deactivateShield();
+			
+		}
+	}
+
+	/**
+	 * Retrieves the next move from the boss's movement pattern sequence.
+	 * <p>
+	 * This method updates the boss's movement by selecting the next move in the `movePattern` list.
+	 * It tracks how long the boss has moved in the same direction and reshuffles the movement pattern
+	 * once a specified limit (`MAX_NANOS_WITH_SAME_MOVE`) is reached. The method ensures that
+	 * the boss continuously follows a dynamic movement pattern without getting stuck in a loop.
+	 * </p>
+	 *
+	 * @param deltaSeconds the length of the simulation step (in seconds)
+	 * @return The next vertical velocity of the boss in pixels per second.
+	 *         Positive value for downward movement, negative value for upward movement, and zero indicates no movement.
+	 */
+	private int getNextMove(double deltaSeconds) {
+		int currentMove = movePattern.get(indexOfCurrentMove);
+		nanosWithSameMove += SimulationTime.toNanos(deltaSeconds);
+		if (nanosWithSameMove >= MAX_NANOS_WITH_SAME_MOVE) {
+			shuffleMovePattern();
+			nanosWithSameMove = 0;
+			indexOfCurrentMove++;
+		}
+		if (indexOfCurrentMove == movePattern.size()) {
+			indexOfCurrentMove = 0;
+		}
+		return currentMove;
+	}
+
+	/**
+	 * Determines whether the boss should fire a projectile in the current game frame.
+	 * <p>
+	 * This method uses a random probability check to determine if the boss should shoot a projectile
+	 * based on the defined `BOSS_FIRE_RATE`, scaled to the length of the current step. The higher the
+	 * `BOSS_FIRE_RATE` value, the more frequently the boss fires projectiles. It provides a dynamic and
+	 * unpredictable attack pattern.
+	 * </p>
+	 *
+	 * @return `true` if the boss fires a projectile in the current frame; `false` otherwise.
+	 */
+	private boolean bossFiresInCurrentFrame() {
+		return random.nextDouble() < SimulationTime.chancePerStep(BOSS_FIRE_RATE, stepSeconds);
+	}
+
+	/**
+	 * Calculates the initial vertical position for the projectile launched by the boss.
+	 * <p>
+	 * This method computes the Y-coordinate where the projectile will be spawned. It considers the
+	 * boss's current simulated position along with an offset value
+	 * (`PROJECTILE_Y_POSITION_OFFSET`) to ensure proper visual alignment for projectiles on the screen.
+	 * </p>
+	 *
+	 * @return A `double` representing the Y-coordinate for the projectile's spawn position.
+	 */
+	private double getProjectileInitialPosition() {
+		return getPositionY() + PROJECTILE_Y_POSITION_OFFSET;
+	}
+
+	/**
+     * Determines if the boss should activate the shield based on a probability check.
+     *
+     * @return True if the shield should activate, false otherwise.
+     */
+	private boolean shieldShouldBeActivated() {
+		return random.nextDouble() < SimulationTime.chancePerStep(BOSS_SHIELD_PROBABILITY, stepSeconds);
+	}
+
+	/**
+     * Checks if the shield has been active long enough to deactivate it automatically.
+     *
+     * @return True if the shield is exhausted, false otherwise.
+     */
+	private boolean shieldExhausted() {
+		return nanosWithShieldActivated >= MAX_NANOS_WITH_SHIELD;
+	}
+
+	/**
+     * Activates the shield.
+     */
+	private void activateShield() {
+		setShieldState(ShieldState.ACTIVE);
+	}
+
+	/**
+     * Deactivates the shield and resets the relevant state variables.
+     */
+	private void deactivateShield() {
+		setShieldState(ShieldState.INACTIVE);
+		nanosWithShieldActivated = 0;
+	}
+
+	/**
+	 * Changes the state of the shield, and publishes the change if there is one.
+	 *
+	 * @param state the new shield state
+	 */
+	private void setShieldState(ShieldState state) {
+		if (state != shieldState) {
+			shieldState = state;
+			events.publish(GameEventType.BOSS_SHIELD_CHANGED, state.ordinal());
+		}
+	}
+
+	/**
+     * Returns the current state of the boss's shield.
+     *
+     * @return The shield state, used by the view to show, dim or hide the shield.
+     */
+	public ShieldState getShieldState() {
+		return shieldState;
+	}
+}
@@ -1,5 +1,11 @@
 package com.example.demo.characters;
 
+import java.util.SplittableRandom;
+
+import com.example.demo.simulation.ProjectileSystem;
+import com.example.demo.simulation.ProjectileType;
+import com.example.demo.simulation.SimulationTime;
+
 /**
  * Represents an enemy plane in the game, inheriting from the `FighterPlane` class.
  * <p>
@@ -12,24 +18,34 @@ public class EnemyPlane extends FighterPlane {
 
     private static final String IMAGE_NAME = "enemyplane.png";
     private static final int IMAGE_HEIGHT = 70;
+    private static final double IMAGE_WIDTH = IMAGE_HEIGHT * 418.0 / 426;  // enemyplane.png is 418x426
     private static final double DEFAULT_FIRE_RATE = 0.01;
     private static final int DEFAULT_HEALTH = 1;
+    private static final double DEFAULT_HORIZONTAL_VELOCITY = -120;  // Pixels per second
     private final double fireRate;
-    private final int horizontalVelocity;
+    private final double horizontalVelocity;
     private final double projectileXOffset;
     private final double projectileYOffset;
+    private final ProjectileSystem projectiles;
+    private final SplittableRandom random;
+    private double stepSeconds = SimulationTime.REFERENCE_STEP_SECONDS;  // Length of the latest simulation step
 
     /**
      * Constructs a customizable enemy plane with specified attributes.
      *
      * @param initialXPos     The initial X position of the enemy plane.
      * @param initialYPos     The initial Y position of the enemy plane.
-     * @param horizontalVelocity  The speed at which the enemy plane moves horizontally.
-     * @param fireRate       The likelihood of firing a projectile in each frame.
+     * @param horizontalVelocity  The speed at which the enemy plane moves horizontally, in pixels per second.
+     * @param fireRate       The likelihood of firing a projectile in each 50 ms reference step.
      * @param health         The health value representing the durability of the enemy plane.
+     * @param projectiles    The projectile system the plane's projectiles are spawned in.
+     * @param random         The random stream deciding when the plane fires.
      */
-    public EnemyPlane(double initialXPos, double initialYPos, int horizontalVelocity, double fireRate, int health) {
-        super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos, health);
+    public EnemyPlane(double initialXPos, double initialYPos, double horizontalVelocity, double fireRate, int health,
+                      ProjectileSystem projectiles, SplittableRandom random) {
+        super(IMAGE_NAME, IMAGE_WIDTH, IMAGE_HEIGHT, initialXPos, initialYPos, health);
+        this.projectiles = projectiles;
+        this.random = random;
         this.horizontalVelocity = horizontalVelocity;
         this.fireRate = fireRate;
         this.projectileXOffset = -100.0;
@@ -41,49 +57,58 @@ public class EnemyPlane extends FighterPlane {
      *
      * @param initialXPos The initial X position of the enemy plane.
      * @param initialYPos The initial Y position of the enemy plane.
+     * @param projectiles The projectile system the plane's projectiles are spawned in.
+     * @param random      The random stream deciding when the plane fires.
      */
-    public EnemyPlane(double initialXPos, double initialYPos) {
-        this(initialXPos, initialYPos, -6, DEFAULT_FIRE_RATE, DEFAULT_HEALTH);
+    public EnemyPlane(double initialXPos, double initialYPos, ProjectileSystem projectiles, SplittableRandom random) {
+        this(initialXPos, initialYPos, DEFAULT_HORIZONTAL_VELOCITY, DEFAULT_FIRE_RATE, DEFAULT_HEALTH, projectiles,
+                random);
     }
 
     /**
      * Updates the position of the enemy plane horizontally on the screen.
+     *
+     * @param deltaSeconds The length of the simulation step (in seconds).
      */
     @Override
-    public void updatePosition() {
-        moveHorizontally(horizontalVelocity);
+    public void updatePosition(double deltaSeconds) {
+        moveHorizontally(horizontalVelocity * deltaSeconds);
     }
 
     /**
      * Fires a projectile if the enemy plane is within screen bounds and the conditions for firing are met.
      *
-     * @return An instance of `EnemyProjectile` representing the fired projectile, or `null` if the conditions aren't met.
+     * @return `true` if a projectile was fired, `false` if the conditions aren't met.
      */
     @Override
-    public ActiveActorDestructible fireProjectile() {
+    public boolean fireProjectile() {
         if (canFireProjectile() && isWithinScreenBounds()) {
             double projectileXPosition = getProjectileXPosition(projectileXOffset);
             double projectileYPosition = getProjectileYPosition(projectileYOffset);
-            return new EnemyProjectile(projectileXPosition, projectileYPosition);
+            projectiles.spawn(ProjectileType.ENEMY, projectileXPosition, projectileYPosition);
+            return true;
         }
-        return null;
+        return false;
     }
 
     /**
      * Updates the enemy plane's state in each game frame.
+     *
+     * @param deltaSeconds The length of the simulation step (in seconds).
      */
     @Override
-    public void updateActor() {
-        updatePosition();
+    public void updateActor(double deltaSeconds) {
+        stepSeconds = deltaSeconds;
+        updatePosition(deltaSeconds);
     }
 
     /**
      * Determines if the enemy plane can fire a projectile in the current game frame.
      *
-     * @return {@code true} if a projectile should be fired, based on the fire rate probability.
+     * @return {@code true} if a projectile should be fired, based on the fire rate probability scaled to the step length.
      */
     private boolean canFireProjectile() {
-        return Math.random() < fireRate;
+        return random.nextDouble() < SimulationTime.chancePerStep(fireRate, stepSeconds);
     }
 
     /**
@@ -92,6 +117,6 @@ public class EnemyPlane extends FighterPlane {
      * @return {@code true} if the enemy plane's position is within screen bounds, {@code false} otherwise.
      */
     private boolean isWithinScreenBounds() {
-        return getLayoutX() + getTranslateX() > 0;
+        return getPositionX() > 0;
     }
 }
@@ -16,22 +16,25 @@ public abstract class FighterPlane extends ActiveActorDestructible {
      * Constructs a `FighterPlane` with the specified attributes.
      *
      * @param imageName    The name of the image representing the fighter plane.
+     * @param imageWidth   The width of the fighter plane's image.
      * @param imageHeight  The height of the fighter plane's image.
      * @param initialXPos  The initial X position of the fighter plane on the screen.
      * @param initialYPos  The initial Y position of the fighter plane on the screen.
      * @param health      The initial health value of the fighter plane.
      */
-    public FighterPlane(String imageName, int imageHeight, double initialXPos, double initialYPos, int health) {
-        super(imageName, imageHeight, initialXPos, initialYPos);
+    public FighterPlane(String imageName, double imageWidth, double imageHeight, double initialXPos, double initialYPos,
+                        int health) {
+        super(imageName, imageWidth, imageHeight, initialXPos, initialYPos);
         this.health = health;
     }
 
     /**
      * Abstract method that must be implemented by subclasses to define projectile firing behavior.
+     * The projectile is queued in the level's {@link com.example.demo.simulation.ProjectileSystem}.
      *
-     * @return An instance of `ActiveActorDestructible` representing the projectile fired by the plane.
+     * @return `true` if the plane fired a projectile; `false` otherwise.
      */
-    public abstract ActiveActorDestructible fireProjectile();
+    public abstract boolean fireProjectile();
 
     /**
      * Handles taking damage by reducing health.
@@ -54,7 +57,7 @@ public abstract class FighterPlane extends ActiveActorDestructible {
      * @return The adjusted X position for the projectile spawn.
      */
     protected double getProjectileXPosition(double xPositionOffset) {
-        return getLayoutX() + getTranslateX() + xPositionOffset;
+        return getPositionX() + xPositionOffset;
     }
 
     /**
@@ -64,7 +67,7 @@ public abstract class FighterPlane extends ActiveActorDestructible {
      * @return The adjusted Y position for the projectile spawn.
      */
     protected double getProjectileYPosition(double yPositionOffset) {
-        return getLayoutY() + getTranslateY() + yPositionOffset;
+        return getPositionY() + yPositionOffset;
     }
 
     /**
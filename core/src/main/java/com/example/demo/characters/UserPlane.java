@@ -0,0 +1,185 @@
+package com.example.demo.characters;
+
+import com.example.demo.event.GameEventBus;
+import com.example.demo.event.GameEventType;
+import com.example.demo.simulation.Faction;
+import com.example.demo.simulation.ProjectileSystem;
+import com.example.demo.simulation.ProjectileType;
+import com.example.demo.simulation.SimulationTime;
+
+/**
+ * Represents the user-controlled fighter plane in the game.
+ * <p>
+ * This class extends the `FighterPlane` class and includes specific attributes and behaviors
+ * for the user plane, such as movement constraints, projectile firing, and tracking the number of kills.
+ * Every hit it takes is published as a {@link GameEventType#PLAYER_DAMAGED} event.
+ * </p>
+ * <p>
+ * Firing is rate-limited: after a shot the plane cools down before it can fire again, and it cannot fire while
+ * too many of its projectiles are in the world. Both limits default to the system properties
+ * {@code game.fire.cooldown} (in seconds) and {@code game.fire.maxProjectiles}, so the number of projectiles
+ * stays bounded however fast fire is requested.
+ * </p>
+ */
+public class UserPlane extends FighterPlane {
+
+    // Constants representing the visual and movement properties of the plane.
+    private static final String IMAGE_NAME = "userplane.png";
+    private static final double Y_UPPER_BOUND = 70;
+    private static final double Y_LOWER_BOUND = 650.0;
+    private static final double INITIAL_X_POSITION = 5.0;
+    private static final double INITIAL_Y_POSITION = 300.0;
+    private static final int IMAGE_HEIGHT = 75;
+    private static final double IMAGE_WIDTH = IMAGE_HEIGHT * 360.0 / 287;  // userplane.png is 360x287
+    private static final int VERTICAL_VELOCITY = 160;  // Pixels per second
+    private static final int PROJECTILE_X_POSITION = 70;
+    private static final int PROJECTILE_Y_POSITION_OFFSET = 25;
+    private static final String COOLDOWN_PROPERTY = "game.fire.cooldown";
+    private static final String MAX_PROJECTILES_PROPERTY = "game.fire.maxProjectiles";
+    private static final double DEFAULT_FIRE_COOLDOWN_SECONDS = 0.15;
+    private static final int DEFAULT_MAX_LIVE_PROJECTILES = 24;
+
+    private int velocityMultiplier = 0;  // Controls vertical movement speed (0: stopped, 1: moving down, -1: moving up).
+    private int numberOfKills;  // Tracks the number of enemy planes destroyed by the user.
+    private final ProjectileSystem projectiles;  // Receives the projectiles fired by the user.
+    private final GameEventBus events;  // Receives the hits the user takes.
+    private long fireCooldownNanos;  // Time between two shots.
+    private int maxLiveProjectiles;  // Most of the user's projectiles in the world at once.
+    private long nanosUntilNextShot;  // Time left before the plane can fire again.
+
+    /**
+     * Constructs the `UserPlane` with the specified initial health.
+     *
+     * @param initialHealth  The health value of the user-controlled plane.
+     * @param projectiles    The projectile system the plane's projectiles are spawned in.
+     * @param events         The bus the plane's hits are published on.
+     */
+    public UserPlane(int initialHealth, ProjectileSystem projectiles, GameEventBus events) {
+        super(IMAGE_NAME, IMAGE_WIDTH, IMAGE_HEIGHT, INITIAL_X_POSITION, INITIAL_Y_POSITION, initialHealth);
+        this.projectiles = projectiles;
+        this.events = events;
+        setFireCooldown(Double.parseDouble(System.getProperty(COOLDOWN_PROPERTY,
+                String.valueOf(DEFAULT_FIRE_COOLDOWN_SECONDS))));
+        setMaxLiveProjectiles(Integer.getInteger(MAX_PROJECTILES_PROPERTY, DEFAULT_MAX_LIVE_PROJECTILES));
+    }
+
+    /**
+     * Updates the position of the user plane based on the current `velocityMultiplier`.
+     * <p>
+     * Moves the plane vertically while ensuring it remains within the defined upper and lower bounds on the screen.
+     * If the plane exceeds these bounds, its position is reset to prevent it from leaving the screen.
+     * </p>
+     *
+     * @param deltaSeconds The length of the simulation step (in seconds).
+     */
+    @Override
+    public void updatePosition(double deltaSeconds) {
+        if (velocityMultiplier != 0) {
+            double initialOffsetY = getOffsetY();
+            moveVertically(VERTICAL_VELOCITY * velocityMultiplier * deltaSeconds);
+
+            double newPosition = getPositionY();
+            if (newPosition < Y_UPPER_BOUND || newPosition > Y_LOWER_BOUND) {
+                setOffsetY(initialOffsetY);
+            }
+        }
+    }
+
+    /**
+     * Updates the actor each frame by calling the `updatePosition` method, and cools the guns down.
+     *
+     * @param deltaSeconds The length of the simulation step (in seconds).
+     */
+    @Override
+    public void updateActor(double deltaSeconds) {
+        updatePosition(deltaSeconds);
+        nanosUntilNextShot = Math.max(0, nanosUntilNextShot - SimulationTime.toNanos(deltaSeconds));
+    }
+
+    /**
+     * Fires a projectile from the user plane, unless it is cooling down or too many of its projectiles fly.
+     *
+     * @return `true` if a projectile was fired, `false` if the request was refused.
+     */
+    @Override
+    public boolean fireProjectile() {
+        if (nanosUntilNextShot > 0 || projectiles.count(Faction.FRIENDLY) >= maxLiveProjectiles) {
+            return false;
+        }
+        projectiles.spawn(ProjectileType.USER, PROJECTILE_X_POSITION, getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET));
+        nanosUntilNextShot = fireCooldownNanos;
+        return true;
+    }
+
+    /**
+     * Sets the time the plane cools down after a shot.
+     *
+     * @param cooldownSeconds The cooldown (in seconds), 0 to fire whenever requested.
+     * @throws IllegalArgumentException if the cooldown is negative.
+     */
+    public void setFireCooldown(double cooldownSeconds) {
+        if (cooldownSeconds < 0) {
+            throw new IllegalArgumentException("Fire cooldown must not be negative: " + cooldownSeconds);
+        }
+        fireCooldownNanos = SimulationTime.toNanos(cooldownSeconds);
+    }
+
+    /**
+     * Sets how many of the plane's projectiles may be in the world at once.
+     *
+     * @param maxProjectiles The maximum number of live projectiles.
+     * @throws IllegalArgumentException if the maximum is not positive.
+     */
+    public void setMaxLiveProjectiles(int maxProjectiles) {
+        if (maxProjectiles <= 0) {
+            throw new IllegalArgumentException("Maximum live projectiles must be positive: " + maxProjectiles);
+        }
+        maxLiveProjectiles = maxProjectiles;
+    }
+
+    /**
+     * Takes a hit and publishes the health left.
+     */
+    @Override
+    public void takeDamage() {
+        super.takeDamage();
+        events.publish(GameEventType.PLAYER_DAMAGED, getHealth());
+    }
+
+    /**
+     * Moves the user plane upward by setting the `velocityMultiplier` to -1.
+     */
+    public void moveUp() {
+        velocityMultiplier = -1;
+    }
+
+    /**
+     * Moves the user plane downward by setting the `velocityMultiplier` to 1.
+     */
+    public void moveDown() {
+        velocityMultiplier = 1;
+    }
+
+    /**
+     * Stops vertical movement by setting the `velocityMultiplier` to 0.
+     */
+    public void stop() {
+        velocityMultiplier = 0;
+    }
+
+    /**
+     * Returns the number of enemy planes destroyed by the user.
+     *
+     * @return The current number of kills.
+     */
+    public int getNumberOfKills() {
+        return numberOfKills;
+    }
+
+    /**
+     * Increments the user's kill count by 1.
+     */
+    public void incrementKillCount() {
+        numberOfKills++;
+    }
+}
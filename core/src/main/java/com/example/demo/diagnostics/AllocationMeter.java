@@ -0,0 +1,56 @@
+package com.example.demo.diagnostics;
+
+import java.lang.management.ManagementFactory;
+
+import com.sun.management.ThreadMXBean;
+
+/**
+ * The AllocationMeter class reads how many bytes the current thread has allocated on the heap.
+ * <p>
+ * It relies on HotSpot's per-thread allocation counter, which counts the TLAB space handed to the thread and
+ * costs about as much as reading a field. Taking the difference of two readings around a piece of code gives the
+ * bytes it allocated, including allocations the JIT could not eliminate.
+ * </p>
+ */
+public final class AllocationMeter {
+
+    private static final ThreadMXBean THREADS = lookUpThreadBean();
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private AllocationMeter() {
+    }
+
+    /**
+     * Checks if the JVM counts the bytes allocated by each thread.
+     *
+     * @return true if {@link #currentThreadAllocatedBytes()} can be used
+     */
+    public static boolean isSupported() {
+        return THREADS != null;
+    }
+
+    /**
+     * Gets the total number of bytes the current thread has allocated since it started.
+     *
+     * @return the allocated bytes, or -1 if the JVM does not count them
+     */
+    public static long currentThreadAllocatedBytes() {
+        return THREADS != null ? THREADS.getCurrentThreadAllocatedBytes() : -1;
+    }
+
+    /**
+     * Finds the HotSpot thread bean and enables its allocation counter, if the JVM has one.
+     *
+     * @return the thread bean, or null if allocations are not counted
+     */
+    private static ThreadMXBean lookUpThreadBean() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof ThreadMXBean threads)
+                || !threads.isThreadAllocatedMemorySupported()) {
+            return null;
+        }
+        threads.setThreadAllocatedMemoryEnabled(true);
+        return threads;
+    }
+}
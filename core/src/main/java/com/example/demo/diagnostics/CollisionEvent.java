@@ -0,0 +1,30 @@
+package com.example.demo.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * The collision resolution of a step, with the number of pairs tested and the number of hits.
+ */
+@Name("com.example.demo.Collisions")
+@Label("Collisions")
+@Category("Game")
+@Description("Collision resolution of one simulation step")
+@StackTrace(false)
+@Threshold("0 ms")
+public class CollisionEvent extends Event {
+
+    @Label("Broadphase")
+    public String broadphase;
+
+    @Label("Pairs Tested")
+    public int pairsTested;
+
+    @Label("Hits")
+    public int hits;
+}
@@ -0,0 +1,28 @@
+package com.example.demo.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * A frame of the game loop: the steps that were due, then the render.
+ */
+@Name("com.example.demo.Frame")
+@Label("Frame")
+@Category("Game")
+@Description("One frame of the game loop")
+@StackTrace(false)
+@Threshold("0 ms")
+public class FrameEvent extends Event {
+
+    @Label("Steps")
+    public int steps;
+
+    @Label("Dropped Steps")
+    @Description("Steps skipped because the frame was too late to catch up")
+    public long droppedSteps;
+}
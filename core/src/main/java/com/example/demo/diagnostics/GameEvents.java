@@ -0,0 +1,19 @@
+package com.example.demo.diagnostics;
+
+/**
+ * The switch for the game's JDK Flight Recorder events.
+ * <p>
+ * The events are only created when the game is started with {@code -Dgame.jfr=true}; otherwise every emission
+ * site is skipped by a check of a constant, which the JIT removes. Recording them also requires a running flight
+ * recording, for example {@code -XX:StartFlightRecording=filename=game.jfr}. All events are in the "Game"
+ * category, so they appear next to the GC and JIT events of the same recording.
+ * </p>
+ */
+public final class GameEvents {
+
+    /** Whether the game emits its flight recorder events. */
+    public static final boolean ENABLED = Boolean.getBoolean("game.jfr");
+
+    private GameEvents() {
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.demo.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * The loading of a level, from the request to the start of its game loop.
+ */
+@Name("com.example.demo.LevelTransition")
+@Label("Level Transition")
+@Category("Game")
+@Description("Loading and starting a level")
+@Threshold("0 ms")
+public class LevelTransitionEvent extends Event {
+
+    @Label("From")
+    public String from;
+
+    @Label("To")
+    public String to;
+
+    @Label("Preloaded")
+    @Description("Whether the level had been built in the background before the transition")
+    public boolean preloaded;
+}
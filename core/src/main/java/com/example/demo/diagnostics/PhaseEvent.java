@@ -0,0 +1,25 @@
+package com.example.demo.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * One phase of a simulation step, or the view update of a frame.
+ * Phases shorter than the threshold are dropped; the enclosing {@link TickEvent} always accounts for them.
+ */
+@Name("com.example.demo.TickPhase")
+@Label("Tick Phase")
+@Category("Game")
+@Description("One phase of a simulation step")
+@StackTrace(false)
+@Threshold("10 us")
+public class PhaseEvent extends Event {
+
+    @Label("Phase")
+    public String phase;
+}
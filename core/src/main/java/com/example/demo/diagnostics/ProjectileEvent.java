@@ -0,0 +1,32 @@
+package com.example.demo.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A projectile entering or leaving the world.
+ */
+@Name("com.example.demo.Projectile")
+@Label("Projectile")
+@Category("Game")
+@Description("A projectile spawned or despawned")
+@StackTrace(false)
+public class ProjectileEvent extends Event {
+
+    @Label("Spawned")
+    @Description("True when the projectile entered the world, false when it left")
+    public boolean spawned;
+
+    @Label("Type")
+    public String type;
+
+    @Label("X")
+    public double x;
+
+    @Label("Y")
+    public double y;
+}
@@ -0,0 +1,33 @@
+package com.example.demo.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * A simulation step, from spawning to the game over check.
+ */
+@Name("com.example.demo.Tick")
+@Label("Tick")
+@Category("Game")
+@Description("One fixed simulation step of a level")
+@StackTrace(false)
+@Threshold("0 ms")
+public class TickEvent extends Event {
+
+    @Label("Level")
+    public String level;
+
+    @Label("Step")
+    public long step;
+
+    @Label("Enemies")
+    public int enemies;
+
+    @Label("Projectiles")
+    public int projectiles;
+}
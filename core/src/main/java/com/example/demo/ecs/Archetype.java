@@ -0,0 +1,387 @@
+package com.example.demo.ecs;
+
+import java.util.Arrays;
+
+/**
+ * A table of entities that share the same set of components.
+ * <p>
+ * Every component is stored in dense parallel primitive arrays, so a system can walk rows {@code 0..size()-1}
+ * linearly without touching any object other than the arrays themselves. Rows are kept packed: removing an
+ * entity moves the last row into the freed one. Arrays of components the archetype does not hold are null.
+ * </p>
+ * <p>
+ * The array getters return the live arrays. They stay valid while systems iterate; they are only replaced
+ * when the archetype grows, which only happens while a {@link CommandBuffer} is flushed.
+ * </p>
+ */
+public final class Archetype {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final int id;
+    private final int componentMask;
+    private int size;
+    private int peakSize;
+    private int growthCount;
+
+    private int[] entities;
+    private double[] positionX;
+    private double[] positionY;
+    private double[] previousX;
+    private double[] previousY;
+    private double[] velocityX;
+    private double[] velocityY;
+    private double[] width;
+    private double[] height;
+    private int[] health;
+    private int[] faction;
+    private double[] lifetime;
+    private int[] kind;
+
+    /**
+     * Constructs an empty archetype holding the specified components.
+     *
+     * @param id            the index of the archetype in its world
+     * @param componentMask the components held, as built by {@link Component#maskOf(Component...)}
+     */
+    Archetype(int id, int componentMask) {
+        this.id = id;
+        this.componentMask = componentMask;
+        this.entities = new int[INITIAL_CAPACITY];
+        if (has(Component.POSITION)) {
+            positionX = new double[INITIAL_CAPACITY];
+            positionY = new double[INITIAL_CAPACITY];
+            previousX = new double[INITIAL_CAPACITY];
+            previousY = new double[INITIAL_CAPACITY];
+        }
+        if (has(Component.VELOCITY)) {
+            velocityX = new double[INITIAL_CAPACITY];
+            velocityY = new double[INITIAL_CAPACITY];
+        }
+        if (has(Component.HITBOX)) {
+            width = new double[INITIAL_CAPACITY];
+            height = new double[INITIAL_CAPACITY];
+        }
+        if (has(Component.HEALTH)) {
+            health = new int[INITIAL_CAPACITY];
+        }
+        if (has(Component.FACTION)) {
+            faction = new int[INITIAL_CAPACITY];
+        }
+        if (has(Component.LIFETIME)) {
+            lifetime = new double[INITIAL_CAPACITY];
+        }
+        if (has(Component.KIND)) {
+            kind = new int[INITIAL_CAPACITY];
+        }
+    }
+
+    /**
+     * Checks whether the archetype holds a component.
+     *
+     * @param component the component
+     * @return true if entities of this archetype have the component
+     */
+    public boolean has(Component component) {
+        return (componentMask & component.bit()) != 0;
+    }
+
+    /**
+     * Checks whether the archetype holds every component of a mask.
+     *
+     * @param mask the required components
+     * @return true if entities of this archetype have all the components
+     */
+    public boolean hasAll(int mask) {
+        return (componentMask & mask) == mask;
+    }
+
+    /**
+     * Gets the index of the archetype in its world.
+     *
+     * @return the archetype id
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Gets the components held by the archetype.
+     *
+     * @return the component mask
+     */
+    public int getComponentMask() {
+        return componentMask;
+    }
+
+    /**
+     * Gets the number of entities in the archetype.
+     *
+     * @return the number of rows in use
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the highest number of entities the archetype held at once.
+     *
+     * @return the high-water mark of rows in use
+     */
+    public int getPeakSize() {
+        return peakSize;
+    }
+
+    /**
+     * Gets the number of rows the arrays can hold before they grow again.
+     *
+     * @return the capacity of the arrays
+     */
+    public int getCapacity() {
+        return entities.length;
+    }
+
+    /**
+     * Gets the number of times the arrays had to grow because every row was in use.
+     *
+     * @return the number of growths
+     */
+    public int getGrowthCount() {
+        return growthCount;
+    }
+
+    /**
+     * Gets the handles of the entities, by row.
+     *
+     * @return the entity handle of each row
+     */
+    public int[] getEntities() {
+        return entities;
+    }
+
+    /**
+     * Gets the x positions, by row.
+     *
+     * @return the x position of each row, or null without {@link Component#POSITION}
+     */
+    public double[] getPositionX() {
+        return positionX;
+    }
+
+    /**
+     * Gets the y positions, by row.
+     *
+     * @return the y position of each row, or null without {@link Component#POSITION}
+     */
+    public double[] getPositionY() {
+        return positionY;
+    }
+
+    /**
+     * Gets the x positions at the start of the step, by row, for interpolation.
+     *
+     * @return the x position of each row at the start of the step, or null without {@link Component#POSITION}
+     */
+    public double[] getPreviousX() {
+        return previousX;
+    }
+
+    /**
+     * Gets the y positions at the start of the step, by row, for interpolation.
+     *
+     * @return the y position of each row at the start of the step, or null without {@link Component#POSITION}
+     */
+    public double[] getPreviousY() {
+        return previousY;
+    }
+
+    /**
+     * Gets the x velocities, by row.
+     *
+     * @return the x velocity of each row, or null without {@link Component#VELOCITY}
+     */
+    public double[] getVelocityX() {
+        return velocityX;
+    }
+
+    /**
+     * Gets the y velocities, by row.
+     *
+     * @return the y velocity of each row, or null without {@link Component#VELOCITY}
+     */
+    public double[] getVelocityY() {
+        return velocityY;
+    }
+
+    /**
+     * Gets the hitbox widths, by row.
+     *
+     * @return the hitbox width of each row, or null without {@link Component#HITBOX}
+     */
+    public double[] getWidth() {
+        return width;
+    }
+
+    /**
+     * Gets the hitbox heights, by row.
+     *
+     * @return the hitbox height of each row, or null without {@link Component#HITBOX}
+     */
+    public double[] getHeight() {
+        return height;
+    }
+
+    /**
+     * Gets the health of the entities, by row.
+     *
+     * @return the health of each row, or null without {@link Component#HEALTH}
+     */
+    public int[] getHealth() {
+        return health;
+    }
+
+    /**
+     * Gets the factions, by row.
+     *
+     * @return the faction of each row, or null without {@link Component#FACTION}
+     */
+    public int[] getFaction() {
+        return faction;
+    }
+
+    /**
+     * Gets the remaining lifetimes, by row.
+     *
+     * @return the remaining lifetime of each row in seconds, or null without {@link Component#LIFETIME}
+     */
+    public double[] getLifetime() {
+        return lifetime;
+    }
+
+    /**
+     * Gets the kinds, by row.
+     *
+     * @return the kind of each row, or null without {@link Component#KIND}
+     */
+    public int[] getKind() {
+        return kind;
+    }
+
+    /**
+     * Appends a row for an entity, with every component zeroed and an infinite lifetime.
+     *
+     * @param entity the handle of the entity
+     * @return the new row
+     */
+    int addRow(int entity) {
+        if (size == entities.length) {
+            grow();
+        }
+        int row = size++;
+        peakSize = Math.max(peakSize, size);
+        entities[row] = entity;
+        if (positionX != null) {
+            positionX[row] = 0;
+            positionY[row] = 0;
+            previousX[row] = 0;
+            previousY[row] = 0;
+        }
+        if (velocityX != null) {
+            velocityX[row] = 0;
+            velocityY[row] = 0;
+        }
+        if (width != null) {
+            width[row] = 0;
+            height[row] = 0;
+        }
+        if (health != null) {
+            health[row] = 0;
+        }
+        if (faction != null) {
+            faction[row] = 0;
+        }
+        if (lifetime != null) {
+            lifetime[row] = Double.POSITIVE_INFINITY;
+        }
+        if (kind != null) {
+            kind[row] = 0;
+        }
+        return row;
+    }
+
+    /**
+     * Removes a row by moving the last row into it.
+     *
+     * @param row the row to remove
+     * @return the handle of the entity moved into the row, or {@link Entity#NULL} if the removed row was the last one
+     */
+    int removeRow(int row) {
+        int last = --size;
+        if (row == last) {
+            return Entity.NULL;
+        }
+        entities[row] = entities[last];
+        if (positionX != null) {
+            positionX[row] = positionX[last];
+            positionY[row] = positionY[last];
+            previousX[row] = previousX[last];
+            previousY[row] = previousY[last];
+        }
+        if (velocityX != null) {
+            velocityX[row] = velocityX[last];
+            velocityY[row] = velocityY[last];
+        }
+        if (width != null) {
+            width[row] = width[last];
+            height[row] = height[last];
+        }
+        if (health != null) {
+            health[row] = health[last];
+        }
+        if (faction != null) {
+            faction[row] = faction[last];
+        }
+        if (lifetime != null) {
+            lifetime[row] = lifetime[last];
+        }
+        if (kind != null) {
+            kind[row] = kind[last];
+        }
+        return entities[row];
+    }
+
+    /**
+     * Doubles the capacity of every array.
+     */
+    private void grow() {
+        int capacity = entities.length * 2;
+        growthCount++;
+        entities = Arrays.copyOf(entities, capacity);
+        if (positionX != null) {
+            positionX = Arrays.copyOf(positionX, capacity);
+            positionY = Arrays.copyOf(positionY, capacity);
+            previousX = Arrays.copyOf(previousX, capacity);
+            previousY = Arrays.copyOf(previousY, capacity);
+        }
+        if (velocityX != null) {
+            velocityX = Arrays.copyOf(velocityX, capacity);
+            velocityY = Arrays.copyOf(velocityY, capacity);
+        }
+        if (width != null) {
+            width = Arrays.copyOf(width, capacity);
+            height = Arrays.copyOf(height, capacity);
+        }
+        if (health != null) {
+            health = Arrays.copyOf(health, capacity);
+        }
+        if (faction != null) {
+            faction = Arrays.copyOf(faction, capacity);
+        }
+        if (lifetime != null) {
+            lifetime = Arrays.copyOf(lifetime, capacity);
+        }
+        if (kind != null) {
+            kind = Arrays.copyOf(kind, capacity);
+        }
+    }
+}
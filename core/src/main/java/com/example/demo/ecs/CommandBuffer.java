@@ -0,0 +1,255 @@
+package com.example.demo.ecs;
+
+import java.util.Arrays;
+
+/**
+ * The CommandBuffer class queues entity spawns and destructions so that systems never change the archetype
+ * rows they are iterating.
+ * <p>
+ * Spawns are recorded in primitive parallel arrays: {@link #spawn(Archetype)} returns a record index, and the
+ * setters write the new entity's components into that record. Nothing reaches the world until
+ * {@link #flush(EntityWorld, EntityListener)}, which applies every destruction first and then every spawn, in
+ * the order they were queued. The arrays are kept between flushes, so a buffer that has warmed up queues
+ * commands without allocating.
+ * </p>
+ */
+public class CommandBuffer {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private int[] destroyed;
+    private int destroyCount;
+
+    private int spawnCount;
+    private int[] spawnArchetypes;
+    private double[] spawnX;
+    private double[] spawnY;
+    private double[] spawnVelocityX;
+    private double[] spawnVelocityY;
+    private double[] spawnWidth;
+    private double[] spawnHeight;
+    private int[] spawnHealth;
+    private int[] spawnFaction;
+    private double[] spawnLifetime;
+    private int[] spawnKind;
+
+    /**
+     * Constructs an empty command buffer.
+     */
+    public CommandBuffer() {
+        this.destroyed = new int[INITIAL_CAPACITY];
+        this.spawnArchetypes = new int[INITIAL_CAPACITY];
+        this.spawnX = new double[INITIAL_CAPACITY];
+        this.spawnY = new double[INITIAL_CAPACITY];
+        this.spawnVelocityX = new double[INITIAL_CAPACITY];
+        this.spawnVelocityY = new double[INITIAL_CAPACITY];
+        this.spawnWidth = new double[INITIAL_CAPACITY];
+        this.spawnHeight = new double[INITIAL_CAPACITY];
+        this.spawnHealth = new int[INITIAL_CAPACITY];
+        this.spawnFaction = new int[INITIAL_CAPACITY];
+        this.spawnLifetime = new double[INITIAL_CAPACITY];
+        this.spawnKind = new int[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Queues the creation of an entity. The entity has 1 health, an infinite lifetime and every other component
+     * zeroed unless the setters say otherwise. Components its archetype does not hold are ignored.
+     *
+     * @param archetype the archetype of the entity
+     * @return the index of the spawn record, to pass to the setters
+     */
+    public int spawn(Archetype archetype) {
+        if (spawnCount == spawnArchetypes.length) {
+            growSpawns();
+        }
+        int spawn = spawnCount++;
+        spawnArchetypes[spawn] = archetype.getId();
+        spawnX[spawn] = 0;
+        spawnY[spawn] = 0;
+        spawnVelocityX[spawn] = 0;
+        spawnVelocityY[spawn] = 0;
+        spawnWidth[spawn] = 0;
+        spawnHeight[spawn] = 0;
+        spawnHealth[spawn] = 1;
+        spawnFaction[spawn] = 0;
+        spawnLifetime[spawn] = Double.POSITIVE_INFINITY;
+        spawnKind[spawn] = 0;
+        return spawn;
+    }
+
+    /**
+     * Sets the position of a queued entity.
+     *
+     * @param spawn the spawn record
+     * @param x     the x position
+     * @param y     the y position
+     */
+    public void setPosition(int spawn, double x, double y) {
+        spawnX[spawn] = x;
+        spawnY[spawn] = y;
+    }
+
+    /**
+     * Sets the velocity of a queued entity.
+     *
+     * @param spawn     the spawn record
+     * @param velocityX the x velocity, in units per second
+     * @param velocityY the y velocity, in units per second
+     */
+    public void setVelocity(int spawn, double velocityX, double velocityY) {
+        spawnVelocityX[spawn] = velocityX;
+        spawnVelocityY[spawn] = velocityY;
+    }
+
+    /**
+     * Sets the hitbox of a queued entity.
+     *
+     * @param spawn  the spawn record
+     * @param width  the hitbox width
+     * @param height the hitbox height
+     */
+    public void setHitbox(int spawn, double width, double height) {
+        spawnWidth[spawn] = width;
+        spawnHeight[spawn] = height;
+    }
+
+    /**
+     * Sets the health of a queued entity.
+     *
+     * @param spawn  the spawn record
+     * @param health the hit points
+     */
+    public void setHealth(int spawn, int health) {
+        spawnHealth[spawn] = health;
+    }
+
+    /**
+     * Sets the faction of a queued entity.
+     *
+     * @param spawn   the spawn record
+     * @param faction the faction
+     */
+    public void setFaction(int spawn, int faction) {
+        spawnFaction[spawn] = faction;
+    }
+
+    /**
+     * Sets the lifetime of a queued entity.
+     *
+     * @param spawn    the spawn record
+     * @param lifetime the time to live, in seconds
+     */
+    public void setLifetime(int spawn, double lifetime) {
+        spawnLifetime[spawn] = lifetime;
+    }
+
+    /**
+     * Sets the kind of a queued entity.
+     *
+     * @param spawn the spawn record
+     * @param kind  the game-defined kind
+     */
+    public void setKind(int spawn, int kind) {
+        spawnKind[spawn] = kind;
+    }
+
+    /**
+     * Queues the destruction of an entity. Destroying an entity twice, or through a stale handle, does nothing.
+     *
+     * @param handle the handle of the entity
+     */
+    public void destroy(int handle) {
+        if (destroyCount == destroyed.length) {
+            destroyed = Arrays.copyOf(destroyed, destroyed.length * 2);
+        }
+        destroyed[destroyCount++] = handle;
+    }
+
+    /**
+     * Checks whether any command is queued.
+     *
+     * @return true if the next flush changes the world
+     */
+    public boolean isEmpty() {
+        return destroyCount == 0 && spawnCount == 0;
+    }
+
+    /**
+     * Applies the queued commands to a world and empties the buffer.
+     *
+     * @param world    the world to change
+     * @param listener the listener told about every entity created and destroyed
+     */
+    public void flush(EntityWorld world, EntityListener listener) {
+        for (int i = 0; i < destroyCount; i++) {
+            int handle = destroyed[i];
+            if (world.isAlive(handle)) {
+                listener.entityDestroyed(handle);
+                world.destroyEntity(handle);
+            }
+        }
+        destroyCount = 0;
+
+        for (int spawn = 0; spawn < spawnCount; spawn++) {
+            Archetype archetype = world.getArchetypes().get(spawnArchetypes[spawn]);
+            int handle = world.createEntity(archetype);
+            writeComponents(spawn, archetype, world.getRow(handle));
+            listener.entityCreated(handle);
+        }
+        spawnCount = 0;
+    }
+
+    /**
+     * Copies a spawn record into an archetype row.
+     *
+     * @param spawn     the spawn record
+     * @param archetype the archetype of the new entity
+     * @param row       the row of the new entity
+     */
+    private void writeComponents(int spawn, Archetype archetype, int row) {
+        if (archetype.has(Component.POSITION)) {
+            archetype.getPositionX()[row] = spawnX[spawn];
+            archetype.getPositionY()[row] = spawnY[spawn];
+            archetype.getPreviousX()[row] = spawnX[spawn];
+            archetype.getPreviousY()[row] = spawnY[spawn];
+        }
+        if (archetype.has(Component.VELOCITY)) {
+            archetype.getVelocityX()[row] = spawnVelocityX[spawn];
+            archetype.getVelocityY()[row] = spawnVelocityY[spawn];
+        }
+        if (archetype.has(Component.HITBOX)) {
+            archetype.getWidth()[row] = spawnWidth[spawn];
+            archetype.getHeight()[row] = spawnHeight[spawn];
+        }
+        if (archetype.has(Component.HEALTH)) {
+            archetype.getHealth()[row] = spawnHealth[spawn];
+        }
+        if (archetype.has(Component.FACTION)) {
+            archetype.getFaction()[row] = spawnFaction[spawn];
+        }
+        if (archetype.has(Component.LIFETIME)) {
+            archetype.getLifetime()[row] = spawnLifetime[spawn];
+        }
+        if (archetype.has(Component.KIND)) {
+            archetype.getKind()[row] = spawnKind[spawn];
+        }
+    }
+
+    /**
+     * Doubles the capacity of the spawn records.
+     */
+    private void growSpawns() {
+        int capacity = spawnArchetypes.length * 2;
+        spawnArchetypes = Arrays.copyOf(spawnArchetypes, capacity);
+        spawnX = Arrays.copyOf(spawnX, capacity);
+        spawnY = Arrays.copyOf(spawnY, capacity);
+        spawnVelocityX = Arrays.copyOf(spawnVelocityX, capacity);
+        spawnVelocityY = Arrays.copyOf(spawnVelocityY, capacity);
+        spawnWidth = Arrays.copyOf(spawnWidth, capacity);
+        spawnHeight = Arrays.copyOf(spawnHeight, capacity);
+        spawnHealth = Arrays.copyOf(spawnHealth, capacity);
+        spawnFaction = Arrays.copyOf(spawnFaction, capacity);
+        spawnLifetime = Arrays.copyOf(spawnLifetime, capacity);
+        spawnKind = Arrays.copyOf(spawnKind, capacity);
+    }
+}
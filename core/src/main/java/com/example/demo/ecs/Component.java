@@ -0,0 +1,41 @@
+package com.example.demo.ecs;
+
+/**
+ * The components an {@link Archetype} can hold.
+ * <p>
+ * Each component is stored as one or more dense primitive arrays inside the archetype, indexed by row.
+ * An archetype only allocates the arrays of the components it was created with.
+ * </p>
+ */
+public enum Component {
+    POSITION,  // x and y, plus their values at the start of the step for interpolation
+    VELOCITY,  // x and y velocity, in units per second
+    HITBOX,    // width and height of the axis-aligned bounds, anchored at the position
+    HEALTH,    // remaining hit points
+    FACTION,   // the side the entity fights for
+    LIFETIME,  // remaining time to live, in seconds
+    KIND;      // game-defined type of the entity, such as which sprite draws it
+
+    /**
+     * Gets the bit representing this component in a component mask.
+     *
+     * @return the component's bit
+     */
+    public int bit() {
+        return 1 << ordinal();
+    }
+
+    /**
+     * Builds the mask of the specified components.
+     *
+     * @param components the components to include
+     * @return the component mask
+     */
+    public static int maskOf(Component... components) {
+        int mask = 0;
+        for (Component component : components) {
+            mask |= component.bit();
+        }
+        return mask;
+    }
+}
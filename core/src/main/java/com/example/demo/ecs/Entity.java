@@ -0,0 +1,69 @@
+package com.example.demo.ecs;
+
+/**
+ * Helpers for entity handles.
+ * <p>
+ * An entity is identified by a generational int handle: the low {@value #INDEX_BITS} bits hold the index of the
+ * entity's slot in the {@link EntityWorld}, the remaining bits hold the generation of that slot. A slot's generation
+ * changes every time its entity is destroyed, so a handle kept after its entity died never refers to the entity that
+ * later reuses the slot. Generations start at 1, so {@link #NULL} is never a valid handle.
+ * </p>
+ */
+public final class Entity {
+
+    /** The handle that never refers to an entity. */
+    public static final int NULL = 0;
+
+    /** The number of bits used for the slot index. */
+    public static final int INDEX_BITS = 20;
+
+    /** The maximum number of entities alive at the same time. */
+    public static final int MAX_ENTITIES = 1 << INDEX_BITS;
+
+    private static final int INDEX_MASK = MAX_ENTITIES - 1;
+    private static final int MAX_GENERATION = (1 << (Integer.SIZE - 1 - INDEX_BITS)) - 1;
+
+    private Entity() {
+    }
+
+    /**
+     * Builds a handle from a slot index and a generation.
+     *
+     * @param index      the slot index
+     * @param generation the slot's generation
+     * @return the handle
+     */
+    static int handle(int index, int generation) {
+        return (generation << INDEX_BITS) | index;
+    }
+
+    /**
+     * Gets the slot index of a handle.
+     *
+     * @param handle the entity handle
+     * @return the slot index, which can be used to index per-entity arrays
+     */
+    public static int index(int handle) {
+        return handle & INDEX_MASK;
+    }
+
+    /**
+     * Gets the generation of a handle.
+     *
+     * @param handle the entity handle
+     * @return the generation
+     */
+    public static int generation(int handle) {
+        return handle >>> INDEX_BITS;
+    }
+
+    /**
+     * Gets the generation that follows the specified one, skipping 0 when it wraps around.
+     *
+     * @param generation the current generation
+     * @return the next generation
+     */
+    static int nextGeneration(int generation) {
+        return generation == MAX_GENERATION ? 1 : generation + 1;
+    }
+}
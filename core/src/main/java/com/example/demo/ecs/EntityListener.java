@@ -0,0 +1,26 @@
+package com.example.demo.ecs;
+
+/**
+ * Receives the entities created and destroyed when a {@link CommandBuffer} is flushed.
+ * <p>
+ * Every method has an empty default, so a listener only overrides what it follows.
+ * </p>
+ */
+public interface EntityListener {
+
+    /**
+     * Called after an entity was created and its components were written.
+     *
+     * @param handle the handle of the new entity
+     */
+    default void entityCreated(int handle) {
+    }
+
+    /**
+     * Called right before an entity is destroyed, while its components can still be read.
+     *
+     * @param handle the handle of the entity
+     */
+    default void entityDestroyed(int handle) {
+    }
+}
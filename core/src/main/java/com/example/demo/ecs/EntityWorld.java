@@ -0,0 +1,225 @@
+package com.example.demo.ecs;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The EntityWorld class stores entities in archetype tables and hands out generational handles for them.
+ * <p>
+ * The world keeps one slot per entity index, holding the slot's current generation and the archetype and row
+ * where the entity's components live. Destroyed slots are reused, last freed first, so the tables stay small and
+ * warm; the world counts how many entities reused a slot, and its peak size. Creating and destroying entities
+ * directly changes the archetype rows; systems that iterate rows should queue those changes in a
+ * {@link CommandBuffer} and apply them between systems.
+ * </p>
+ */
+public class EntityWorld {
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int NO_ARCHETYPE = -1;
+
+    private final List<Archetype> archetypes;
+    private int[] generations;
+    private int[] archetypeIds;
+    private int[] rows;
+    private int[] freeIndices;
+    private int freeCount;
+    private int nextIndex;
+    private int liveCount;
+    private int peakCount;
+    private long createdCount;
+    private long reusedCount;
+
+    /**
+     * Constructs an empty world.
+     */
+    public EntityWorld() {
+        this.archetypes = new ArrayList<>();
+        this.generations = new int[INITIAL_CAPACITY];
+        this.archetypeIds = new int[INITIAL_CAPACITY];
+        this.rows = new int[INITIAL_CAPACITY];
+        this.freeIndices = new int[INITIAL_CAPACITY];
+        this.nextIndex = 1;  // Index 0 is never used, so no valid handle equals Entity.NULL
+        Arrays.fill(archetypeIds, NO_ARCHETYPE);
+    }
+
+    /**
+     * Creates an archetype holding the specified components.
+     *
+     * @param components the components of the entities stored in the archetype
+     * @return the new archetype
+     */
+    public Archetype createArchetype(Component... components) {
+        Archetype archetype = new Archetype(archetypes.size(), Component.maskOf(components));
+        archetypes.add(archetype);
+        return archetype;
+    }
+
+    /**
+     * Gets every archetype of the world, in creation order.
+     *
+     * @return the archetypes
+     */
+    public List<Archetype> getArchetypes() {
+        return archetypes;
+    }
+
+    /**
+     * Creates an entity in the specified archetype, with every component zeroed and an infinite lifetime.
+     *
+     * @param archetype the archetype of the entity
+     * @return the handle of the new entity
+     * @throws IllegalStateException if {@link Entity#MAX_ENTITIES} entities are already alive
+     */
+    public int createEntity(Archetype archetype) {
+        int index;
+        if (freeCount > 0) {
+            index = freeIndices[--freeCount];
+            reusedCount++;
+        } else {
+            if (nextIndex == Entity.MAX_ENTITIES) {
+                throw new IllegalStateException("Too many entities: " + Entity.MAX_ENTITIES);
+            }
+            if (nextIndex == generations.length) {
+                growSlots();
+            }
+            index = nextIndex++;
+            generations[index] = 1;
+        }
+        int handle = Entity.handle(index, generations[index]);
+        archetypeIds[index] = archetype.getId();
+        rows[index] = archetype.addRow(handle);
+        liveCount++;
+        peakCount = Math.max(peakCount, liveCount);
+        createdCount++;
+        return handle;
+    }
+
+    /**
+     * Destroys an entity. The last row of its archetype moves into the entity's row.
+     *
+     * @param handle the handle of the entity
+     * @return true if the entity was alive, false if the handle was stale
+     */
+    public boolean destroyEntity(int handle) {
+        if (!isAlive(handle)) {
+            return false;
+        }
+        int index = Entity.index(handle);
+        Archetype archetype = archetypes.get(archetypeIds[index]);
+        int row = rows[index];
+        int moved = archetype.removeRow(row);
+        if (moved != Entity.NULL) {
+            rows[Entity.index(moved)] = row;
+        }
+        generations[index] = Entity.nextGeneration(generations[index]);
+        archetypeIds[index] = NO_ARCHETYPE;
+        if (freeCount == freeIndices.length) {
+            freeIndices = Arrays.copyOf(freeIndices, freeIndices.length * 2);
+        }
+        freeIndices[freeCount++] = index;
+        liveCount--;
+        return true;
+    }
+
+    /**
+     * Checks whether a handle refers to a living entity.
+     *
+     * @param handle the entity handle
+     * @return true if the entity exists and the handle's generation is current
+     */
+    public boolean isAlive(int handle) {
+        int index = Entity.index(handle);
+        return handle != Entity.NULL
+                && index < nextIndex
+                && archetypeIds[index] != NO_ARCHETYPE
+                && generations[index] == Entity.generation(handle);
+    }
+
+    /**
+     * Gets the archetype a living entity is stored in.
+     *
+     * @param handle the handle of a living entity
+     * @return the entity's archetype
+     */
+    public Archetype getArchetypeOf(int handle) {
+        return archetypes.get(archetypeIds[Entity.index(handle)]);
+    }
+
+    /**
+     * Gets the row of a living entity in its archetype. Rows change when other entities are destroyed.
+     *
+     * @param handle the handle of a living entity
+     * @return the entity's row
+     */
+    public int getRow(int handle) {
+        return rows[Entity.index(handle)];
+    }
+
+    /**
+     * Gets the number of living entities.
+     *
+     * @return the entity count
+     */
+    public int size() {
+        return liveCount;
+    }
+
+    /**
+     * Gets the highest number of entities that were alive at the same time.
+     *
+     * @return the high-water mark of living entities
+     */
+    public int getPeakSize() {
+        return peakCount;
+    }
+
+    /**
+     * Gets the total number of entities created.
+     *
+     * @return the created count
+     */
+    public long getCreatedCount() {
+        return createdCount;
+    }
+
+    /**
+     * Gets the number of entities created in the slot of a destroyed one, instead of a new slot.
+     *
+     * @return the reused slot count
+     */
+    public long getReusedCount() {
+        return reusedCount;
+    }
+
+    /**
+     * Gets the fraction of created entities that reused the slot of a destroyed one.
+     *
+     * @return the reuse rate between 0.0 and 1.0, or 0.0 if nothing has been created yet
+     */
+    public double getReuseRate() {
+        return createdCount == 0 ? 0.0 : (double) reusedCount / createdCount;
+    }
+
+    /**
+     * Gets the number of entity slots the world can index before it grows again.
+     *
+     * @return the slot capacity
+     */
+    public int getCapacity() {
+        return generations.length;
+    }
+
+    /**
+     * Doubles the number of entity slots.
+     */
+    private void growSlots() {
+        int capacity = Math.min(generations.length * 2, Entity.MAX_ENTITIES);
+        generations = Arrays.copyOf(generations, capacity);
+        rows = Arrays.copyOf(rows, capacity);
+        int oldCapacity = archetypeIds.length;
+        archetypeIds = Arrays.copyOf(archetypeIds, capacity);
+        Arrays.fill(archetypeIds, oldCapacity, capacity, NO_ARCHETYPE);
+    }
+}
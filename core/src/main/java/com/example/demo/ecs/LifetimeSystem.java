@@ -0,0 +1,45 @@
+package com.example.demo.ecs;
+
+/**
+ * Counts down the lifetime of every entity that has one and queues the destruction of expired entities.
+ */
+public final class LifetimeSystem {
+
+    private LifetimeSystem() {
+    }
+
+    /**
+     * Ages every entity of a world that has a lifetime.
+     *
+     * @param world        the world
+     * @param commands     the buffer that receives the destruction of expired entities
+     * @param deltaSeconds the length of the simulation step (in seconds)
+     */
+    public static void update(EntityWorld world, CommandBuffer commands, double deltaSeconds) {
+        for (int a = 0; a < world.getArchetypes().size(); a++) {
+            Archetype archetype = world.getArchetypes().get(a);
+            if (archetype.has(Component.LIFETIME)) {
+                update(archetype, commands, deltaSeconds);
+            }
+        }
+    }
+
+    /**
+     * Ages every entity of an archetype that has a lifetime.
+     *
+     * @param archetype    the archetype
+     * @param commands     the buffer that receives the destruction of expired entities
+     * @param deltaSeconds the length of the simulation step (in seconds)
+     */
+    public static void update(Archetype archetype, CommandBuffer commands, double deltaSeconds) {
+        int size = archetype.size();
+        double[] lifetime = archetype.getLifetime();
+        int[] entities = archetype.getEntities();
+        for (int row = 0; row < size; row++) {
+            lifetime[row] -= deltaSeconds;
+            if (lifetime[row] <= 0) {
+                commands.destroy(entities[row]);
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.demo.ecs;
+
+/**
+ * Moves every entity that has a position and a velocity.
+ * <p>
+ * The system first records the position at the start of the step, so renderers can interpolate between the
+ * previous and the current step, then integrates the velocity. It only walks dense arrays and never changes the
+ * rows, so it needs no command buffer.
+ * </p>
+ */
+public final class MovementSystem {
+
+    private static final int REQUIRED = Component.maskOf(Component.POSITION, Component.VELOCITY);
+
+    private MovementSystem() {
+    }
+
+    /**
+     * Moves every moving entity of a world.
+     *
+     * @param world        the world
+     * @param deltaSeconds the length of the simulation step (in seconds)
+     */
+    public static void update(EntityWorld world, double deltaSeconds) {
+        for (int a = 0; a < world.getArchetypes().size(); a++) {
+            Archetype archetype = world.getArchetypes().get(a);
+            if (archetype.hasAll(REQUIRED)) {
+                update(archetype, deltaSeconds);
+            }
+        }
+    }
+
+    /**
+     * Moves every entity of an archetype that has a position and a velocity.
+     *
+     * @param archetype    the archetype
+     * @param deltaSeconds the length of the simulation step (in seconds)
+     */
+    public static void update(Archetype archetype, double deltaSeconds) {
+        int size = archetype.size();
+        double[] x = archetype.getPositionX();
+        double[] y = archetype.getPositionY();
+        double[] previousX = archetype.getPreviousX();
+        double[] previousY = archetype.getPreviousY();
+        double[] velocityX = archetype.getVelocityX();
+        double[] velocityY = archetype.getVelocityY();
+        for (int row = 0; row < size; row++) {
+            previousX[row] = x[row];
+            previousY[row] = y[row];
+            x[row] += velocityX[row] * deltaSeconds;
+            y[row] += velocityY[row] * deltaSeconds;
+        }
+    }
+}
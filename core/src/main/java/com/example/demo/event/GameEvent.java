@@ -0,0 +1,50 @@
+package com.example.demo.event;
+
+/**
+ * A GameEvent is a change of the game's state that the view follows, such as a kill or a hit on the user.
+ * <p>
+ * Events are slots of a {@link GameEventBus}'s ring buffer, allocated once with the bus and reused for every
+ * event published in them. A listener must therefore read what it needs while it is called, and not keep the
+ * event.
+ * </p>
+ */
+public final class GameEvent {
+
+    private GameEventType type;
+    private int value;
+
+    /**
+     * Constructs an empty slot; only the bus creates events.
+     */
+    GameEvent() {
+    }
+
+    /**
+     * Fills the slot with a new event.
+     *
+     * @param eventType  the kind of event
+     * @param eventValue the value of the event
+     */
+    void set(GameEventType eventType, int eventValue) {
+        this.type = eventType;
+        this.value = eventValue;
+    }
+
+    /**
+     * Gets the type of the event.
+     *
+     * @return the kind of event
+     */
+    public GameEventType getType() {
+        return type;
+    }
+
+    /**
+     * Gets the value carried by the event.
+     *
+     * @return the value of the event, whose meaning depends on its {@link GameEventType}
+     */
+    public int getValue() {
+        return value;
+    }
+}
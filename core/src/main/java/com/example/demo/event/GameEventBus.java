@@ -0,0 +1,148 @@
+package com.example.demo.event;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The GameEventBus class carries {@link GameEvent}s from the simulation to the listeners that subscribed to their
+ * type, on a single thread.
+ * <p>
+ * Events are published into a ring buffer of preallocated slots while a step runs, and dispatched in the order
+ * they were published once the step is done, so publishing never allocates and listeners only see consistent
+ * states. If the ring is full, the oldest pending event is dispatched to make room.
+ * </p>
+ * <p>
+ * The bus is not thread-safe: events must be published and dispatched on the thread that steps the level.
+ * </p>
+ */
+public final class GameEventBus {
+
+    /** The number of events a bus holds by default, more than a step publishes. */
+    public static final int DEFAULT_CAPACITY = 64;
+
+    private static final GameEventType[] TYPES = GameEventType.values();
+
+    private final GameEvent[] ring;
+    private final int mask;
+    private final List<List<GameEventListener>> listeners;
+    private long head;  // The sequence of the next event to dispatch
+    private long tail;  // The sequence of the next event to publish
+    private boolean dispatching;
+
+    /**
+     * Constructs a bus that holds {@value #DEFAULT_CAPACITY} pending events.
+     */
+    public GameEventBus() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a bus that holds the specified number of pending events.
+     *
+     * @param capacity the size of the ring buffer, a power of two
+     * @throws IllegalArgumentException if the capacity is not a positive power of two
+     */
+    public GameEventBus(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a positive power of two: " + capacity);
+        }
+        ring = new GameEvent[capacity];
+        for (int i = 0; i < capacity; i++) {
+            ring[i] = new GameEvent();
+        }
+        mask = capacity - 1;
+        listeners = new ArrayList<>(TYPES.length);
+        for (int i = 0; i < TYPES.length; i++) {
+            listeners.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Subscribes a listener to the events of a type. Listeners of a type are called in the order they subscribed.
+     *
+     * @param type     the type of events to receive
+     * @param listener the listener
+     */
+    public void subscribe(GameEventType type, GameEventListener listener) {
+        listeners.get(type.ordinal()).add(listener);
+    }
+
+    /**
+     * Unsubscribes a listener from the events of a type.
+     *
+     * @param type     the type of events it received
+     * @param listener the listener
+     */
+    public void unsubscribe(GameEventType type, GameEventListener listener) {
+        listeners.get(type.ordinal()).remove(listener);
+    }
+
+    /**
+     * Publishes an event, to be dispatched with the next {@link #dispatch()}.
+     *
+     * @param type  the type of the event
+     * @param value the value of the event
+     * @throws IllegalStateException if a listener publishes so many events that the ring overflows
+     */
+    public void publish(GameEventType type, int value) {
+        if (tail - head == ring.length) {
+            if (dispatching) {
+                throw new IllegalStateException("Event ring overflowed while dispatching");
+            }
+            dispatchNext();
+        }
+        ring[(int) (tail & mask)].set(type, value);
+        tail++;
+    }
+
+    /**
+     * Dispatches every pending event, in the order they were published, including events published by the
+     * listeners meanwhile.
+     *
+     * @return the number of events dispatched
+     */
+    public int dispatch() {
+        int dispatched = 0;
+        while (head < tail) {
+            dispatchNext();
+            dispatched++;
+        }
+        return dispatched;
+    }
+
+    /**
+     * Dispatches the oldest pending event. Its slot is only released once every listener returned.
+     */
+    private void dispatchNext() {
+        GameEvent event = ring[(int) (head & mask)];
+        List<GameEventListener> typeListeners = listeners.get(event.getType().ordinal());
+        dispatching = true;
+        try {
+            for (int i = 0; i < typeListeners.size(); i++) {
+                typeListeners.get(i).onEvent(event);
+            }
+        } finally {
+            dispatching = false;
+            head++;
+        }
+    }
+
+    /**
+     * Gets the number of events published but not yet dispatched.
+     *
+     * @return the pending events
+     */
+    public int getPendingCount() {
+        return (int) (tail - head);
+    }
+
+    /**
+     * Drops every pending event and every listener, so the bus no longer references the view.
+     */
+    public void clear() {
+        head = tail;
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).clear();
+        }
+    }
+}
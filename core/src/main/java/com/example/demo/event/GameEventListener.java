@@ -0,0 +1,15 @@
+package com.example.demo.event;
+
+/**
+ * Receives the {@link GameEvent}s of one {@link GameEventType} it subscribed to on a {@link GameEventBus}.
+ */
+@FunctionalInterface
+public interface GameEventListener {
+
+    /**
+     * Called when an event is dispatched. The event is reused once the call returns.
+     *
+     * @param event the event
+     */
+    void onEvent(GameEvent event);
+}
@@ -0,0 +1,12 @@
+package com.example.demo.event;
+
+/**
+ * The kinds of {@link GameEvent}s a level publishes, each with the meaning of the event's value.
+ */
+public enum GameEventType {
+    ENEMY_KILLED,         // The user shot an enemy down; the value is the user's number of kills
+    PLAYER_DAMAGED,       // The user plane was hit; the value is the health it has left
+    WAVE_STARTED,         // The next wave started; the value is its number, past the last wave once all are cleared
+    BOSS_SHIELD_CHANGED,  // The boss's shield changed state; the value is the ordinal of its shield state
+    BOSS_DAMAGED          // The boss was hit while unshielded; the value is the health it has left
+}
@@ -0,0 +1,136 @@
+package com.example.demo.headless;
+
+import com.example.demo.simulation.LatencyHistogram;
+
+/**
+ * The BatchAggregate class sums up the results of many headless runs of one point of a balancing sweep.
+ * <p>
+ * Each task of a batch fills its own aggregate, which is merged into its parent's once the task is done, so
+ * aggregates are never shared between threads while they are being filled.
+ * </p>
+ */
+public final class BatchAggregate {
+
+    private final LatencyHistogram tickNanos = new LatencyHistogram();
+    private int runs;
+    private int cleared;
+    private double clearSeconds;
+    private long ticks;
+    private long kills;
+    private int peakEntities;
+    private long maxTickNanos;
+
+    /**
+     * Gets the histogram the runs record the duration of their steps in.
+     *
+     * @return the step durations, in nanoseconds
+     */
+    LatencyHistogram getTickNanos() {
+        return tickNanos;
+    }
+
+    /**
+     * Adds the result of a run.
+     *
+     * @param run the result
+     */
+    public void add(HeadlessRun run) {
+        runs++;
+        if (run.isCleared()) {
+            cleared++;
+            clearSeconds += run.getSimulatedSeconds();
+        }
+        ticks += run.getTicks();
+        kills += run.getKills();
+        peakEntities = Math.max(peakEntities, run.getPeakEntities());
+        maxTickNanos = Math.max(maxTickNanos, run.getMaxTickNanos());
+    }
+
+    /**
+     * Adds every run of another aggregate to this one.
+     *
+     * @param other the aggregate to add
+     */
+    public void merge(BatchAggregate other) {
+        runs += other.runs;
+        cleared += other.cleared;
+        clearSeconds += other.clearSeconds;
+        ticks += other.ticks;
+        kills += other.kills;
+        peakEntities = Math.max(peakEntities, other.peakEntities);
+        maxTickNanos = Math.max(maxTickNanos, other.maxTickNanos);
+        tickNanos.add(other.tickNanos);
+    }
+
+    /**
+     * Gets the number of runs aggregated.
+     *
+     * @return the number of runs
+     */
+    public int getRuns() {
+        return runs;
+    }
+
+    /**
+     * Gets the share of runs in which the user cleared the level.
+     *
+     * @return the win rate, between 0 and 1
+     */
+    public double getWinRate() {
+        return runs > 0 ? (double) cleared / runs : 0;
+    }
+
+    /**
+     * Gets the average game time the cleared runs took to clear the level.
+     *
+     * @return the mean time to clear (in seconds), or NaN if no run cleared it
+     */
+    public double getMeanClearSeconds() {
+        return cleared > 0 ? clearSeconds / cleared : Double.NaN;
+    }
+
+    /**
+     * Gets the average number of steps per run.
+     *
+     * @return the mean ticks, or 0 if there were no runs
+     */
+    public double getMeanTicks() {
+        return runs > 0 ? (double) ticks / runs : 0;
+    }
+
+    /**
+     * Gets the average number of enemies the user destroyed per run.
+     *
+     * @return the mean kills, or 0 if there were no runs
+     */
+    public double getMeanKills() {
+        return runs > 0 ? (double) kills / runs : 0;
+    }
+
+    /**
+     * Gets the most entities any run had in its world at once.
+     *
+     * @return the most planes and projectiles any run had in its world at once
+     */
+    public int getPeakEntities() {
+        return peakEntities;
+    }
+
+    /**
+     * Gets the step duration that 99% of the steps of every run stayed under.
+     *
+     * @return the 99th percentile, in nanoseconds
+     */
+    public long getP99TickNanos() {
+        return tickNanos.getValueAtPercentile(99);
+    }
+
+    /**
+     * Gets the duration of the longest step of any run.
+     *
+     * @return the longest step of any run, in nanoseconds
+     */
+    public long getMaxTickNanos() {
+        return maxTickNanos;
+    }
+}
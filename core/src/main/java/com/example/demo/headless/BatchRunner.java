@@ -0,0 +1,289 @@
+package com.example.demo.headless;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+import com.example.demo.simulation.SimulationTime;
+
+/**
+ * The BatchRunner class runs balancing sweeps: a level played headless by a {@link ScriptedBot} for every point of a
+ * {@link ParameterGrid} and every one of a range of seeds, spread over all cores.
+ * <p>
+ * Every run builds its own world on the thread that steps it, so runs share no mutable state. The seeds of a point
+ * are split in halves by a {@link RecursiveTask} until a task has only a few of them left, which it runs in turn
+ * into its own {@link BatchAggregate}; the aggregates are merged as the tasks complete. Every point plays the same
+ * seeds, so its results differ from those of the other points by its parameters rather than by luck.
+ * </p>
+ * <p>
+ * One CSV row is written per point, in grid order, as soon as the point and those before it are done. Run it from
+ * the core module:
+ * </p>
+ * <pre>
+ * java -p core/target/classes -m com.example.demo.core/com.example.demo.headless.BatchRunner LevelSemi --seeds 1000 \
+ *     --param baseEnemiesPerWave=3,5,7 --param spawnProbabilityPerWave=0.02,0.05 --out sweep.csv
+ * </pre>
+ */
+public final class BatchRunner {
+
+    private static final int SEEDS_PER_TASK = 8;
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+    private static final String USAGE = """
+            Usage: BatchRunner <level> [--seeds <count>] [--first-seed <seed>] [--ticks <max ticks>] \
+            [--step <seconds>] [--fire <steps>] [--threads <count>] [--param <name>=<value>,<value>...]... \
+            [--out <file.csv>]
+            Levels and their parameters:""";
+
+    private final String levelName;
+    private final ParameterGrid grid;
+    private final long firstSeed;
+    private final int seedCount;
+    private final double stepSeconds;
+    private final long maxTicks;
+    private final int fireInterval;
+
+    /**
+     * Constructs a sweep.
+     *
+     * @param levelName    the full or simple name of the level
+     * @param grid         the parameter values to try
+     * @param firstSeed    the first session seed every point is played with
+     * @param seedCount    the number of consecutive seeds every point is played with
+     * @param stepSeconds  the length of a step (in seconds)
+     * @param maxTicks     the maximum number of steps of a run
+     * @param fireInterval the number of steps between the bot's shots
+     * @throws IllegalArgumentException if there is no such level, or the seed count is not positive
+     */
+    public BatchRunner(String levelName, ParameterGrid grid, long firstSeed, int seedCount, double stepSeconds,
+                       long maxTicks, int fireInterval) {
+        if (seedCount <= 0) {
+            throw new IllegalArgumentException("Seed count must be positive: " + seedCount);
+        }
+        this.levelName = LevelCatalog.resolve(levelName);
+        this.grid = grid;
+        this.firstSeed = firstSeed;
+        this.seedCount = seedCount;
+        this.stepSeconds = stepSeconds;
+        this.maxTicks = maxTicks;
+        this.fireInterval = fireInterval;
+    }
+
+    /**
+     * Runs every point of the sweep on a pool, and writes the CSV header and one row per point.
+     *
+     * @param pool the pool to run on
+     * @param csv  where the rows are written; it is flushed after every row if it can be
+     * @return the aggregate of every point, in grid order
+     * @throws IOException              if the CSV could not be written
+     * @throws IllegalArgumentException if the level has no parameter of a name in the grid
+     */
+    public List<BatchAggregate> run(ForkJoinPool pool, Appendable csv) throws IOException {
+        List<Map<String, Double>> points = grid.getPoints();
+        for (String name : grid.getNames()) {
+            if (!LevelCatalog.getDefaultParameters(levelName).containsKey(name)) {
+                throw new IllegalArgumentException(levelName + " has no parameter " + name + "; it has "
+                        + LevelCatalog.getDefaultParameters(levelName).keySet());
+            }
+        }
+
+        List<ForkJoinTask<BatchAggregate>> tasks = new ArrayList<>(points.size());
+        for (Map<String, Double> point : points) {
+            tasks.add(pool.submit(new SeedRange(point, 0, seedCount)));
+        }
+
+        csv.append(formatHeader()).append(System.lineSeparator());
+        List<BatchAggregate> results = new ArrayList<>(points.size());
+        for (int i = 0; i < points.size(); i++) {
+            BatchAggregate aggregate = tasks.get(i).join();
+            results.add(aggregate);
+            csv.append(formatRow(points.get(i), aggregate)).append(System.lineSeparator());
+            if (csv instanceof Flushable flushable) {
+                flushable.flush();
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Formats the CSV header.
+     *
+     * @return the header, without a line separator
+     */
+    String formatHeader() {
+        StringBuilder header = new StringBuilder("level");
+        for (String name : grid.getNames()) {
+            header.append(',').append(name);
+        }
+        return header.append(",runs,win_rate,mean_clear_seconds,mean_ticks,mean_kills,peak_entities,p99_tick_us,")
+                .append("max_tick_us").toString();
+    }
+
+    /**
+     * Formats the CSV row of a point.
+     *
+     * @param point     the parameter values of the point
+     * @param aggregate the results of the point
+     * @return the row, without a line separator
+     */
+    String formatRow(Map<String, Double> point, BatchAggregate aggregate) {
+        StringBuilder row = new StringBuilder(levelName.substring(levelName.lastIndexOf('.') + 1));
+        for (String name : grid.getNames()) {
+            row.append(',').append(point.get(name));
+        }
+        return row.append(String.format(Locale.ROOT, ",%d,%.4f,%.2f,%.1f,%.2f,%d,%.1f,%.1f", aggregate.getRuns(),
+                aggregate.getWinRate(), aggregate.getMeanClearSeconds(), aggregate.getMeanTicks(),
+                aggregate.getMeanKills(), aggregate.getPeakEntities(), aggregate.getP99TickNanos() / 1000.0,
+                aggregate.getMaxTickNanos() / 1000.0)).toString();
+    }
+
+    /**
+     * Runs a range of the seeds of one point, splitting it in halves until it is small enough to run in turn.
+     */
+    private final class SeedRange extends RecursiveTask<BatchAggregate> {
+
+        private final Map<String, Double> point;
+        private final int from;
+        private final int to;
+
+        /**
+         * Constructs a task for the seeds {@code firstSeed + from} (inclusive) to {@code firstSeed + to} (exclusive).
+         *
+         * @param point the parameter values of the point
+         * @param from  the index of the first seed
+         * @param to    the index after the last seed
+         */
+        SeedRange(Map<String, Double> point, int from, int to) {
+            this.point = point;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected BatchAggregate compute() {
+            if (to - from <= SEEDS_PER_TASK) {
+                BatchAggregate aggregate = new BatchAggregate();
+                for (int i = from; i < to; i++) {
+                    aggregate.add(HeadlessRunner.runBot(levelName, point, firstSeed + i, stepSeconds, fireInterval,
+                            maxTicks, aggregate.getTickNanos()));
+                }
+                return aggregate;
+            }
+            int middle = (from + to) >>> 1;
+            SeedRange right = new SeedRange(point, middle, to);
+            right.fork();
+            BatchAggregate aggregate = new SeedRange(point, from, middle).compute();
+            aggregate.merge(right.join());
+            return aggregate;
+        }
+    }
+
+    /**
+     * Runs a sweep from the command line. The CSV is written to the output file or to the standard output, and the
+     * throughput report to the standard error.
+     *
+     * @param args the level and the options, see the usage
+     */
+    public static void main(String[] args) {
+        String levelName = null;
+        ParameterGrid grid = new ParameterGrid();
+        long firstSeed = 0;
+        int seedCount = 1000;
+        long maxTicks = 100_000;
+        double stepSeconds = SimulationTime.REFERENCE_STEP_SECONDS;
+        int fireInterval = 4;
+        int threads = Runtime.getRuntime().availableProcessors();
+        Path outFile = null;
+        BatchRunner runner;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--seeds" -> seedCount = Integer.parseInt(HeadlessRunner.requireValue(args, i++));
+                    case "--first-seed" -> firstSeed = Long.parseLong(HeadlessRunner.requireValue(args, i++));
+                    case "--ticks" -> maxTicks = Long.parseLong(HeadlessRunner.requireValue(args, i++));
+                    case "--step" -> stepSeconds = Double.parseDouble(HeadlessRunner.requireValue(args, i++));
+                    case "--fire" -> fireInterval = Integer.parseInt(HeadlessRunner.requireValue(args, i++));
+                    case "--threads" -> threads = Integer.parseInt(HeadlessRunner.requireValue(args, i++));
+                    case "--out" -> outFile = Path.of(HeadlessRunner.requireValue(args, i++));
+                    case "--param" -> addParameter(grid, HeadlessRunner.requireValue(args, i++));
+                    default -> {
+                        if (args[i].startsWith("--") || levelName != null) {
+                            throw new IllegalArgumentException("Unexpected argument: " + args[i]);
+                        }
+                        levelName = args[i];
+                    }
+                }
+            }
+            if (levelName == null) {
+                throw new IllegalArgumentException("Give a level");
+            }
+            runner = new BatchRunner(levelName, grid, firstSeed, seedCount, stepSeconds, maxTicks, fireInterval);
+        } catch (IllegalArgumentException e) {
+            printUsage(e.getMessage());
+            System.exit(2);
+            return;
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        long start = System.nanoTime();
+        List<BatchAggregate> results;
+        try (Writer out = outFile != null ? Files.newBufferedWriter(outFile) : null) {
+            results = runner.run(pool, out != null ? out : System.out);
+        } catch (IllegalArgumentException e) {
+            printUsage(e.getMessage());
+            System.exit(2);
+            return;
+        } catch (IOException e) {
+            System.err.println("Failed to write results: " + e.getMessage());
+            System.exit(1);
+            return;
+        } finally {
+            pool.shutdown();
+        }
+        double seconds = (System.nanoTime() - start) / NANOS_PER_SECOND;
+        long runs = results.stream().mapToLong(BatchAggregate::getRuns).sum();
+        System.err.printf(Locale.ROOT, "%d runs in %.2f s: %.1f runs/s on %d threads%n", runs, seconds,
+                runs / seconds, threads);
+    }
+
+    /**
+     * Adds a parameter given as {@code name=value,value...} to a grid.
+     *
+     * @param grid     the grid
+     * @param argument the parameter and its values
+     * @throws IllegalArgumentException if the argument is malformed
+     */
+    private static void addParameter(ParameterGrid grid, String argument) {
+        int equals = argument.indexOf('=');
+        if (equals <= 0) {
+            throw new IllegalArgumentException("Expected <name>=<value>,<value>...: " + argument);
+        }
+        List<Double> values = new ArrayList<>();
+        for (String value : argument.substring(equals + 1).split(",")) {
+            values.add(Double.parseDouble(value.trim()));
+        }
+        grid.add(argument.substring(0, equals), values);
+    }
+
+    /**
+     * Prints why the arguments were rejected, the usage and the parameters every level takes to standard error.
+     *
+     * @param error the reason the arguments were rejected
+     */
+    private static void printUsage(String error) {
+        System.err.println(error);
+        System.err.println(USAGE);
+        for (String level : LevelCatalog.getLevelNames()) {
+            System.err.println("  " + level.substring(level.lastIndexOf('.') + 1) + " "
+                    + LevelCatalog.getDefaultParameters(level));
+        }
+    }
+}
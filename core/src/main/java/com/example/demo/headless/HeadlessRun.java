@@ -0,0 +1,180 @@
+package com.example.demo.headless;
+
+import com.example.demo.simulation.LevelSimulation;
+
+/**
+ * The HeadlessRun class holds the result of running a level headless.
+ */
+public final class HeadlessRun {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final String levelName;
+    private final long sessionSeed;
+    private final long ticks;
+    private final double stepSeconds;
+    private final long elapsedNanos;
+    private final long allocatedBytes;
+    private final long maxTickNanos;
+    private final int peakEntities;
+    private final LevelSimulation.Outcome outcome;
+    private final int kills;
+    private final int userHealth;
+
+    /**
+     * Constructs the result of a run.
+     *
+     * @param levelName      the full name of the level
+     * @param sessionSeed    the session seed the level was built with
+     * @param ticks          the number of steps run
+     * @param stepSeconds    the length of a step (in seconds)
+     * @param elapsedNanos   the wall-clock time the steps took, in nanoseconds
+     * @param allocatedBytes the bytes allocated while stepping, or -1 if they could not be counted
+     * @param maxTickNanos   the longest step, in nanoseconds
+     * @param peakEntities   the most planes and projectiles in the world at the end of a step
+     * @param outcome        the state of the level when the run stopped
+     * @param kills          the number of enemies the user destroyed
+     * @param userHealth     the health the user was left with
+     */
+    public HeadlessRun(String levelName, long sessionSeed, long ticks, double stepSeconds, long elapsedNanos,
+                       long allocatedBytes, long maxTickNanos, int peakEntities, LevelSimulation.Outcome outcome,
+                       int kills, int userHealth) {
+        this.levelName = levelName;
+        this.sessionSeed = sessionSeed;
+        this.ticks = ticks;
+        this.stepSeconds = stepSeconds;
+        this.elapsedNanos = elapsedNanos;
+        this.allocatedBytes = allocatedBytes;
+        this.maxTickNanos = maxTickNanos;
+        this.peakEntities = peakEntities;
+        this.outcome = outcome;
+        this.kills = kills;
+        this.userHealth = userHealth;
+    }
+
+    /**
+     * Gets the full name of the level that was run.
+     *
+     * @return the full name of the level
+     */
+    public String getLevelName() {
+        return levelName;
+    }
+
+    /**
+     * Gets the session seed the level was built with.
+     *
+     * @return the session seed the level was built with
+     */
+    public long getSessionSeed() {
+        return sessionSeed;
+    }
+
+    /**
+     * Gets the number of steps run.
+     *
+     * @return the number of steps run
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Gets the game time the run covered.
+     *
+     * @return the simulated time (in seconds)
+     */
+    public double getSimulatedSeconds() {
+        return ticks * stepSeconds;
+    }
+
+    /**
+     * Gets the wall-clock time the steps took.
+     *
+     * @return the wall-clock time the steps took, in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Gets how many steps were run per second of wall-clock time.
+     *
+     * @return the tick rate, or 0 if nothing was run
+     */
+    public double getTicksPerSecond() {
+        return elapsedNanos > 0 ? ticks * NANOS_PER_SECOND / elapsedNanos : 0;
+    }
+
+    /**
+     * Gets the bytes allocated by the running thread while stepping.
+     *
+     * @return the bytes allocated while stepping, or -1 if they could not be counted
+     */
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * Gets the average number of bytes allocated per step.
+     *
+     * @return the bytes per tick, or -1 if allocations could not be counted or nothing was run
+     */
+    public double getAllocatedBytesPerTick() {
+        return allocatedBytes >= 0 && ticks > 0 ? (double) allocatedBytes / ticks : -1;
+    }
+
+    /**
+     * Gets the duration of the longest step.
+     *
+     * @return the longest step, in nanoseconds
+     */
+    public long getMaxTickNanos() {
+        return maxTickNanos;
+    }
+
+    /**
+     * Gets the most entities the world held at the end of a step.
+     *
+     * @return the most planes and projectiles in the world at the end of a step
+     */
+    public int getPeakEntities() {
+        return peakEntities;
+    }
+
+    /**
+     * Checks if the user cleared the level, by winning the game or reaching the next level.
+     *
+     * @return true if the level was cleared
+     */
+    public boolean isCleared() {
+        return outcome == LevelSimulation.Outcome.WON || outcome == LevelSimulation.Outcome.NEXT_LEVEL;
+    }
+
+    /**
+     * Gets the state of the level when the run stopped.
+     *
+     * @return the state of the level when the run stopped
+     */
+    public LevelSimulation.Outcome getOutcome() {
+        return outcome;
+    }
+
+    /**
+     * Gets the number of enemies the user destroyed.
+     *
+     * @return the number of enemies the user destroyed
+     */
+    public int getKills() {
+        return kills;
+    }
+
+    /**
+     * Gets the health the user was left with.
+     *
+     * @return the health the user was left with
+     */
+    public int getUserHealth() {
+        return userHealth;
+    }
+}
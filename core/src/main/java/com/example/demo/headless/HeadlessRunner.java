@@ -0,0 +1,203 @@
+package com.example.demo.headless;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+
+import com.example.demo.diagnostics.AllocationMeter;
+import com.example.demo.replay.InputLog;
+import com.example.demo.replay.InputReplay;
+import com.example.demo.simulation.GameRandom;
+import com.example.demo.simulation.LatencyHistogram;
+import com.example.demo.simulation.LevelSimulation;
+import com.example.demo.simulation.SimulationTime;
+
+/**
+ * The HeadlessRunner class runs a level of the game without a window, stepping it as fast as the CPU allows.
+ * <p>
+ * A run steps the real level rules for a number of ticks or until the level ends, with the user played either by
+ * a {@link ScriptedBot} or by a recorded input log. It reports the tick rate, the 99th percentile and longest step,
+ * the bytes allocated per tick, the peak number of entities and the outcome, which makes it suitable for balancing
+ * and for performance regression runs on machines without a display. Run it from the core module:
+ * </p>
+ * <pre>
+ * java -p core/target/classes -m com.example.demo.core/com.example.demo.headless.HeadlessRunner LevelOne --seed 42
+ * java -p core/target/classes -m com.example.demo.core/com.example.demo.headless.HeadlessRunner --replay run.input
+ * </pre>
+ */
+public final class HeadlessRunner {
+
+    private static final long DEFAULT_MAX_TICKS = 1_000_000;
+    private static final String USAGE = """
+            Usage: HeadlessRunner <level> [--seed <seed>] [--ticks <max ticks>] [--step <seconds>] [--fire <steps>]
+                   HeadlessRunner --replay <file> [--ticks <max ticks>]
+            Levels: LevelOne, LevelSemi, LevelTwo. Without --replay the user is played by a scripted bot.""";
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private HeadlessRunner() {
+    }
+
+    /**
+     * Runs a level until it ends, the driver runs out of input or the tick limit is reached.
+     *
+     * @param simulation  the simulation of the level, freshly built
+     * @param levelName   the full name of the level, for the result
+     * @param sessionSeed the session seed the level was built with, for the result
+     * @param driver      the driver playing the user
+     * @param stepSeconds the length of a step (in seconds)
+     * @param maxTicks    the maximum number of steps to run
+     * @param tickNanos   the histogram the duration of every step is recorded in
+     * @return the result of the run
+     */
+    public static HeadlessRun run(LevelSimulation simulation, String levelName, long sessionSeed, InputDriver driver,
+                                  double stepSeconds, long maxTicks, LatencyHistogram tickNanos) {
+        long ticks = 0;
+        long maxTickNanos = 0;
+        int peakEntities = 0;
+        long allocatedBefore = AllocationMeter.currentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        long stepStart = start;
+        while (ticks < maxTicks && simulation.getOutcome() == LevelSimulation.Outcome.IN_PROGRESS
+                && !driver.isFinished(simulation)) {
+            driver.beforeStep(simulation);
+            simulation.step(stepSeconds);
+            long stepEnd = System.nanoTime();
+            tickNanos.record(stepEnd - stepStart);
+            maxTickNanos = Math.max(maxTickNanos, stepEnd - stepStart);
+            stepStart = stepEnd;
+            peakEntities = Math.max(peakEntities, simulation.getFriendlyUnits().size()
+                    + simulation.getEnemyUnits().size() + simulation.getProjectiles().size());
+            ticks++;
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        long allocatedBytes = AllocationMeter.isSupported()
+                ? AllocationMeter.currentThreadAllocatedBytes() - allocatedBefore
+                : -1;
+        return new HeadlessRun(levelName, sessionSeed, ticks, stepSeconds, elapsedNanos, allocatedBytes, maxTickNanos,
+                peakEntities, simulation.getOutcome(), simulation.getUser().getNumberOfKills(),
+                simulation.getUser().getHealth());
+    }
+
+    /**
+     * Runs a level played by a scripted bot, on the default screen.
+     *
+     * @param levelName    the full or simple name of the level
+     * @param parameters   the tuning parameters to override, see {@link LevelCatalog#getDefaultParameters(String)}
+     * @param sessionSeed  the session seed
+     * @param stepSeconds  the length of a step (in seconds)
+     * @param fireInterval the number of steps between the bot's shots
+     * @param maxTicks     the maximum number of steps to run
+     * @param tickNanos    the histogram the duration of every step is recorded in
+     * @return the result of the run
+     * @throws IllegalArgumentException if there is no such level or parameter
+     */
+    public static HeadlessRun runBot(String levelName, Map<String, Double> parameters, long sessionSeed,
+                                     double stepSeconds, int fireInterval, long maxTicks,
+                                     LatencyHistogram tickNanos) {
+        String fullName = LevelCatalog.resolve(levelName);
+        LevelSimulation simulation = LevelCatalog.create(fullName, LevelCatalog.DEFAULT_SCREEN_HEIGHT,
+                LevelCatalog.DEFAULT_SCREEN_WIDTH, sessionSeed, parameters);
+        return run(simulation, fullName, sessionSeed, new ScriptedBot(fireInterval), stepSeconds, maxTicks,
+                tickNanos);
+    }
+
+    /**
+     * Replays a recorded log on the level, seed, screen and step length it was recorded with.
+     *
+     * @param log       the recorded log
+     * @param maxTicks  the maximum number of steps to run
+     * @param tickNanos the histogram the duration of every step is recorded in
+     * @return the result of the run
+     * @throws IllegalArgumentException if the log's level does not exist
+     */
+    public static HeadlessRun runReplay(InputLog log, long maxTicks, LatencyHistogram tickNanos) {
+        LevelSimulation simulation = LevelCatalog.create(log.getLevelName(), log.getScreenHeight(),
+                log.getScreenWidth(), log.getSessionSeed());
+        return run(simulation, LevelCatalog.resolve(log.getLevelName()), log.getSessionSeed(),
+                InputDriver.replaying(new InputReplay(log)), log.getStepSeconds(), maxTicks, tickNanos);
+    }
+
+    /**
+     * Runs a level from the command line and prints its report.
+     *
+     * @param args the level and the options, see the usage
+     */
+    public static void main(String[] args) {
+        String levelName = null;
+        Path replayFile = null;
+        long seed = GameRandom.sessionSeed();
+        long maxTicks = DEFAULT_MAX_TICKS;
+        double stepSeconds = SimulationTime.REFERENCE_STEP_SECONDS;
+        int fireInterval = 4;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--replay" -> replayFile = Path.of(requireValue(args, i++));
+                    case "--seed" -> seed = Long.parseLong(requireValue(args, i++));
+                    case "--ticks" -> maxTicks = Long.parseLong(requireValue(args, i++));
+                    case "--step" -> stepSeconds = Double.parseDouble(requireValue(args, i++));
+                    case "--fire" -> fireInterval = Integer.parseInt(requireValue(args, i++));
+                    default -> {
+                        if (args[i].startsWith("--") || levelName != null) {
+                            throw new IllegalArgumentException("Unexpected argument: " + args[i]);
+                        }
+                        levelName = args[i];
+                    }
+                }
+            }
+            if ((levelName == null) == (replayFile == null)) {
+                throw new IllegalArgumentException("Give either a level or a replay file");
+            }
+            LatencyHistogram tickNanos = new LatencyHistogram();
+            HeadlessRun result = replayFile != null
+                    ? runReplay(InputLog.load(replayFile), maxTicks, tickNanos)
+                    : runBot(levelName, Map.of(), seed, stepSeconds, fireInterval, maxTicks, tickNanos);
+            System.out.println(format(result, tickNanos));
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+        } catch (IOException e) {
+            System.err.println("Failed to read replay: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Gets the value of a command line option.
+     *
+     * @param args   the command line arguments
+     * @param option the index of the option
+     * @return the argument following the option
+     * @throws IllegalArgumentException if the option is the last argument
+     */
+    static String requireValue(String[] args, int option) {
+        if (option + 1 >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + args[option]);
+        }
+        return args[option + 1];
+    }
+
+    /**
+     * Formats the report of a run.
+     *
+     * @param result    the result of the run
+     * @param tickNanos the durations of the run's steps
+     * @return the report
+     */
+    static String format(HeadlessRun result, LatencyHistogram tickNanos) {
+        String allocation = result.getAllocatedBytesPerTick() >= 0
+                ? String.format(Locale.ROOT, "%.1f B/tick", result.getAllocatedBytesPerTick())
+                : "allocations not counted";
+        return String.format(Locale.ROOT, "%s seed %d: %s after %d ticks (%.1f s of game time)%n"
+                        + "  %.0f ticks/s, tick p99 %.1f us max %.1f us, %s%n"
+                        + "  peak %d entities, %d kills, %d health left",
+                result.getLevelName(), result.getSessionSeed(), result.getOutcome(), result.getTicks(),
+                result.getSimulatedSeconds(), result.getTicksPerSecond(), tickNanos.getValueAtPercentile(99) / 1000.0,
+                result.getMaxTickNanos() / 1000.0, allocation, result.getPeakEntities(), result.getKills(),
+                result.getUserHealth());
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.demo.headless;
+
+import com.example.demo.replay.InputReplay;
+import com.example.demo.simulation.LevelSimulation;
+
+/**
+ * An InputDriver plays the user in a headless run, in place of the keyboard.
+ */
+public interface InputDriver {
+
+    /**
+     * Applies the inputs of the user before the simulation's next step.
+     *
+     * @param simulation the simulation being run
+     */
+    void beforeStep(LevelSimulation simulation);
+
+    /**
+     * Checks if the driver has no more input to give, which ends the run.
+     *
+     * @param simulation the simulation being run
+     * @return true if the run should stop
+     */
+    default boolean isFinished(LevelSimulation simulation) {
+        return false;
+    }
+
+    /**
+     * Creates a driver that replays a recorded log, and stops where the recording stopped.
+     *
+     * @param replay the replay
+     * @return the driver
+     */
+    static InputDriver replaying(InputReplay replay) {
+        return new InputDriver() {
+            @Override
+            public void beforeStep(LevelSimulation simulation) {
+                replay.applyDueInputs(simulation);
+            }
+
+            @Override
+            public boolean isFinished(LevelSimulation simulation) {
+                return replay.isFinished(simulation);
+            }
+        };
+    }
+}
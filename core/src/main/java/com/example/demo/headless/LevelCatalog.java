@@ -0,0 +1,152 @@
+package com.example.demo.headless;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import com.example.demo.simulation.LevelOneSimulation;
+import com.example.demo.simulation.LevelSemiSimulation;
+import com.example.demo.simulation.LevelSimulation;
+import com.example.demo.simulation.LevelTwoSimulation;
+
+/**
+ * The LevelCatalog class builds the simulations of the game's levels by the names the controller knows them by.
+ * Levels can be named in full, such as {@code com.example.demo.LevelOne}, or by their simple name.
+ * <p>
+ * Each level also lists the tuning parameters a balancing run may override, with the values the game ships with.
+ * </p>
+ */
+public final class LevelCatalog {
+
+    /** The height of the screen levels are simulated on by default, that of the game's window. */
+    public static final double DEFAULT_SCREEN_HEIGHT = 750;
+    /** The width of the screen levels are simulated on by default, that of the game's window. */
+    public static final double DEFAULT_SCREEN_WIDTH = 1300;
+
+    private static final String PACKAGE_PREFIX = "com.example.demo.";
+    private static final Map<String, LevelConstructor> LEVELS = new LinkedHashMap<>();
+    private static final Map<String, Map<String, Double>> DEFAULT_PARAMETERS = new LinkedHashMap<>();
+
+    static {
+        register("LevelOne", Map.of("enemySpawnProbability", LevelOneSimulation.ENEMY_SPAWN_PROBABILITY),
+                (screenHeight, screenWidth, seed, parameters) -> new LevelOneSimulation(screenHeight, screenWidth,
+                        seed, parameters.get("enemySpawnProbability")));
+
+        Map<String, Double> semiParameters = new LinkedHashMap<>();
+        semiParameters.put("baseEnemiesPerWave", (double) LevelSemiSimulation.BASE_ENEMIES_PER_WAVE);
+        semiParameters.put("baseSpawnProbability", LevelSemiSimulation.BASE_SPAWN_PROBABILITY);
+        semiParameters.put("spawnProbabilityPerWave", LevelSemiSimulation.SPAWN_PROBABILITY_PER_WAVE);
+        register("LevelSemi", semiParameters,
+                (screenHeight, screenWidth, seed, parameters) -> new LevelSemiSimulation(screenHeight, screenWidth,
+                        seed, (int) Math.round(parameters.get("baseEnemiesPerWave")),
+                        parameters.get("baseSpawnProbability"), parameters.get("spawnProbabilityPerWave")));
+
+        register("LevelTwo", Map.of(),
+                (screenHeight, screenWidth, seed, parameters) -> new LevelTwoSimulation(screenHeight, screenWidth,
+                        seed));
+    }
+
+    /**
+     * Builds the simulation of a level from a complete set of its parameters.
+     */
+    @FunctionalInterface
+    private interface LevelConstructor {
+        LevelSimulation create(double screenHeight, double screenWidth, long sessionSeed,
+                               Map<String, Double> parameters);
+    }
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private LevelCatalog() {
+    }
+
+    /**
+     * Registers a level under its full name.
+     *
+     * @param simpleName  the simple name of the level
+     * @param parameters  the tuning parameters of the level, with their default values
+     * @param constructor builds the level from a complete set of parameters
+     */
+    private static void register(String simpleName, Map<String, Double> parameters, LevelConstructor constructor) {
+        LEVELS.put(PACKAGE_PREFIX + simpleName, constructor);
+        DEFAULT_PARAMETERS.put(PACKAGE_PREFIX + simpleName, Collections.unmodifiableMap(parameters));
+    }
+
+    /**
+     * Gets the full names of every level, in the order they are played.
+     *
+     * @return the level names
+     */
+    public static Set<String> getLevelNames() {
+        return Collections.unmodifiableSet(LEVELS.keySet());
+    }
+
+    /**
+     * Resolves a level name to the full name the controller knows the level by.
+     *
+     * @param levelName the full or simple name of the level
+     * @return the full name
+     * @throws IllegalArgumentException if there is no such level
+     */
+    public static String resolve(String levelName) {
+        String fullName = levelName.startsWith(PACKAGE_PREFIX) ? levelName : PACKAGE_PREFIX + levelName;
+        if (!LEVELS.containsKey(fullName)) {
+            throw new IllegalArgumentException("Level not found: " + levelName);
+        }
+        return fullName;
+    }
+
+    /**
+     * Gets the tuning parameters of a level with the values the game ships with.
+     *
+     * @param levelName the full or simple name of the level
+     * @return the parameters by name
+     * @throws IllegalArgumentException if there is no such level
+     */
+    public static Map<String, Double> getDefaultParameters(String levelName) {
+        return DEFAULT_PARAMETERS.get(resolve(levelName));
+    }
+
+    /**
+     * Builds the simulation of a level as the game ships it.
+     *
+     * @param levelName    the full or simple name of the level
+     * @param screenHeight the height of the screen
+     * @param screenWidth  the width of the screen
+     * @param sessionSeed  the session seed the level's random sources are seeded from
+     * @return the new simulation
+     * @throws IllegalArgumentException if there is no such level
+     */
+    public static LevelSimulation create(String levelName, double screenHeight, double screenWidth,
+                                         long sessionSeed) {
+        return create(levelName, screenHeight, screenWidth, sessionSeed, Map.of());
+    }
+
+    /**
+     * Builds the simulation of a level with some of its tuning parameters overridden.
+     *
+     * @param levelName    the full or simple name of the level
+     * @param screenHeight the height of the screen
+     * @param screenWidth  the width of the screen
+     * @param sessionSeed  the session seed the level's random sources are seeded from
+     * @param overrides    the parameters to override, by name; the others keep their default values
+     * @return the new simulation
+     * @throws IllegalArgumentException if there is no such level, or it has no parameter of an overridden name
+     */
+    public static LevelSimulation create(String levelName, double screenHeight, double screenWidth,
+                                         long sessionSeed, Map<String, Double> overrides) {
+        String fullName = resolve(levelName);
+        Map<String, Double> defaults = DEFAULT_PARAMETERS.get(fullName);
+        Map<String, Double> parameters = new LinkedHashMap<>(defaults);
+        for (Map.Entry<String, Double> override : overrides.entrySet()) {
+            if (!defaults.containsKey(override.getKey())) {
+                throw new IllegalArgumentException(fullName + " has no parameter " + override.getKey()
+                        + "; it has " + defaults.keySet());
+            }
+            parameters.put(override.getKey(), override.getValue());
+        }
+        return LEVELS.get(fullName).create(screenHeight, screenWidth, sessionSeed, parameters);
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.demo.headless;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The ParameterGrid class holds the values to try for each tuning parameter of a balancing sweep, and enumerates
+ * every combination of them.
+ */
+public final class ParameterGrid {
+
+    private final Map<String, List<Double>> values = new LinkedHashMap<>();
+
+    /**
+     * Adds a parameter to the grid.
+     *
+     * @param name            the name of the parameter
+     * @param parameterValues the values to try
+     * @return this grid
+     * @throws IllegalArgumentException if no value is given, or the parameter is already in the grid
+     */
+    public ParameterGrid add(String name, List<Double> parameterValues) {
+        if (parameterValues.isEmpty()) {
+            throw new IllegalArgumentException("No values for parameter " + name);
+        }
+        if (values.putIfAbsent(name, List.copyOf(parameterValues)) != null) {
+            throw new IllegalArgumentException("Parameter given twice: " + name);
+        }
+        return this;
+    }
+
+    /**
+     * Gets the names of the parameters, in the order they were added.
+     *
+     * @return the parameter names
+     */
+    public List<String> getNames() {
+        return List.copyOf(values.keySet());
+    }
+
+    /**
+     * Enumerates every combination of the parameters' values. The last parameter added varies fastest. An empty
+     * grid has a single point, which overrides nothing.
+     *
+     * @return the points of the grid, each mapping every parameter to one of its values
+     */
+    public List<Map<String, Double>> getPoints() {
+        List<Map<String, Double>> points = new ArrayList<>();
+        points.add(Collections.emptyMap());
+        for (Map.Entry<String, List<Double>> parameter : values.entrySet()) {
+            List<Map<String, Double>> expanded = new ArrayList<>(points.size() * parameter.getValue().size());
+            for (Map<String, Double> point : points) {
+                for (double value : parameter.getValue()) {
+                    Map<String, Double> next = new LinkedHashMap<>(point);
+                    next.put(parameter.getKey(), value);
+                    expanded.add(Collections.unmodifiableMap(next));
+                }
+            }
+            points = expanded;
+        }
+        return points;
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.demo.headless;
+
+import java.util.List;
+
+import com.example.demo.characters.ActiveActorDestructible;
+import com.example.demo.characters.UserPlane;
+import com.example.demo.replay.InputKey;
+import com.example.demo.simulation.LevelSimulation;
+
+/**
+ * The ScriptedBot class plays the user with a simple, deterministic script.
+ * <p>
+ * It keeps tapping fire at a fixed interval and steers towards the enemy closest to the user along the horizontal
+ * axis, holding up or down until it is level with it. It uses the same {@link InputKey}s as the keyboard, so its
+ * games exercise exactly the code paths of a real player.
+ * </p>
+ */
+public class ScriptedBot implements InputDriver {
+
+    private static final int DEFAULT_FIRE_INTERVAL = 4;  // Steps between shots
+    private static final double AIM_TOLERANCE = 10;      // Pixels
+
+    private final int fireInterval;
+    private InputKey heldKey;
+
+    /**
+     * Constructs a bot that fires every {@value #DEFAULT_FIRE_INTERVAL} steps.
+     */
+    public ScriptedBot() {
+        this(DEFAULT_FIRE_INTERVAL);
+    }
+
+    /**
+     * Constructs a bot that fires at the specified interval.
+     *
+     * @param fireInterval the number of steps between shots
+     * @throws IllegalArgumentException if the interval is not positive
+     */
+    public ScriptedBot(int fireInterval) {
+        if (fireInterval <= 0) {
+            throw new IllegalArgumentException("Fire interval must be positive: " + fireInterval);
+        }
+        this.fireInterval = fireInterval;
+    }
+
+    @Override
+    public void beforeStep(LevelSimulation simulation) {
+        if (simulation.getStepCount() % fireInterval == 0) {
+            InputKey.FIRE.apply(simulation, true);  // A tap: the next step still samples the press
+            InputKey.FIRE.apply(simulation, false);
+        }
+
+        UserPlane user = simulation.getUser();
+        ActiveActorDestructible target = findTarget(simulation.getEnemyUnits());
+        InputKey wantedKey = null;
+        if (target != null) {
+            double offset = centerY(target) - centerY(user);
+            if (offset < -AIM_TOLERANCE) {
+                wantedKey = InputKey.UP;
+            } else if (offset > AIM_TOLERANCE) {
+                wantedKey = InputKey.DOWN;
+            }
+        }
+        if (wantedKey != heldKey) {
+            if (heldKey != null) {
+                heldKey.apply(simulation, false);
+            }
+            if (wantedKey != null) {
+                wantedKey.apply(simulation, true);
+            }
+            heldKey = wantedKey;
+        }
+    }
+
+    /**
+     * Finds the on-screen enemy with the smallest horizontal position, the first to reach the user.
+     *
+     * @param enemies the enemies
+     * @return the target, or null if no enemy is on screen
+     */
+    private static ActiveActorDestructible findTarget(List<ActiveActorDestructible> enemies) {
+        ActiveActorDestructible target = null;
+        for (int i = 0; i < enemies.size(); i++) {
+            ActiveActorDestructible enemy = enemies.get(i);
+            if (enemy.isOnScreen() && (target == null || enemy.getMinX() < target.getMinX())) {
+                target = enemy;
+            }
+        }
+        return target;
+    }
+
+    private static double centerY(ActiveActorDestructible actor) {
+        return (actor.getMinY() + actor.getMaxY()) / 2;
+    }
+}
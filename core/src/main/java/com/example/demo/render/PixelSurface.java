@@ -0,0 +1,231 @@
+package com.example.demo.render;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+
+/**
+ * A software render target of premultiplied ARGB pixels in a direct {@link IntBuffer}, onto which
+ * {@link SpriteBitmap}s are blitted with source-over alpha blending.
+ * <p>
+ * The buffer is direct and in native byte order, so a view can share it without copying, for example a JavaFX
+ * {@code PixelBuffer} with the {@code IntArgbPre} format. A frame starts with {@link #beginFrame()}, which
+ * clears only the pixels drawn during the previous frame. The surface then tracks the smallest rectangle that
+ * changed since the previous frame, so the view only has to upload that region.
+ * </p>
+ * <p>
+ * The surface has no dependency on a toolkit; its pixels can be compared against reference images headless.
+ * </p>
+ */
+public class PixelSurface {
+
+    private final int width;
+    private final int height;
+    private final IntBuffer pixels;
+
+    // The region drawn in the current frame and the one cleared when it began, as [min, max) bounds;
+    // an empty region has its minimum at the far edge of the surface and its maximum at zero
+    private int drawnMinX;
+    private int drawnMinY;
+    private int drawnMaxX;
+    private int drawnMaxY;
+    private int clearedMinX;
+    private int clearedMinY;
+    private int clearedMaxX;
+    private int clearedMaxY;
+
+    /**
+     * Constructs a transparent surface.
+     *
+     * @param width  the width in pixels
+     * @param height the height in pixels
+     * @throws IllegalArgumentException if a dimension is not positive
+     */
+    public PixelSurface(int width, int height) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Surface size must be positive: " + width + "x" + height);
+        }
+        this.width = width;
+        this.height = height;
+        this.pixels = ByteBuffer.allocateDirect(width * height * Integer.BYTES)
+                .order(ByteOrder.nativeOrder())
+                .asIntBuffer();
+        resetDrawnRegion();
+        clearedMinX = width;
+        clearedMinY = height;
+    }
+
+    /**
+     * Starts a frame by clearing the pixels drawn during the previous frame.
+     */
+    public void beginFrame() {
+        for (int y = drawnMinY; y < drawnMaxY; y++) {
+            int row = y * width;
+            for (int x = drawnMinX; x < drawnMaxX; x++) {
+                pixels.put(row + x, 0);
+            }
+        }
+        clearedMinX = drawnMinX;
+        clearedMinY = drawnMinY;
+        clearedMaxX = drawnMaxX;
+        clearedMaxY = drawnMaxY;
+        resetDrawnRegion();
+    }
+
+    /**
+     * Blends a sprite over the surface, clipped to its bounds.
+     *
+     * @param sprite the sprite
+     * @param x      the column of the sprite's left edge, which may be off the surface
+     * @param y      the row of the sprite's top edge, which may be off the surface
+     */
+    public void blit(SpriteBitmap sprite, int x, int y) {
+        int minX = Math.max(x, 0);
+        int minY = Math.max(y, 0);
+        int maxX = Math.min(x + sprite.getWidth(), width);
+        int maxY = Math.min(y + sprite.getHeight(), height);
+        if (minX >= maxX || minY >= maxY) {
+            return;
+        }
+        int[] source = sprite.pixels();
+        int spriteWidth = sprite.getWidth();
+        for (int row = minY; row < maxY; row++) {
+            int sourceIndex = (row - y) * spriteWidth + (minX - x);
+            int targetIndex = row * width + minX;
+            for (int column = minX; column < maxX; column++, sourceIndex++, targetIndex++) {
+                int color = source[sourceIndex];
+                int alpha = color >>> 24;
+                if (alpha == 0xFF) {
+                    pixels.put(targetIndex, color);
+                } else if (alpha != 0) {
+                    pixels.put(targetIndex, blend(color, pixels.get(targetIndex)));
+                }
+            }
+        }
+        drawnMinX = Math.min(drawnMinX, minX);
+        drawnMinY = Math.min(drawnMinY, minY);
+        drawnMaxX = Math.max(drawnMaxX, maxX);
+        drawnMaxY = Math.max(drawnMaxY, maxY);
+    }
+
+    /**
+     * Checks whether any pixel changed since the previous frame.
+     *
+     * @return true if the changed region is not empty
+     */
+    public boolean isChanged() {
+        return getChangedMaxX() > getChangedMinX() && getChangedMaxY() > getChangedMinY();
+    }
+
+    /**
+     * Gets the left edge of the region changed since the previous frame: pixels cleared by
+     * {@link #beginFrame()} and pixels drawn since.
+     *
+     * @return the first changed column
+     */
+    public int getChangedMinX() {
+        return Math.min(clearedMinX, drawnMinX);
+    }
+
+    /**
+     * Gets the top edge of the region changed since the previous frame.
+     *
+     * @return the first changed row
+     */
+    public int getChangedMinY() {
+        return Math.min(clearedMinY, drawnMinY);
+    }
+
+    /**
+     * Gets the right edge, exclusive, of the region changed since the previous frame.
+     *
+     * @return the column after the last changed one
+     */
+    public int getChangedMaxX() {
+        return Math.max(clearedMaxX, drawnMaxX);
+    }
+
+    /**
+     * Gets the bottom edge, exclusive, of the region changed since the previous frame.
+     *
+     * @return the row after the last changed one
+     */
+    public int getChangedMaxY() {
+        return Math.max(clearedMaxY, drawnMaxY);
+    }
+
+    /**
+     * Gets a pixel of the surface.
+     *
+     * @param x the column
+     * @param y the row
+     * @return the premultiplied ARGB pixel
+     */
+    public int getPixel(int x, int y) {
+        return pixels.get(y * width + x);
+    }
+
+    /**
+     * Gets the pixels of the surface, row by row, to share with a view.
+     *
+     * @return the direct buffer of premultiplied ARGB pixels
+     */
+    public IntBuffer getPixels() {
+        return pixels;
+    }
+
+    /**
+     * Gets the width of the surface.
+     *
+     * @return the width in pixels
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Gets the height of the surface.
+     *
+     * @return the height in pixels
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Blends a premultiplied source pixel over a premultiplied target pixel.
+     *
+     * @param source the source pixel
+     * @param target the target pixel
+     * @return the blended pixel
+     */
+    static int blend(int source, int target) {
+        int inverse = 0xFF - (source >>> 24);
+        int alpha = (source >>> 24) + divideBy255((target >>> 24) * inverse);
+        int red = ((source >> 16) & 0xFF) + divideBy255(((target >> 16) & 0xFF) * inverse);
+        int green = ((source >> 8) & 0xFF) + divideBy255(((target >> 8) & 0xFF) * inverse);
+        int blue = (source & 0xFF) + divideBy255((target & 0xFF) * inverse);
+        return (alpha << 24) | (red << 16) | (green << 8) | blue;
+    }
+
+    /**
+     * Divides a product of two channel values by 255, rounding to the nearest integer, without a division.
+     *
+     * @param value a value from 0 to 255 * 255
+     * @return the rounded quotient
+     */
+    static int divideBy255(int value) {
+        int rounded = value + 128;
+        return (rounded + (rounded >> 8)) >> 8;
+    }
+
+    /**
+     * Empties the region drawn in the current frame.
+     */
+    private void resetDrawnRegion() {
+        drawnMinX = width;
+        drawnMinY = height;
+        drawnMaxX = 0;
+        drawnMaxY = 0;
+    }
+}
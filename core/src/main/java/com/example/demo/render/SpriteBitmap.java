@@ -0,0 +1,108 @@
+package com.example.demo.render;
+
+/**
+ * An immutable sprite image as rows of premultiplied ARGB pixels, ready to be blitted onto a {@link PixelSurface}.
+ * <p>
+ * Each pixel is an int with alpha in the top byte and red, green and blue below it, every color channel already
+ * multiplied by alpha. Premultiplying once when the sprite is loaded makes every later blend one multiply per
+ * channel, and lets fully opaque and fully transparent pixels be copied or skipped outright.
+ * </p>
+ */
+public final class SpriteBitmap {
+
+    private final int width;
+    private final int height;
+    private final int[] pixels;
+
+    /**
+     * Constructs a bitmap over premultiplied pixels.
+     *
+     * @param width  the width in pixels
+     * @param height the height in pixels
+     * @param pixels the premultiplied ARGB pixels, row by row; the array is not copied
+     * @throws IllegalArgumentException if the array does not hold {@code width * height} pixels
+     */
+    public SpriteBitmap(int width, int height, int[] pixels) {
+        if (width < 0 || height < 0 || pixels.length != width * height) {
+            throw new IllegalArgumentException("Expected " + width + "x" + height + " pixels but got " + pixels.length);
+        }
+        this.width = width;
+        this.height = height;
+        this.pixels = pixels;
+    }
+
+    /**
+     * Creates a bitmap from non-premultiplied ARGB pixels, as read from a decoded image.
+     *
+     * @param width  the width in pixels
+     * @param height the height in pixels
+     * @param argb   the ARGB pixels, row by row
+     * @return the premultiplied bitmap
+     * @throws IllegalArgumentException if the array does not hold {@code width * height} pixels
+     */
+    public static SpriteBitmap fromArgb(int width, int height, int[] argb) {
+        int[] premultiplied = new int[argb.length];
+        for (int i = 0; i < argb.length; i++) {
+            premultiplied[i] = premultiply(argb[i]);
+        }
+        return new SpriteBitmap(width, height, premultiplied);
+    }
+
+    /**
+     * Premultiplies a pixel's color channels by its alpha, rounding to the nearest value.
+     *
+     * @param argb a non-premultiplied ARGB pixel
+     * @return the premultiplied pixel
+     */
+    public static int premultiply(int argb) {
+        int alpha = argb >>> 24;
+        if (alpha == 0xFF) {
+            return argb;
+        }
+        if (alpha == 0) {
+            return 0;
+        }
+        int red = PixelSurface.divideBy255(((argb >> 16) & 0xFF) * alpha);
+        int green = PixelSurface.divideBy255(((argb >> 8) & 0xFF) * alpha);
+        int blue = PixelSurface.divideBy255((argb & 0xFF) * alpha);
+        return (alpha << 24) | (red << 16) | (green << 8) | blue;
+    }
+
+    /**
+     * Gets the width of the bitmap.
+     *
+     * @return the width in pixels
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Gets the height of the bitmap.
+     *
+     * @return the height in pixels
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Gets a pixel of the bitmap.
+     *
+     * @param x the column
+     * @param y the row
+     * @return the premultiplied ARGB pixel
+     */
+    public int getPixel(int x, int y) {
+        return pixels[y * width + x];
+    }
+
+    /**
+     * Gets the pixels of the bitmap, row by row. The array must not be changed.
+     *
+     * @return the premultiplied ARGB pixels
+     */
+    int[] pixels() {
+        return pixels;
+    }
+}
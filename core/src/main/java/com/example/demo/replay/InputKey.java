@@ -0,0 +1,69 @@
+package com.example.demo.replay;
+
+import com.example.demo.simulation.LevelSimulation;
+import com.example.demo.simulation.UserInput;
+
+/**
+ * The gameplay inputs of the user plane, as they are recorded and replayed.
+ * <p>
+ * Only inputs that change the simulation are keys here. Pausing and the performance overlay do not, since
+ * no step runs while the game is paused.
+ * </p>
+ */
+public enum InputKey {
+
+    UP(UserInput.UP),      // Moves the user plane up while held
+    DOWN(UserInput.DOWN),  // Moves the user plane down while held
+    FIRE(UserInput.FIRE);  // Fires projectiles while held, as fast as the plane's fire limits allow
+
+    private static final InputKey[] KEYS = values();
+
+    private final int bit;
+
+    InputKey(int bit) {
+        this.bit = bit;
+    }
+
+    /**
+     * Applies the input to a simulation, exactly as the keyboard does: the key is pressed or released in the
+     * simulation's {@link UserInput}, which the next step samples.
+     *
+     * @param simulation the simulation of the level
+     * @param pressed    whether the key was pressed or released
+     */
+    public void apply(LevelSimulation simulation, boolean pressed) {
+        if (pressed) {
+            simulation.getInput().press(bit);
+        } else {
+            simulation.getInput().release(bit);
+        }
+    }
+
+    /**
+     * Gets the bit of the key in a {@link UserInput}.
+     *
+     * @return the key's bit
+     */
+    public int getBit() {
+        return bit;
+    }
+
+    /**
+     * Gets the key with the specified ordinal, without allocating the array {@link #values()} returns.
+     *
+     * @param ordinal the ordinal of the key
+     * @return the key
+     */
+    static InputKey of(int ordinal) {
+        return KEYS[ordinal];
+    }
+
+    /**
+     * Gets the number of keys, one more than the highest valid ordinal.
+     *
+     * @return the key count
+     */
+    static int count() {
+        return KEYS.length;
+    }
+}
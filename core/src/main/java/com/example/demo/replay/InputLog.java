@@ -0,0 +1,213 @@
+package com.example.demo.replay;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * The InputLog class holds a recorded log of inputs, decoded from the format written by {@link InputRecorder}.
+ * <p>
+ * Inputs are kept in parallel arrays in step order: the step each input was applied before, its key and whether
+ * it was pressed.
+ * </p>
+ */
+public class InputLog {
+
+    private final String levelName;
+    private final long sessionSeed;
+    private final double screenHeight;
+    private final double screenWidth;
+    private final double stepSeconds;
+    private final long[] ticks;
+    private final InputKey[] keys;
+    private final boolean[] pressed;
+    private final long endTick;
+
+    private InputLog(String levelName, long sessionSeed, double screenHeight, double screenWidth, double stepSeconds,
+                     long[] ticks, InputKey[] keys, boolean[] pressed, long endTick) {
+        this.levelName = levelName;
+        this.sessionSeed = sessionSeed;
+        this.screenHeight = screenHeight;
+        this.screenWidth = screenWidth;
+        this.stepSeconds = stepSeconds;
+        this.ticks = ticks;
+        this.keys = keys;
+        this.pressed = pressed;
+        this.endTick = endTick;
+    }
+
+    /**
+     * Reads a log from a file.
+     *
+     * @param file the file
+     * @return the decoded log
+     * @throws IOException              if the file cannot be read
+     * @throws IllegalArgumentException if the file is not a complete input log
+     */
+    public static InputLog load(Path file) throws IOException {
+        return decode(Files.readAllBytes(file));
+    }
+
+    /**
+     * Decodes a log.
+     *
+     * @param data the bytes of the log
+     * @return the decoded log
+     * @throws IllegalArgumentException if the bytes are not a complete input log
+     */
+    public static InputLog decode(byte[] data) {
+        try (DataInputStream header = new DataInputStream(new ByteArrayInputStream(data))) {
+            if (header.readInt() != InputRecorder.MAGIC) {
+                throw new IllegalArgumentException("Not an input log");
+            }
+            int version = header.readUnsignedByte();
+            if (version != InputRecorder.VERSION) {
+                throw new IllegalArgumentException("Unsupported input log version: " + version);
+            }
+            String levelName = header.readUTF();
+            long sessionSeed = header.readLong();
+            double screenHeight = header.readDouble();
+            double screenWidth = header.readDouble();
+            double stepSeconds = header.readDouble();
+            int position = data.length - header.available();
+
+            int count = 0;
+            long[] ticks = new long[16];
+            InputKey[] keys = new InputKey[16];
+            boolean[] pressed = new boolean[16];
+            long tick = 0;
+            while (true) {
+                // Unsigned LEB128 varint: a step delta followed by the code of the entry
+                long value = 0;
+                int shift = 0;
+                int b;
+                do {
+                    if (position == data.length || shift > 63) {
+                        throw new IllegalArgumentException("Truncated input log");
+                    }
+                    b = data[position++];
+                    value |= (long) (b & 0x7F) << shift;
+                    shift += 7;
+                } while ((b & 0x80) != 0);
+
+                tick += value >>> InputRecorder.CODE_BITS;
+                int code = (int) (value & InputRecorder.END_CODE);
+                if (code == InputRecorder.END_CODE) {
+                    return new InputLog(levelName, sessionSeed, screenHeight, screenWidth, stepSeconds,
+                            Arrays.copyOf(ticks, count), Arrays.copyOf(keys, count), Arrays.copyOf(pressed, count),
+                            tick);
+                }
+                if (count == ticks.length) {
+                    ticks = Arrays.copyOf(ticks, count * 2);
+                    keys = Arrays.copyOf(keys, count * 2);
+                    pressed = Arrays.copyOf(pressed, count * 2);
+                }
+                if (code >>> 1 >= InputKey.count()) {
+                    throw new IllegalArgumentException("Unknown key in input log: " + (code >>> 1));
+                }
+                ticks[count] = tick;
+                keys[count] = InputKey.of(code >>> 1);
+                pressed[count] = (code & 1) != 0;
+                count++;
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Truncated input log header", e);
+        }
+    }
+
+    /**
+     * Gets the name of the recorded level.
+     *
+     * @return the level name
+     */
+    public String getLevelName() {
+        return levelName;
+    }
+
+    /**
+     * Gets the session seed the level was built with.
+     *
+     * @return the session seed
+     */
+    public long getSessionSeed() {
+        return sessionSeed;
+    }
+
+    /**
+     * Gets the height of the screen the level was built with.
+     *
+     * @return the screen height
+     */
+    public double getScreenHeight() {
+        return screenHeight;
+    }
+
+    /**
+     * Gets the width of the screen the level was built with.
+     *
+     * @return the screen width
+     */
+    public double getScreenWidth() {
+        return screenWidth;
+    }
+
+    /**
+     * Gets the length of the recorded simulation steps.
+     *
+     * @return the step length (in seconds)
+     */
+    public double getStepSeconds() {
+        return stepSeconds;
+    }
+
+    /**
+     * Gets the number of recorded inputs.
+     *
+     * @return the number of inputs
+     */
+    public int size() {
+        return ticks.length;
+    }
+
+    /**
+     * Gets the step an input was applied before.
+     *
+     * @param index the index of the input
+     * @return the number of steps the simulation had run when the input was applied
+     */
+    public long getTick(int index) {
+        return ticks[index];
+    }
+
+    /**
+     * Gets the key of an input.
+     *
+     * @param index the index of the input
+     * @return the key
+     */
+    public InputKey getKey(int index) {
+        return keys[index];
+    }
+
+    /**
+     * Checks if an input pressed its key.
+     *
+     * @param index the index of the input
+     * @return true if the key was pressed, false if it was released
+     */
+    public boolean isPressed(int index) {
+        return pressed[index];
+    }
+
+    /**
+     * Gets the step the recording stopped at.
+     *
+     * @return the number of steps the simulation had run when the recording stopped
+     */
+    public long getEndTick() {
+        return endTick;
+    }
+}
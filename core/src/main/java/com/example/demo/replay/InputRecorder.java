@@ -0,0 +1,124 @@
+package com.example.demo.replay;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * The InputRecorder class records the inputs applied to a level into a compact binary log.
+ * <p>
+ * The log starts with a header holding everything needed to rebuild the level exactly: its name, the session
+ * seed, the screen size and the step length. Each input follows as a single varint packing the number of steps
+ * since the previous input with the key and whether it was pressed, so a typical input takes one byte. A final
+ * end marker holds the step the recording stopped at. The format is read back by {@link InputLog}.
+ * </p>
+ */
+public class InputRecorder {
+
+    static final int MAGIC = 0x47494E50;  // "GINP"
+    static final int VERSION = 2;
+    static final int CODE_BITS = 3;        // Key ordinal and pressed flag
+    static final int END_CODE = 0b111;     // No key uses this code
+
+    private final ByteArrayOutputStream bytes;
+    private long lastTick;
+    private boolean finished;
+
+    /**
+     * Constructs a recorder and writes the header of the log.
+     *
+     * @param levelName    the name of the level
+     * @param sessionSeed  the session seed the level was built with
+     * @param screenHeight the height of the screen the level was built with
+     * @param screenWidth  the width of the screen the level was built with
+     * @param stepSeconds  the length of a simulation step (in seconds)
+     */
+    public InputRecorder(String levelName, long sessionSeed, double screenHeight, double screenWidth,
+                         double stepSeconds) {
+        this.bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream header = new DataOutputStream(bytes)) {
+            header.writeInt(MAGIC);
+            header.writeByte(VERSION);
+            header.writeUTF(levelName);
+            header.writeLong(sessionSeed);
+            header.writeDouble(screenHeight);
+            header.writeDouble(screenWidth);
+            header.writeDouble(stepSeconds);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);  // Writing to memory does not fail
+        }
+    }
+
+    /**
+     * Records an input applied before the specified step.
+     *
+     * @param tick    the number of steps the simulation had run when the input was applied
+     * @param key     the key
+     * @param pressed whether the key was pressed or released
+     * @throws IllegalArgumentException if the tick is before the previous input's
+     * @throws IllegalStateException    if the recording is finished
+     */
+    public void record(long tick, InputKey key, boolean pressed) {
+        writeEntry(tick, key.ordinal() << 1 | (pressed ? 1 : 0));
+    }
+
+    /**
+     * Records a press or release of every key whose bit is set, in the order of the keys.
+     *
+     * @param tick    the number of steps the simulation had run when the input was applied
+     * @param keys    the bits of the keys, see {@link InputKey#getBit()}
+     * @param pressed whether the keys were pressed or released
+     * @throws IllegalArgumentException if the tick is before the previous input's
+     * @throws IllegalStateException    if the recording is finished
+     */
+    public void record(long tick, int keys, boolean pressed) {
+        for (int ordinal = 0; ordinal < InputKey.count(); ordinal++) {
+            InputKey key = InputKey.of(ordinal);
+            if ((keys & key.getBit()) != 0) {
+                record(tick, key, pressed);
+            }
+        }
+    }
+
+    /**
+     * Ends the recording at the specified step.
+     *
+     * @param tick the number of steps the simulation had run when the recording stopped
+     * @return the complete log
+     * @throws IllegalStateException if the recording is already finished
+     */
+    public byte[] finish(long tick) {
+        writeEntry(tick, END_CODE);
+        finished = true;
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Checks if the recording is finished.
+     *
+     * @return true once {@link #finish(long)} has been called
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Writes a step delta and a code as one unsigned LEB128 varint.
+     */
+    private void writeEntry(long tick, int code) {
+        if (finished) {
+            throw new IllegalStateException("The recording is finished");
+        }
+        if (tick < lastTick) {
+            throw new IllegalArgumentException("Inputs must be recorded in step order: " + tick + " < " + lastTick);
+        }
+        long value = (tick - lastTick) << CODE_BITS | code;
+        lastTick = tick;
+        while ((value & ~0x7FL) != 0) {
+            bytes.write((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes.write((int) value);
+    }
+}
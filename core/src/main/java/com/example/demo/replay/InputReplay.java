@@ -0,0 +1,75 @@
+package com.example.demo.replay;
+
+import com.example.demo.simulation.LevelSimulation;
+
+/**
+ * The InputReplay class feeds a recorded {@link InputLog} back into a simulation in place of the keyboard.
+ * <p>
+ * The simulation must be built from the log's level, session seed and screen size, and stepped at the log's
+ * step length. Inputs are then applied before the same steps as during the recording, so the replay plays the
+ * same game. A game loop replays in real time by calling {@link #applyDueInputs(LevelSimulation)} before every
+ * step; {@link #fastForward(LevelSimulation)} replays as fast as the simulation allows.
+ * </p>
+ */
+public class InputReplay {
+
+    private final InputLog log;
+    private int next;
+
+    /**
+     * Constructs a replay of the specified log, starting at its first input.
+     *
+     * @param log the recorded log
+     */
+    public InputReplay(InputLog log) {
+        this.log = log;
+    }
+
+    /**
+     * Applies every input recorded before the simulation's next step.
+     *
+     * @param simulation the simulation being replayed
+     */
+    public void applyDueInputs(LevelSimulation simulation) {
+        long tick = simulation.getStepCount();
+        while (next < log.size() && log.getTick(next) <= tick) {
+            log.getKey(next).apply(simulation, log.isPressed(next));
+            next++;
+        }
+    }
+
+    /**
+     * Checks if the simulation has reached the step the recording stopped at.
+     *
+     * @param simulation the simulation being replayed
+     * @return true if the replay is over
+     */
+    public boolean isFinished(LevelSimulation simulation) {
+        return simulation.getStepCount() >= log.getEndTick();
+    }
+
+    /**
+     * Replays the rest of the log as fast as the simulation allows, until the recording's end or the level's.
+     *
+     * @param simulation the simulation being replayed
+     * @return the number of steps run
+     */
+    public long fastForward(LevelSimulation simulation) {
+        long steps = 0;
+        while (!isFinished(simulation) && simulation.getOutcome() == LevelSimulation.Outcome.IN_PROGRESS) {
+            applyDueInputs(simulation);
+            simulation.step(log.getStepSeconds());
+            steps++;
+        }
+        return steps;
+    }
+
+    /**
+     * Gets the replayed log.
+     *
+     * @return the log
+     */
+    public InputLog getLog() {
+        return log;
+    }
+}
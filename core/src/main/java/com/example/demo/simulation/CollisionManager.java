@@ -0,0 +1,328 @@
+package com.example.demo.simulation;
+
+import java.util.List;
+
+import com.example.demo.characters.ActiveActorDestructible;
+import com.example.demo.characters.UserPlane;
+import com.example.demo.ecs.Archetype;
+
+/**
+ * The CollisionManager class handles collision detection and resolution for the game.
+ * It manages collisions between friendly units, enemy units, and projectiles.
+ * <p>
+ * Projectiles are read straight from the rows of their {@link ProjectileSystem}: friendly projectiles are tested
+ * against enemy units and enemy projectiles against friendly units. A projectile that hits is damaged through
+ * the system, so its removal is deferred to the end of the step like the removal of destroyed planes.
+ * </p>
+ * <p>
+ * By default a {@link SpatialHashGrid} broadphase limits the narrowphase to actors sharing a world cell.
+ * The original brute-force path can still be selected with {@link #setBroadphaseMode(BroadphaseMode)}
+ * or at startup with {@code -Dgame.collision.broadphase=BRUTE_FORCE}; both paths produce identical results.
+ * </p>
+ */
+public class CollisionManager {
+
+    /**
+     * Enum representing the available strategies for finding colliding actors.
+     */
+    public enum BroadphaseMode {
+        BRUTE_FORCE,  // Test every actor against every other actor
+        SPATIAL_HASH  // Only test actors that share a spatial hash cell
+    }
+
+    private static final String BROADPHASE_PROPERTY = "game.collision.broadphase";
+
+    private final List<ActiveActorDestructible> friendlyUnits;
+    private final List<ActiveActorDestructible> enemyUnits;
+    private final ProjectileSystem projectiles;
+    private final UserPlane user;
+    private final double screenWidth;
+    private final SpatialHashGrid grid;
+    private BroadphaseMode broadphaseMode;
+    private int pairTests;
+    private int hits;
+
+    /**
+     * Constructs a new CollisionManager instance with the specified lists of actors and the user plane.
+     *
+     * @param friendlyUnits the list of friendly units
+     * @param enemyUnits the list of enemy units
+     * @param projectiles the projectiles of the level
+     * @param user the user plane
+     * @param screenWidth the width of the screen
+     */
+    public CollisionManager(
+            List<ActiveActorDestructible> friendlyUnits,
+            List<ActiveActorDestructible> enemyUnits,
+            ProjectileSystem projectiles,
+            UserPlane user,
+            double screenWidth) {
+        this.friendlyUnits = friendlyUnits;
+        this.enemyUnits = enemyUnits;
+        this.projectiles = projectiles;
+        this.user = user;
+        this.screenWidth = screenWidth;
+        this.grid = new SpatialHashGrid();
+        this.broadphaseMode = BroadphaseMode.valueOf(
+                System.getProperty(BROADPHASE_PROPERTY, BroadphaseMode.SPATIAL_HASH.name()));
+    }
+
+    /**
+     * Gets the strategy currently used to find colliding actors.
+     *
+     * @return the current broadphase mode
+     */
+    public BroadphaseMode getBroadphaseMode() {
+        return broadphaseMode;
+    }
+
+    /**
+     * Sets the strategy used to find colliding actors.
+     *
+     * @param broadphaseMode the broadphase mode to use from the next tick on
+     */
+    public void setBroadphaseMode(BroadphaseMode broadphaseMode) {
+        this.broadphaseMode = broadphaseMode;
+    }
+
+    /**
+     * Gets the number of actor pairs whose bounds were compared by the last {@link #handleCollisions()}.
+     * With the spatial hash this only counts the candidates found by the broadphase.
+     *
+     * @return the number of pair tests
+     */
+    public int getLastPairTests() {
+        return pairTests;
+    }
+
+    /**
+     * Gets the number of colliding pairs found by the last {@link #handleCollisions()}.
+     *
+     * @return the number of hits
+     */
+    public int getLastHits() {
+        return hits;
+    }
+
+    /**
+     * Handles all types of collisions in the game.
+     * This includes plane collisions, user projectile collisions, enemy projectile collisions, and enemy penetration.
+     */
+    public void handleCollisions() {
+        pairTests = 0;
+        hits = 0;
+        handlePlaneCollisions();
+        handleUserProjectileCollisions();
+        handleEnemyProjectileCollisions();
+        handleEnemyPenetration();
+    }
+
+    /**
+     * Handles collisions between friendly units and enemy units.
+     */
+    private void handlePlaneCollisions() {
+        handleCollisions(friendlyUnits, enemyUnits);
+    }
+
+    /**
+     * Handles collisions between user projectiles and enemy units.
+     */
+    private void handleUserProjectileCollisions() {
+        handleProjectileCollisions(Faction.FRIENDLY, enemyUnits);
+    }
+
+    /**
+     * Handles collisions between enemy projectiles and friendly units.
+     */
+    private void handleEnemyProjectileCollisions() {
+        handleProjectileCollisions(Faction.ENEMY, friendlyUnits);
+    }
+
+    /**
+     * Handles collisions between two lists of actors using the current broadphase mode.
+     *
+     * @param actors1 the first list of actors
+     * @param actors2 the second list of actors
+     */
+    private void handleCollisions(List<ActiveActorDestructible> actors1, List<ActiveActorDestructible> actors2) {
+        if (broadphaseMode == BroadphaseMode.SPATIAL_HASH) {
+            handleCollisionsWithGrid(actors1, actors2);
+        } else {
+            handleCollisionsBruteForce(actors1, actors2);
+        }
+    }
+
+    /**
+     * Handles collisions between two lists of actors by testing every pair.
+     *
+     * @param actors1 the first list of actors
+     * @param actors2 the second list of actors
+     */
+    private void handleCollisionsBruteForce(List<ActiveActorDestructible> actors1, List<ActiveActorDestructible> actors2) {
+        for (int i = 0; i < actors1.size(); i++) {
+            ActiveActorDestructible actor1 = actors1.get(i);
+            for (int j = 0; j < actors2.size(); j++) {
+                ActiveActorDestructible actor2 = actors2.get(j);
+                pairTests++;
+                if (actor1.intersects(actor2)) {
+                    hits++;
+                    actor1.takeDamage();
+                    actor2.takeDamage();
+                }
+            }
+        }
+    }
+
+    /**
+     * Handles collisions between two lists of actors using the spatial hash broadphase.
+     * <p>
+     * The second list is bucketed into the grid, then each actor of the first list is only tested against
+     * the actors sharing one of its cells. Candidates are visited in list order, so damage is applied
+     * in exactly the same sequence as the brute-force path.
+     * </p>
+     *
+     * @param actors1 the first list of actors
+     * @param actors2 the second list of actors
+     */
+    private void handleCollisionsWithGrid(List<ActiveActorDestructible> actors1, List<ActiveActorDestructible> actors2) {
+        if (actors1.isEmpty() || actors2.isEmpty()) {
+            return;
+        }
+        grid.clear();
+        for (int i = 0; i < actors2.size(); i++) {
+            ActiveActorDestructible actor2 = actors2.get(i);
+            grid.insert(actor2.getMinX(), actor2.getMinY(), actor2.getMaxX(), actor2.getMaxY());
+        }
+        for (int i = 0; i < actors1.size(); i++) {
+            ActiveActorDestructible actor1 = actors1.get(i);
+            int candidateCount = grid.query(actor1.getMinX(), actor1.getMinY(), actor1.getMaxX(), actor1.getMaxY());
+            pairTests += candidateCount;
+            for (int c = 0; c < candidateCount; c++) {
+                int index = grid.getCandidate(c);
+                if (grid.intersects(index, actor1.getMinX(), actor1.getMinY(), actor1.getMaxX(), actor1.getMaxY())) {
+                    hits++;
+                    actor1.takeDamage();
+                    actors2.get(index).takeDamage();
+                }
+            }
+        }
+    }
+
+    /**
+     * Handles collisions between the projectiles of one faction and a list of actors using the current broadphase mode.
+     *
+     * @param faction the side whose projectiles are tested
+     * @param targets the actors the projectiles can hit
+     */
+    private void handleProjectileCollisions(Faction faction, List<ActiveActorDestructible> targets) {
+        if (broadphaseMode == BroadphaseMode.SPATIAL_HASH) {
+            handleProjectileCollisionsWithGrid(faction, targets);
+        } else {
+            handleProjectileCollisionsBruteForce(faction, targets);
+        }
+    }
+
+    /**
+     * Handles collisions between the projectiles of one faction and a list of actors by testing every pair.
+     *
+     * @param faction the side whose projectiles are tested
+     * @param targets the actors the projectiles can hit
+     */
+    private void handleProjectileCollisionsBruteForce(Faction faction, List<ActiveActorDestructible> targets) {
+        Archetype archetype = projectiles.getArchetype();
+        int size = archetype.size();
+        int[] factions = archetype.getFaction();
+        double[] x = archetype.getPositionX();
+        double[] y = archetype.getPositionY();
+        double[] width = archetype.getWidth();
+        double[] height = archetype.getHeight();
+        for (int row = 0; row < size; row++) {
+            if (factions[row] != faction.ordinal()) {
+                continue;
+            }
+            double minX = x[row];
+            double minY = y[row];
+            double maxX = minX + width[row];
+            double maxY = minY + height[row];
+            pairTests += targets.size();
+            for (int j = 0; j < targets.size(); j++) {
+                ActiveActorDestructible target = targets.get(j);
+                if (minX <= target.getMaxX() && maxX >= target.getMinX()
+                        && minY <= target.getMaxY() && maxY >= target.getMinY()) {
+                    hits++;
+                    projectiles.damage(row);
+                    target.takeDamage();
+                }
+            }
+        }
+    }
+
+    /**
+     * Handles collisions between the projectiles of one faction and a list of actors using the spatial hash broadphase.
+     * The targets are bucketed into the grid, then each projectile row is only tested against the targets sharing
+     * one of its cells, in list order.
+     *
+     * @param faction the side whose projectiles are tested
+     * @param targets the actors the projectiles can hit
+     */
+    private void handleProjectileCollisionsWithGrid(Faction faction, List<ActiveActorDestructible> targets) {
+        Archetype archetype = projectiles.getArchetype();
+        int size = archetype.size();
+        if (size == 0 || targets.isEmpty()) {
+            return;
+        }
+        grid.clear();
+        for (int i = 0; i < targets.size(); i++) {
+            ActiveActorDestructible target = targets.get(i);
+            grid.insert(target.getMinX(), target.getMinY(), target.getMaxX(), target.getMaxY());
+        }
+        int[] factions = archetype.getFaction();
+        double[] x = archetype.getPositionX();
+        double[] y = archetype.getPositionY();
+        double[] width = archetype.getWidth();
+        double[] height = archetype.getHeight();
+        for (int row = 0; row < size; row++) {
+            if (factions[row] != faction.ordinal()) {
+                continue;
+            }
+            double minX = x[row];
+            double minY = y[row];
+            double maxX = minX + width[row];
+            double maxY = minY + height[row];
+            int candidateCount = grid.query(minX, minY, maxX, maxY);
+            pairTests += candidateCount;
+            for (int c = 0; c < candidateCount; c++) {
+                int index = grid.getCandidate(c);
+                if (grid.intersects(index, minX, minY, maxX, maxY)) {
+                    hits++;
+                    projectiles.damage(row);
+                    targets.get(index).takeDamage();
+                }
+            }
+        }
+    }
+
+    /**
+     * Handles enemy penetration by checking if any enemy has moved past the screen width.
+     * If an enemy penetrates the defenses, the user takes damage and the enemy is destroyed.
+     */
+    private void handleEnemyPenetration() {
+        for (int i = 0; i < enemyUnits.size(); i++) {
+            ActiveActorDestructible enemy = enemyUnits.get(i);
+            if (enemyHasPenetratedDefenses(enemy)) {
+                user.takeDamage();
+                enemy.destroy();
+            }
+        }
+    }
+
+    /**
+     * Checks if an enemy has penetrated the defenses by moving further than the screen width from where it spawned.
+     *
+     * @param enemy the enemy to check
+     * @return true if the enemy has penetrated the defenses, false otherwise
+     */
+    private boolean enemyHasPenetratedDefenses(ActiveActorDestructible enemy) {
+        return Math.abs(enemy.getOffsetX()) > screenWidth;
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.demo.simulation;
+
+import com.example.demo.characters.ActiveActor;
+
+/**
+ * The CullingSystem class decides which actors and projectiles have left the world.
+ * <p>
+ * The world is the screen grown by a margin on every side. Anything entirely outside it is despawned, as is
+ * anything older than the maximum lifetime of its type. Planes only count once they have been on screen, so
+ * enemies spawned just beyond the right edge are kept, and drawn, only once they fly in. Projectiles are always
+ * fired on screen, so they are culled as soon as they leave the world.
+ * </p>
+ * <p>
+ * The margin defaults to {@value #DEFAULT_MARGIN} pixels and is set at startup with {@code -Dgame.cull.margin}.
+ * Despawning is not destruction: a culled enemy does not count as a kill.
+ * </p>
+ */
+public class CullingSystem {
+
+    private static final String MARGIN_PROPERTY = "game.cull.margin";
+    private static final double DEFAULT_MARGIN = 100;
+
+    private final double screenWidth;
+    private final double screenHeight;
+    private double margin;
+
+    /**
+     * Constructs a culling system for a screen, with the margin given by the {@code game.cull.margin} property.
+     *
+     * @param screenWidth  the width of the screen
+     * @param screenHeight the height of the screen
+     */
+    public CullingSystem(double screenWidth, double screenHeight) {
+        this.screenWidth = screenWidth;
+        this.screenHeight = screenHeight;
+        setMargin(Double.parseDouble(System.getProperty(MARGIN_PROPERTY, String.valueOf(DEFAULT_MARGIN))));
+    }
+
+    /**
+     * Gets the distance the world extends beyond every edge of the screen.
+     *
+     * @return the margin (in pixels)
+     */
+    public double getMargin() {
+        return margin;
+    }
+
+    /**
+     * Sets the distance the world extends beyond every edge of the screen.
+     *
+     * @param margin the margin (in pixels)
+     * @throws IllegalArgumentException if the margin is negative
+     */
+    public void setMargin(double margin) {
+        if (!(margin >= 0)) {
+            throw new IllegalArgumentException("Cull margin must not be negative: " + margin);
+        }
+        this.margin = margin;
+    }
+
+    /**
+     * Ages an actor by one step, updates whether it is on screen and decides whether it should be despawned.
+     *
+     * @param actor        the actor
+     * @param deltaSeconds the length of the simulation step (in seconds)
+     * @return true if the actor has outlived its type or has been on screen and is now entirely outside the world
+     */
+    public boolean update(ActiveActor actor, double deltaSeconds) {
+        actor.advanceAge(deltaSeconds);
+        actor.updateScreenState(screenWidth, screenHeight);
+        if (actor.getAge() > actor.getMaxLifetime()) {
+            return true;
+        }
+        return actor.hasEnteredScreen() && isOutside(actor.getMinX(), actor.getMinY(), actor.getMaxX(), actor.getMaxY());
+    }
+
+    /**
+     * Updates whether an actor is on screen, without ageing it. Used when an actor enters the world.
+     *
+     * @param actor the actor
+     */
+    public void updateScreenState(ActiveActor actor) {
+        actor.updateScreenState(screenWidth, screenHeight);
+    }
+
+    /**
+     * Queues the removal of every projectile entirely outside the world.
+     *
+     * @param projectiles the projectiles of the level
+     */
+    public void cull(ProjectileSystem projectiles) {
+        projectiles.cull(-margin, -margin, screenWidth + margin, screenHeight + margin);
+    }
+
+    /**
+     * Checks whether a box lies entirely outside the world.
+     *
+     * @param minX the left edge of the box
+     * @param minY the top edge of the box
+     * @param maxX the right edge of the box
+     * @param maxY the bottom edge of the box
+     * @return true if no part of the box is inside the world
+     */
+    private boolean isOutside(double minX, double minY, double maxX, double maxY) {
+        return maxX < -margin || minX > screenWidth + margin || maxY < -margin || minY > screenHeight + margin;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.demo.simulation;
+
+/**
+ * The sides of the battle. Projectiles only hit units of the other faction.
+ */
+public enum Faction {
+    FRIENDLY,  // The user and the user's projectiles
+    ENEMY;     // Enemy planes, the boss and their projectiles
+
+    private static final Faction[] FACTIONS = values();
+
+    /**
+     * Gets the faction stored in a {@link com.example.demo.ecs.Component#FACTION} component.
+     *
+     * @param ordinal the stored value
+     * @return the faction
+     */
+    public static Faction of(int ordinal) {
+        return FACTIONS[ordinal];
+    }
+}
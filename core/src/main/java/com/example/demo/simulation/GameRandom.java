@@ -0,0 +1,99 @@
+package com.example.demo.simulation;
+
+import java.util.SplittableRandom;
+
+/**
+ * The GameRandom class holds the random sources of a level, one per subsystem.
+ * <p>
+ * Every level draws its random decisions from its own {@link SplittableRandom}, seeded from the session seed
+ * and the level's name, instead of from the global generator behind {@code Math.random()}. The level's generator
+ * is split into one stream per subsystem, so spawning more or fewer enemies does not shift the boss's decisions.
+ * A given seed and the same input therefore always play the same game, and simulations stepped in parallel do
+ * not contend on a shared generator.
+ * </p>
+ * <p>
+ * The session seed is set at startup with {@code -Dgame.seed}; without it every session gets a random one.
+ * Streams are split in declaration order, so a new stream must be split after the existing ones for a seed to
+ * keep producing the same games.
+ * </p>
+ */
+public final class GameRandom {
+
+    private static final String SEED_PROPERTY = "game.seed";
+    private static final long SESSION_SEED = Long.getLong(SEED_PROPERTY, new SplittableRandom().nextLong());
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final long seed;
+    private final SplittableRandom spawns;
+    private final SplittableRandom enemyFire;
+    private final SplittableRandom boss;
+
+    /**
+     * Constructs the random sources of a level.
+     *
+     * @param seed the seed of the level
+     */
+    public GameRandom(long seed) {
+        this.seed = seed;
+        SplittableRandom root = new SplittableRandom(seed);
+        this.spawns = root.split();
+        this.enemyFire = root.split();
+        this.boss = root.split();
+    }
+
+    /**
+     * Gets the seed of the session, from the {@code game.seed} property or chosen at random once per JVM.
+     *
+     * @return the session seed
+     */
+    public static long sessionSeed() {
+        return SESSION_SEED;
+    }
+
+    /**
+     * Derives the seed of a level from the session seed, so every level of a session plays differently.
+     *
+     * @param sessionSeed the seed of the session
+     * @param levelName   the name of the level
+     * @return the seed of the level
+     */
+    public static long levelSeed(long sessionSeed, String levelName) {
+        return sessionSeed + GOLDEN_GAMMA * levelName.hashCode();
+    }
+
+    /**
+     * Gets the seed the sources were split from.
+     *
+     * @return the seed of the level
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the stream deciding when and where enemies spawn.
+     *
+     * @return the spawn stream
+     */
+    public SplittableRandom getSpawns() {
+        return spawns;
+    }
+
+    /**
+     * Gets the stream deciding when enemy planes fire.
+     *
+     * @return the enemy fire stream
+     */
+    public SplittableRandom getEnemyFire() {
+        return enemyFire;
+    }
+
+    /**
+     * Gets the stream deciding the boss's moves, shots and shield.
+     *
+     * @return the boss stream
+     */
+    public SplittableRandom getBoss() {
+        return boss;
+    }
+}
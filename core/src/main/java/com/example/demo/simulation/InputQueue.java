@@ -0,0 +1,170 @@
+package com.example.demo.simulation;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The InputQueue class carries the user's key presses and releases from the thread that receives them to the
+ * thread that steps the level, without locks.
+ * <p>
+ * It is a single-producer, single-consumer ring buffer: one thread offers commands, such as the JavaFX Application
+ * Thread handling key events, and the simulation drains them into its {@link UserInput} at the start of the next
+ * step. Each command is stamped with {@link System#nanoTime()} when it is offered, and the time until it is drained
+ * is recorded in a {@link LatencyHistogram}, which measures the input-to-simulation latency. Offering never blocks
+ * and never allocates: when the ring is full, the command is dropped and counted. Anything that depends on the
+ * simulation's state, such as the step a command is recorded at, is done by a {@link CommandListener} as the
+ * consumer drains the command, never by the producer.
+ * </p>
+ * <p>
+ * The producer only writes the tail and the consumer only writes the head. Each publishes its index with a
+ * release store after writing or reading the slots, and reads the other's with an acquire load, so a command's
+ * slot is fully written before the consumer can see it. The latency histogram belongs to the consumer's thread.
+ * </p>
+ */
+public final class InputQueue {
+
+    /** The number of commands a queue holds by default, far more than a keyboard sends between two steps. */
+    public static final int DEFAULT_CAPACITY = 64;
+
+    private static final int PRESSED = 1;  // The lowest bit of a command; the key bits are shifted above it
+
+    private final int[] commands;
+    private final long[] stampNanos;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();  // The sequence of the next command to drain
+    private final AtomicLong tail = new AtomicLong();  // The sequence of the next command to offer
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final LatencyHistogram latencyNanos = new LatencyHistogram();
+    private long cachedHead;  // The producer's last view of the head, so it rarely reads the consumer's index
+
+    /**
+     * Receives every command as it is drained, on the consumer's thread.
+     */
+    @FunctionalInterface
+    public interface CommandListener {
+
+        /**
+         * Called after a command pressed or released its keys in the user's input.
+         *
+         * @param keys    the bits of the keys, see {@link UserInput}
+         * @param pressed whether the keys were pressed or released
+         */
+        void commandApplied(int keys, boolean pressed);
+    }
+
+    /**
+     * Constructs a queue that holds {@value #DEFAULT_CAPACITY} pending commands.
+     */
+    public InputQueue() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a queue that holds the specified number of pending commands.
+     *
+     * @param capacity the size of the ring buffer, a power of two
+     * @throws IllegalArgumentException if the capacity is not a positive power of two
+     */
+    public InputQueue(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a positive power of two: " + capacity);
+        }
+        commands = new int[capacity];
+        stampNanos = new long[capacity];
+        mask = capacity - 1;
+    }
+
+    /**
+     * Offers a press or release of keys, stamped with the current time. Called by the producer thread only.
+     *
+     * @param keys    the bits of the keys, see {@link UserInput}
+     * @param pressed whether the keys were pressed or released
+     * @return true if the command was queued, false if the queue was full and it was dropped
+     */
+    public boolean offer(int keys, boolean pressed) {
+        long sequence = tail.getPlain();
+        if (sequence - cachedHead > mask) {
+            cachedHead = head.getAcquire();
+            if (sequence - cachedHead > mask) {
+                droppedCount.incrementAndGet();
+                return false;
+            }
+        }
+        int slot = (int) sequence & mask;
+        commands[slot] = keys << 1 | (pressed ? PRESSED : 0);
+        stampNanos[slot] = System.nanoTime();
+        tail.setRelease(sequence + 1);
+        return true;
+    }
+
+    /**
+     * Applies every queued command to the user's input, in the order they were offered, and records how long
+     * each one waited. Called by the consumer thread only, at a step boundary.
+     *
+     * @param input the input the commands press and release keys in
+     * @return the number of commands applied
+     */
+    public int drainTo(UserInput input) {
+        return drainTo(input, null);
+    }
+
+    /**
+     * Applies every queued command to the user's input like {@link #drainTo(UserInput)}, and tells a listener about
+     * each one as it is applied.
+     *
+     * @param input    the input the commands press and release keys in
+     * @param listener the listener told about every applied command, or null
+     * @return the number of commands applied
+     */
+    public int drainTo(UserInput input, CommandListener listener) {
+        long sequence = head.getPlain();
+        long end = tail.getAcquire();
+        if (sequence == end) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        int count = (int) (end - sequence);
+        for (; sequence < end; sequence++) {
+            int slot = (int) sequence & mask;
+            int command = commands[slot];
+            boolean pressed = (command & PRESSED) != 0;
+            if (pressed) {
+                input.press(command >>> 1);
+            } else {
+                input.release(command >>> 1);
+            }
+            if (listener != null) {
+                listener.commandApplied(command >>> 1, pressed);
+            }
+            latencyNanos.record(now - stampNanos[slot]);
+        }
+        head.setRelease(end);
+        return count;
+    }
+
+    /**
+     * Gets the number of commands offered but not drained yet.
+     *
+     * @return the pending commands
+     */
+    public int getPendingCount() {
+        return (int) (tail.getAcquire() - head.getAcquire());
+    }
+
+    /**
+     * Gets the number of commands dropped because the queue was full.
+     *
+     * @return the dropped commands
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * Gets the time commands waited between being offered and being drained. Read it on the consumer's thread.
+     *
+     * @return the latency histogram, in nanoseconds
+     */
+    public LatencyHistogram getLatencyNanos() {
+        return latencyNanos;
+    }
+}
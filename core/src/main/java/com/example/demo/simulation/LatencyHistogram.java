@@ -0,0 +1,139 @@
+package com.example.demo.simulation;
+
+import java.util.Arrays;
+
+/**
+ * A fixed-size histogram of durations in nanoseconds, in the style of an HDR histogram.
+ * <p>
+ * Values below {@value #SUB_BUCKETS} ns are counted exactly; above that, every power of two is split into
+ * {@value #SUB_BUCKETS} linear buckets, so a reported percentile is never more than about 3% above the recorded
+ * value. All buckets are allocated up front, so recording never allocates. Values above about 18 minutes are
+ * counted in the last bucket; the maximum is always kept exactly.
+ * </p>
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_MAGNITUDE = 40;  // 2^40 ns is about 18 minutes
+    private static final long MAX_TRACKABLE = (1L << MAX_MAGNITUDE) - 1;
+    private static final int BUCKET_COUNT = SUB_BUCKETS + (MAX_MAGNITUDE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final long[] counts;
+    private long totalCount;
+    private long max;
+
+    /**
+     * Constructs an empty histogram.
+     */
+    public LatencyHistogram() {
+        this.counts = new long[BUCKET_COUNT];
+    }
+
+    /**
+     * Records a duration.
+     *
+     * @param nanos the duration in nanoseconds; negative values count as zero
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts[bucketOf(Math.min(value, MAX_TRACKABLE))]++;
+        totalCount++;
+        if (value > max) {
+            max = value;
+        }
+    }
+
+    /**
+     * Gets the number of recorded durations.
+     *
+     * @return the count
+     */
+    public long getCount() {
+        return totalCount;
+    }
+
+    /**
+     * Gets the longest recorded duration.
+     *
+     * @return the maximum in nanoseconds, or 0 if nothing was recorded
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Gets the duration that the specified share of recordings did not exceed.
+     *
+     * @param percentile the percentile, from 0.0 to 100.0
+     * @return the highest value of the bucket holding the percentile, in nanoseconds, or 0 if nothing was recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(percentile / 100.0 * totalCount));
+        long cumulative = 0;
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            cumulative += counts[bucket];
+            if (cumulative >= target) {
+                return Math.min(highestValueOf(bucket), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Adds every recording of another histogram to this one.
+     *
+     * @param other the histogram to add
+     */
+    public void add(LatencyHistogram other) {
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            counts[bucket] += other.counts[bucket];
+        }
+        totalCount += other.totalCount;
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * Removes every recording.
+     */
+    public void reset() {
+        Arrays.fill(counts, 0);
+        totalCount = 0;
+        max = 0;
+    }
+
+    /**
+     * Gets the bucket counting a value.
+     *
+     * @param value a value between 0 and {@link #MAX_TRACKABLE}
+     * @return the bucket index
+     */
+    private static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(value);
+        int shift = magnitude - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKETS;
+        return SUB_BUCKETS + shift * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Gets the highest value counted by a bucket.
+     *
+     * @param bucket the bucket index
+     * @return the highest value of the bucket
+     */
+    private static long highestValueOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = (bucket - SUB_BUCKETS) / SUB_BUCKETS;
+        int subBucket = (bucket - SUB_BUCKETS) % SUB_BUCKETS;
+        long lowest = (long) (SUB_BUCKETS + subBucket) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.demo.simulation;
+
+import java.util.SplittableRandom;
+
+import com.example.demo.characters.ActiveActorDestructible;
+import com.example.demo.characters.EnemyPlane;
+
+/**
+ * The LevelOneSimulation class holds the rules of the first level of the game.
+ * Enemies spawn randomly up to a fixed number at a time. The level advances when the player
+ * reaches the required kill target and is lost if the player is destroyed.
+ */
+public class LevelOneSimulation extends LevelSimulation {
+
+	/**
+	 * The name of the next level (LevelSemi), as registered with the controller.
+	 */
+    public static final String NEXT_LEVEL = "com.example.demo.LevelSemi";
+	/**
+	 * The initial health of the player character in Level One.
+	 */
+    public static final int PLAYER_INITIAL_HEALTH = 5;
+	/**
+	 * The number of enemy units present in Level One.
+	 */
+    private static final int TOTAL_ENEMIES = 5;
+	/**
+	 * The number of enemy kills required to advance to the next level.
+	 */
+    private static final int KILLS_TO_ADVANCE = 2;
+	/**
+	 * The default probability of spawning a new enemy during gameplay, per 50 ms reference step.
+	 */
+    public static final double ENEMY_SPAWN_PROBABILITY = 0.20;
+
+	/**
+	 * The probability of spawning a new enemy during gameplay, per 50 ms reference step.
+	 */
+    private final double enemySpawnProbability;
+
+	/**
+     * Constructs a new LevelOneSimulation with the specified screen height and width.
+     *
+     * @param screenHeight the height of the screen
+     * @param screenWidth the width of the screen
+     */
+	public LevelOneSimulation(double screenHeight, double screenWidth) {
+		this(screenHeight, screenWidth, GameRandom.sessionSeed());
+	}
+
+	/**
+     * Constructs a new LevelOneSimulation with the specified screen height and width and session seed.
+     *
+     * @param screenHeight the height of the screen
+     * @param screenWidth the width of the screen
+     * @param sessionSeed the seed of the session
+     */
+	public LevelOneSimulation(double screenHeight, double screenWidth, long sessionSeed) {
+		this(screenHeight, screenWidth, sessionSeed, ENEMY_SPAWN_PROBABILITY);
+	}
+
+	/**
+     * Constructs a new LevelOneSimulation with custom tuning, for balancing runs.
+     *
+     * @param screenHeight the height of the screen
+     * @param screenWidth the width of the screen
+     * @param sessionSeed the seed of the session
+     * @param enemySpawnProbability the probability of spawning an enemy per 50 ms reference step
+     */
+	public LevelOneSimulation(double screenHeight, double screenWidth, long sessionSeed,
+							  double enemySpawnProbability) {
+		super(screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, sessionSeed);
+		this.enemySpawnProbability = enemySpawnProbability;
+	}
+
+	/**
+     * Checks if the game is over by evaluating the player's health and kill count.
+     * If the player is destroyed, the game is lost. If the player reaches the kill target, the next level is loaded.
+     */
+	@Override
+	protected void checkIfGameOver() {
+		if (userIsDestroyed()) {
+			loseGame();
+		}
+		else if (userHasReachedKillTarget()) {
+			goToNextLevel(NEXT_LEVEL);
+		}
+	}
+
+	/**
+     * Spawns enemy units for Level One based on the spawn probability and the total number of enemies.
+     * New enemies are added until the total number of enemies is reached.
+     */
+	@Override
+	public void spawnEnemyUnits() {
+		SplittableRandom spawns = getRandom().getSpawns();
+		int currentNumberOfEnemies = getCurrentNumberOfEnemies();
+		for (int i = 0; i < TOTAL_ENEMIES - currentNumberOfEnemies; i++) {
+			if (spawns.nextDouble() < SimulationTime.chancePerStep(enemySpawnProbability, getStepSeconds())) {
+				double newEnemyInitialYPosition = spawns.nextDouble() * getEnemyMaximumYPosition() + 35;
+				ActiveActorDestructible newEnemy = new EnemyPlane(getScreenWidth(), newEnemyInitialYPosition,
+						getProjectiles(), getRandom().getEnemyFire());
+				addEnemyUnit(newEnemy);
+			}
+		}
+	}
+
+	/**
+     * Checks if the player has reached the kill target to advance to the next level.
+     *
+     * @return true if the player has reached the kill target, false otherwise
+     */
+	private boolean userHasReachedKillTarget() {
+		return getUser().getNumberOfKills() >= KILLS_TO_ADVANCE;
+	}
+}
@@ -0,0 +1,136 @@
+package com.example.demo.simulation;
+
+import java.util.SplittableRandom;
+
+import com.example.demo.characters.ActiveActorDestructible;
+import com.example.demo.characters.EnemyPlane;
+import com.example.demo.event.GameEventType;
+
+/**
+ * The LevelSemiSimulation class holds the rules of the semi-final level of the game.
+ * Enemies come in waves that grow in size and spawn faster; the level advances once every wave is cleared.
+ */
+public class LevelSemiSimulation extends LevelSimulation {
+    public static final String NEXT_LEVEL = "com.example.demo.LevelTwo";
+    public static final int TOTAL_WAVES = 4;
+    public static final int PLAYER_INITIAL_HEALTH = 5;
+    public static final int BASE_ENEMIES_PER_WAVE = 5;
+    public static final double BASE_SPAWN_PROBABILITY = 0.20;
+    public static final double SPAWN_PROBABILITY_PER_WAVE = 0.05;
+
+    private final int baseEnemiesPerWave;
+    private final double spawnProbabilityPerWave;
+
+    private int currentWave;
+    private boolean waveInProgress;
+    private int enemiesSpawnedThisWave;
+    private double spawnProbability;
+
+    /**
+     * Constructs a new LevelSemiSimulation with the specified screen height and width.
+     *
+     * @param screenHeight the height of the screen
+     * @param screenWidth the width of the screen
+     */
+    public LevelSemiSimulation(double screenHeight, double screenWidth) {
+        this(screenHeight, screenWidth, GameRandom.sessionSeed());
+    }
+
+    /**
+     * Constructs a new LevelSemiSimulation with the specified screen height and width and session seed.
+     *
+     * @param screenHeight the height of the screen
+     * @param screenWidth the width of the screen
+     * @param sessionSeed the seed of the session
+     */
+    public LevelSemiSimulation(double screenHeight, double screenWidth, long sessionSeed) {
+        this(screenHeight, screenWidth, sessionSeed, BASE_ENEMIES_PER_WAVE, BASE_SPAWN_PROBABILITY,
+                SPAWN_PROBABILITY_PER_WAVE);
+    }
+
+    /**
+     * Constructs a new LevelSemiSimulation with custom tuning, for balancing runs.
+     *
+     * @param screenHeight the height of the screen
+     * @param screenWidth the width of the screen
+     * @param sessionSeed the seed of the session
+     * @param baseEnemiesPerWave the number of enemies in the first wave
+     * @param baseSpawnProbability the probability of spawning an enemy per 50 ms reference step in the first wave
+     * @param spawnProbabilityPerWave the increase of the spawn probability with every wave
+     */
+    public LevelSemiSimulation(double screenHeight, double screenWidth, long sessionSeed, int baseEnemiesPerWave,
+                               double baseSpawnProbability, double spawnProbabilityPerWave) {
+        super(screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, sessionSeed);
+        this.baseEnemiesPerWave = baseEnemiesPerWave;
+        this.spawnProbabilityPerWave = spawnProbabilityPerWave;
+        this.currentWave = 1;
+        this.waveInProgress = true;
+        this.enemiesSpawnedThisWave = 0;
+        this.spawnProbability = baseSpawnProbability;
+    }
+
+    /**
+     * Gets the wave currently being played.
+     *
+     * @return the current wave, greater than {@link #TOTAL_WAVES} once every wave is cleared
+     */
+    public int getCurrentWave() {
+        return currentWave;
+    }
+
+    /**
+     * Checks if the game is over by evaluating the player's health and wave progress.
+     * If the player is destroyed, the game is lost. If all waves are cleared, the next level is loaded.
+     */
+    @Override
+    protected void checkIfGameOver() {
+        if (userIsDestroyed()) {
+            loseGame();
+        } else if (currentWave > TOTAL_WAVES && getCurrentNumberOfEnemies() == 0) {
+            goToNextLevel(NEXT_LEVEL);
+        }
+    }
+
+    /**
+     * Spawns enemy units for this level based on the spawn probability and the size of the current wave.
+     * Once the whole wave has been spawned and destroyed, the next wave starts.
+     */
+    @Override
+    public void spawnEnemyUnits() {
+        if (!waveInProgress) return;
+
+        int enemiesInCurrentWave = baseEnemiesPerWave + (currentWave - 1) * 3;
+
+        SplittableRandom spawns = getRandom().getSpawns();
+        while (enemiesSpawnedThisWave < enemiesInCurrentWave
+                && spawns.nextDouble() < SimulationTime.chancePerStep(spawnProbability, getStepSeconds())) {
+            double newEnemyInitialYPosition = spawns.nextDouble() * getEnemyMaximumYPosition() + 35;
+            ActiveActorDestructible newEnemy = new EnemyPlane(getScreenWidth(), newEnemyInitialYPosition,
+                    getProjectiles(), getRandom().getEnemyFire());
+
+            addEnemyUnit(newEnemy);
+            enemiesSpawnedThisWave++;
+        }
+
+        if (enemiesSpawnedThisWave >= enemiesInCurrentWave && getCurrentNumberOfEnemies() == 0) {
+            waveInProgress = false;
+            enemiesSpawnedThisWave = 0;
+            startNextWave();
+        }
+    }
+
+    /**
+     * Advances to the next wave, which spawns more enemies at a higher rate, and publishes it.
+     * If all waves are cleared, the game over condition is checked.
+     */
+    public void startNextWave() {
+        currentWave++;
+        getEvents().publish(GameEventType.WAVE_STARTED, currentWave);
+        if (currentWave <= TOTAL_WAVES) {
+            waveInProgress = true;
+            spawnProbability += spawnProbabilityPerWave;
+        } else {
+            checkIfGameOver();
+        }
+    }
+}
@@ -0,0 +1,692 @@
+package com.example.demo.simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.demo.characters.ActiveActorDestructible;
+import com.example.demo.characters.FighterPlane;
+import com.example.demo.characters.UserPlane;
+import com.example.demo.diagnostics.CollisionEvent;
+import com.example.demo.diagnostics.GameEvents;
+import com.example.demo.diagnostics.ProjectileEvent;
+import com.example.demo.diagnostics.TickEvent;
+import com.example.demo.ecs.Archetype;
+import com.example.demo.ecs.EntityListener;
+import com.example.demo.event.GameEventBus;
+import com.example.demo.event.GameEventType;
+
+/**
+ * The LevelSimulation class serves as an abstract base class for the rules of every game level.
+ * It owns the planes, the projectiles and the collision manager, and advances them one step at a time.
+ * <p>
+ * Planes are objects with their own behaviour; projectiles are entities of a {@link ProjectileSystem},
+ * updated in bulk over dense arrays. A {@link CullingSystem} despawns planes and projectiles that left the
+ * world or outlived their type, so nothing missed by a collision stays in the world forever.
+ * </p>
+ * <p>
+ * Every random decision of the level is drawn from its {@link GameRandom}, seeded from the session seed, so the
+ * same seed and the same input always play the same game.
+ * </p>
+ * <p>
+ * The simulation has no JavaFX dependency, so a level can be stepped headless at full CPU speed.
+ * A view follows the simulation through a {@link SimulationListener}, which is told when actors
+ * and projectiles are added or removed and when the level ends. Changes of the game's state that the HUD shows,
+ * such as kills and hits on the user, are published on the level's {@link GameEventBus} and dispatched at the end
+ * of every step, so the HUD only changes when they do. The user's keys are captured in a {@link UserInput} and
+ * sampled once at the start of every step. Keys pressed on another thread, such as the keyboard's, arrive
+ * through the level's {@link InputQueue} and are applied to it at that boundary, so the step never waits on them.
+ * </p>
+ */
+public abstract class LevelSimulation {
+
+    /**
+     * The possible states of a level.
+     */
+    public enum Outcome {
+        IN_PROGRESS,  // The level is still being played
+        WON,          // The final boss was destroyed
+        LOST,         // The user plane was destroyed
+        NEXT_LEVEL    // The level was cleared and the next one should be loaded
+    }
+
+    private static final double SCREEN_HEIGHT_ADJUSTMENT = 150;
+    private static final SimulationListener NO_LISTENER = new SimulationListener() {};
+
+    private final double screenHeight;
+    private final double screenWidth;
+    private final double enemyMaximumYPosition;
+
+    private final UserPlane user;
+
+    private final List<ActiveActorDestructible> friendlyUnits;
+    private final List<ActiveActorDestructible> enemyUnits;
+    private final ProjectileSystem projectiles;
+
+    private final CollisionManager collisionManager;
+    private final CullingSystem cullingSystem;
+    private final TickProfiler profiler;
+    private final GameRandom random;
+    private final GameEventBus events;
+    private final UserInput input;
+    private final InputQueue inputQueue;
+    private final InputQueue.CommandListener inputApplied;
+
+    private SimulationListener listener;
+    private double stepSeconds;
+    private long stepCount;
+    private Outcome outcome;
+    private String nextLevelName;
+
+    /**
+     * Constructs a new LevelSimulation with the specified screen size and player initial health,
+     * seeded from the session seed.
+     *
+     * @param screenHeight the height of the screen
+     * @param screenWidth the width of the screen
+     * @param playerInitialHealth the initial health of the player
+     */
+    public LevelSimulation(double screenHeight, double screenWidth, int playerInitialHealth) {
+        this(screenHeight, screenWidth, playerInitialHealth, GameRandom.sessionSeed());
+    }
+
+    /**
+     * Constructs a new LevelSimulation with the specified screen size, player initial health and session seed.
+     * The level's random sources are seeded from the session seed and the name of the level's class.
+     *
+     * @param screenHeight the height of the screen
+     * @param screenWidth the width of the screen
+     * @param playerInitialHealth the initial health of the player
+     * @param sessionSeed the seed of the session
+     */
+    public LevelSimulation(double screenHeight, double screenWidth, int playerInitialHealth, long sessionSeed) {
+        this.random = new GameRandom(GameRandom.levelSeed(sessionSeed, getClass().getName()));
+        this.screenHeight = screenHeight;
+        this.screenWidth = screenWidth;
+        this.enemyMaximumYPosition = screenHeight - SCREEN_HEIGHT_ADJUSTMENT;
+
+        this.projectiles = new ProjectileSystem();
+        this.events = new GameEventBus();
+        this.input = new UserInput();
+        this.inputQueue = new InputQueue();
+        this.inputApplied = (keys, pressed) -> listener.inputApplied(stepCount - 1, keys, pressed);
+        this.user = new UserPlane(playerInitialHealth, projectiles, events);
+
+        this.friendlyUnits = new ArrayList<>();
+        this.enemyUnits = new ArrayList<>();
+
+        this.collisionManager = new CollisionManager(friendlyUnits, enemyUnits, projectiles, user, screenWidth);
+        this.cullingSystem = new CullingSystem(screenWidth, screenHeight);
+        this.profiler = new TickProfiler();
+        this.listener = NO_LISTENER;
+        this.projectiles.setListener(new EntityListener() {
+            @Override
+            public void entityCreated(int handle) {
+                if (GameEvents.ENABLED) {
+                    commitProjectileEvent(handle, true);
+                }
+                listener.projectileAdded(handle);
+            }
+
+            @Override
+            public void entityDestroyed(int handle) {
+                if (GameEvents.ENABLED) {
+                    commitProjectileEvent(handle, false);
+                }
+                listener.projectileRemoved(handle);
+            }
+        });
+        this.stepSeconds = SimulationTime.REFERENCE_STEP_SECONDS;
+        this.outcome = Outcome.IN_PROGRESS;
+
+        cullingSystem.updateScreenState(user);
+        friendlyUnits.add(user);
+    }
+
+    /**
+     * Spawns enemy units.
+     * Called once at the start of every step; levels implement it to spawn enemies during gameplay.
+     */
+    public abstract void spawnEnemyUnits();
+
+    /**
+     * Checks if the level is over.
+     * Called once at the end of every step; levels implement it by calling {@link #winGame()},
+     * {@link #loseGame()} or {@link #goToNextLevel(String)} when their end condition is met.
+     */
+    protected abstract void checkIfGameOver();
+
+    /**
+     * Sets the listener that follows the simulation.
+     * The listener is immediately told about every actor and projectile already in the world.
+     *
+     * @param listener the listener, or null to remove the current one
+     */
+    public void setListener(SimulationListener listener) {
+        this.listener = listener != null ? listener : NO_LISTENER;
+        notifyActorsAdded(friendlyUnits);
+        notifyActorsAdded(enemyUnits);
+        Archetype archetype = projectiles.getArchetype();
+        for (int row = 0; row < archetype.size(); row++) {
+            this.listener.projectileAdded(archetype.getEntities()[row]);
+        }
+    }
+
+    /**
+     * Advances the level by one step: samples the user's input, spawns enemies, updates actors, handles collisions
+     * and checks game over conditions. Does nothing once the level has ended.
+     * <p>
+     * Every phase is timed by the level's {@link TickProfiler} when it is enabled; the simulation never prints
+     * the statistics itself, its caller reads them from {@link #getProfiler()}. With the game's flight recorder
+     * events on (see {@link GameEvents}), the step is also recorded as a {@link TickEvent} and its collision
+     * resolution as a {@link CollisionEvent}.
+     * </p>
+     * <p>
+     * Projectiles fired during the step enter the world before collisions are handled. Planes and projectiles
+     * that left the world or outlived their type are culled next, before collisions, so a culled enemy is never
+     * counted as a kill. Projectiles that hit leave the world together with the destroyed planes.
+     * The game events published during the step are dispatched last.
+     * </p>
+     *
+     * @param deltaSeconds the length of the simulation step (in seconds)
+     */
+    public void step(double deltaSeconds) {
+        if (outcome != Outcome.IN_PROGRESS) {
+            return;
+        }
+        TickEvent tickEvent = null;
+        if (GameEvents.ENABLED) {
+            tickEvent = new TickEvent();
+            tickEvent.begin();
+        }
+        long start = profiler.begin();
+        stepSeconds = deltaSeconds;
+        stepCount++;
+        applyUserInput();
+        long mark = profiler.end(TickPhase.INPUT, start);
+        savePreviousPositions();
+        spawnEnemyUnits();
+        mark = profiler.end(TickPhase.SPAWN, mark);
+        updateActors(deltaSeconds);
+        mark = profiler.end(TickPhase.UPDATE_ACTORS, mark);
+        generateEnemyFire();
+        projectiles.flush();
+        mark = profiler.end(TickPhase.ENEMY_FIRE, mark);
+        cull(deltaSeconds);
+        mark = profiler.end(TickPhase.CULL, mark);
+        if (GameEvents.ENABLED) {
+            handleRecordedCollisions();
+        } else {
+            collisionManager.handleCollisions();
+        }
+        mark = profiler.end(TickPhase.COLLISIONS, mark);
+        updateKillCount();
+        mark = profiler.end(TickPhase.KILL_COUNT, mark);
+        removeAllDestroyedActors();
+        mark = profiler.end(TickPhase.REMOVAL, mark);
+        checkIfGameOver();
+        mark = profiler.end(TickPhase.GAME_OVER_CHECK, mark);
+        events.dispatch();
+        profiler.end(TickPhase.EVENTS, mark);
+        profiler.end(TickPhase.TICK, start);
+        if (tickEvent != null) {
+            tickEvent.level = getClass().getSimpleName();
+            tickEvent.step = stepCount;
+            tickEvent.enemies = enemyUnits.size();
+            tickEvent.projectiles = projectiles.size();
+            tickEvent.commit();
+        }
+    }
+
+    /**
+     * Releases the level once it is no longer shown: detaches the listener and the event listeners without
+     * notifying them and empties the actor lists. A disposed level must not be stepped again.
+     */
+    public void dispose() {
+        listener = NO_LISTENER;
+        events.clear();
+        input.clear();
+        friendlyUnits.clear();
+        enemyUnits.clear();
+    }
+
+    /**
+     * Fires a projectile from the user plane and adds it to the world, if the plane's fire limits allow it.
+     * Called as the step samples the input, so the projectile enters the world right away. Callers outside the
+     * simulation press {@link UserInput#FIRE} instead.
+     */
+    void fireUserProjectile() {
+        if (user.fireProjectile()) {
+            projectiles.flush();
+        }
+    }
+
+    /**
+     * Adds an enemy unit to the world.
+     *
+     * @param enemy the enemy unit to add
+     */
+    protected void addEnemyUnit(ActiveActorDestructible enemy) {
+        cullingSystem.updateScreenState(enemy);
+        enemyUnits.add(enemy);
+        listener.actorAdded(enemy);
+    }
+
+    /**
+     * Ends the level as won.
+     */
+    protected void winGame() {
+        endLevel(Outcome.WON);
+    }
+
+    /**
+     * Ends the level as lost.
+     */
+    protected void loseGame() {
+        endLevel(Outcome.LOST);
+    }
+
+    /**
+     * Ends the level and asks for the next one to be loaded.
+     *
+     * @param levelName the name of the next level
+     */
+    protected void goToNextLevel(String levelName) {
+        if (outcome == Outcome.IN_PROGRESS) {
+            nextLevelName = levelName;
+            user.destroy();
+            endLevel(Outcome.NEXT_LEVEL);
+        }
+    }
+
+    /**
+     * Gets the state of the level.
+     *
+     * @return the outcome, or {@link Outcome#IN_PROGRESS} while the level is being played
+     */
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    /**
+     * Gets the name of the level to load once this one is completed.
+     *
+     * @return the next level name, or null if the level has not been completed
+     */
+    public String getNextLevelName() {
+        return nextLevelName;
+    }
+
+    /**
+     * Gets the number of steps run so far.
+     *
+     * @return the step count
+     */
+    public long getStepCount() {
+        return stepCount;
+    }
+
+    /**
+     * Gets the user plane.
+     *
+     * @return the user plane
+     */
+    public UserPlane getUser() {
+        return user;
+    }
+
+    /**
+     * Gets the current number of enemies.
+     *
+     * @return the current number of enemies
+     */
+    public int getCurrentNumberOfEnemies() {
+        return enemyUnits.size();
+    }
+
+    /**
+     * Gets the friendly units, which include the user plane.
+     *
+     * @return the live list of friendly units
+     */
+    public List<ActiveActorDestructible> getFriendlyUnits() {
+        return friendlyUnits;
+    }
+
+    /**
+     * Gets the enemy units.
+     *
+     * @return the live list of enemy units
+     */
+    public List<ActiveActorDestructible> getEnemyUnits() {
+        return enemyUnits;
+    }
+
+    /**
+     * Gets the projectiles of the level, fired by the user, the enemies and the boss.
+     *
+     * @return the projectile system
+     */
+    public ProjectileSystem getProjectiles() {
+        return projectiles;
+    }
+
+    /**
+     * Gets the keys of the user, which are sampled at the start of every step.
+     *
+     * @return the user's input
+     */
+    public UserInput getInput() {
+        return input;
+    }
+
+    /**
+     * Gets the queue that carries key presses and releases from another thread to the start of the next step.
+     *
+     * @return the user's input queue
+     */
+    public InputQueue getInputQueue() {
+        return inputQueue;
+    }
+
+    /**
+     * Gets the bus the level's game events are published on.
+     *
+     * @return the event bus
+     */
+    public GameEventBus getEvents() {
+        return events;
+    }
+
+    /**
+     * Gets the collision manager of this level.
+     *
+     * @return the collision manager
+     */
+    public CollisionManager getCollisionManager() {
+        return collisionManager;
+    }
+
+    /**
+     * Gets the random sources of the level.
+     *
+     * @return the level's random sources
+     */
+    public GameRandom getRandom() {
+        return random;
+    }
+
+    /**
+     * Gets the culling system deciding which actors and projectiles leave the world.
+     *
+     * @return the culling system
+     */
+    public CullingSystem getCullingSystem() {
+        return cullingSystem;
+    }
+
+    /**
+     * Gets the profiler timing the phases of every step.
+     *
+     * @return the tick profiler
+     */
+    public TickProfiler getProfiler() {
+        return profiler;
+    }
+
+    /**
+     * Gets the screen height.
+     *
+     * @return the screen height
+     */
+    public double getScreenHeight() {
+        return screenHeight;
+    }
+
+    /**
+     * Gets the screen width.
+     *
+     * @return the screen width
+     */
+    public double getScreenWidth() {
+        return screenWidth;
+    }
+
+    /**
+     * Gets the maximum Y position for enemies.
+     *
+     * @return the maximum Y position for enemies
+     */
+    protected double getEnemyMaximumYPosition() {
+        return enemyMaximumYPosition;
+    }
+
+    /**
+     * Gets the length of the current simulation step, used to scale per-step spawn chances.
+     *
+     * @return the step length in seconds
+     */
+    protected double getStepSeconds() {
+        return stepSeconds;
+    }
+
+    /**
+     * Checks if the user plane is destroyed.
+     *
+     * @return true if the user plane is destroyed, false otherwise
+     */
+    protected boolean userIsDestroyed() {
+        return user.isDestroyed();
+    }
+
+    /**
+     * Applies the queued key commands, then samples the user's keys and applies them: up or down steers the plane
+     * while held, both or neither stop it, and fire fires whenever the plane's limits allow while it is held.
+     */
+    private void applyUserInput() {
+        inputQueue.drainTo(input, inputApplied);
+        int keys = input.sample();
+        boolean up = (keys & UserInput.UP) != 0;
+        boolean down = (keys & UserInput.DOWN) != 0;
+        if (up && !down) {
+            user.moveUp();
+        } else if (down && !up) {
+            user.moveDown();
+        } else {
+            user.stop();
+        }
+        if ((keys & UserInput.FIRE) != 0) {
+            fireUserProjectile();
+        }
+    }
+
+    /**
+     * Records the position of every plane at the start of a step, so rendering can interpolate from it.
+     * Projectiles record theirs while they move.
+     */
+    private void savePreviousPositions() {
+        savePreviousPositions(friendlyUnits);
+        savePreviousPositions(enemyUnits);
+    }
+
+    /**
+     * Records the position of the specified actors at the start of a step.
+     *
+     * @param actors the actors whose position is recorded
+     */
+    private void savePreviousPositions(List<ActiveActorDestructible> actors) {
+        for (int i = 0; i < actors.size(); i++) {
+            actors.get(i).savePreviousPosition();
+        }
+    }
+
+    /**
+     * Updates the state of all actors in the game.
+     *
+     * @param deltaSeconds the length of the simulation step (in seconds)
+     */
+    private void updateActors(double deltaSeconds) {
+        updateActors(friendlyUnits, deltaSeconds);
+        updateActors(enemyUnits, deltaSeconds);
+        projectiles.move(deltaSeconds);
+    }
+
+    /**
+     * Updates the state of the specified actors.
+     *
+     * @param actors the actors to update
+     * @param deltaSeconds the length of the simulation step (in seconds)
+     */
+    private void updateActors(List<ActiveActorDestructible> actors, double deltaSeconds) {
+        for (int i = 0; i < actors.size(); i++) {
+            actors.get(i).updateActor(deltaSeconds);
+        }
+    }
+
+    /**
+     * Generates enemy fire by queueing projectiles from enemy units.
+     */
+    private void generateEnemyFire() {
+        for (int i = 0; i < enemyUnits.size(); i++) {
+            ((FighterPlane) enemyUnits.get(i)).fireProjectile();
+        }
+    }
+
+    /**
+     * Despawns the planes and projectiles that left the world or outlived their type.
+     *
+     * @param deltaSeconds the length of the simulation step (in seconds)
+     */
+    private void cull(double deltaSeconds) {
+        cullActors(friendlyUnits, deltaSeconds);
+        cullActors(enemyUnits, deltaSeconds);
+        projectiles.expire(deltaSeconds);
+        cullingSystem.cull(projectiles);
+        projectiles.flush();
+    }
+
+    /**
+     * Despawns the actors of a list that left the world or outlived their type, keeping the order of the others.
+     * The user plane is never despawned.
+     *
+     * @param actors the actors to cull
+     * @param deltaSeconds the length of the simulation step (in seconds)
+     */
+    private void cullActors(List<ActiveActorDestructible> actors, double deltaSeconds) {
+        int kept = 0;
+        for (int i = 0; i < actors.size(); i++) {
+            ActiveActorDestructible actor = actors.get(i);
+            if (cullingSystem.update(actor, deltaSeconds) && actor != user) {
+                actor.destroy();
+                listener.actorRemoved(actor);
+            } else {
+                actors.set(kept++, actor);
+            }
+        }
+        for (int i = actors.size() - 1; i >= kept; i--) {
+            actors.remove(i);
+        }
+    }
+
+    /**
+     * Removes all destroyed actors from their respective lists, and destroyed projectiles from the world.
+     */
+    private void removeAllDestroyedActors() {
+        removeDestroyedActors(friendlyUnits);
+        removeDestroyedActors(enemyUnits);
+        projectiles.flush();
+    }
+
+    /**
+     * Removes destroyed actors from the specified list, keeping the order of the remaining ones.
+     *
+     * @param actors the list of actors to remove destroyed actors from
+     */
+    private void removeDestroyedActors(List<ActiveActorDestructible> actors) {
+        int kept = 0;
+        for (int i = 0; i < actors.size(); i++) {
+            ActiveActorDestructible actor = actors.get(i);
+            if (actor.isDestroyed()) {
+                listener.actorRemoved(actor);
+            } else {
+                actors.set(kept++, actor);
+            }
+        }
+        for (int i = actors.size() - 1; i >= kept; i--) {
+            actors.remove(i);
+        }
+    }
+
+    /**
+     * Counts every enemy shot down during the step as a kill of the user, and publishes it. Enemies that penetrated
+     * the defenses are destroyed with health left, and are not kills.
+     */
+    private void updateKillCount() {
+        for (int i = 0; i < enemyUnits.size(); i++) {
+            ActiveActorDestructible enemy = enemyUnits.get(i);
+            if (enemy.isDestroyed() && ((FighterPlane) enemy).getHealth() <= 0) {
+                user.incrementKillCount();
+                events.publish(GameEventType.ENEMY_KILLED, user.getNumberOfKills());
+            }
+        }
+    }
+
+    /**
+     * Handles collisions and records them as a flight recorder event.
+     */
+    private void handleRecordedCollisions() {
+        CollisionEvent event = new CollisionEvent();
+        event.begin();
+        collisionManager.handleCollisions();
+        event.end();
+        if (event.shouldCommit()) {
+            event.broadphase = collisionManager.getBroadphaseMode().name();
+            event.pairsTested = collisionManager.getLastPairTests();
+            event.hits = collisionManager.getLastHits();
+            event.commit();
+        }
+    }
+
+    /**
+     * Records a projectile entering or leaving the world as a flight recorder event.
+     *
+     * @param handle  the handle of the projectile, still alive
+     * @param spawned true if the projectile was created, false if it is being destroyed
+     */
+    private void commitProjectileEvent(int handle, boolean spawned) {
+        ProjectileEvent event = new ProjectileEvent();
+        if (event.shouldCommit()) {
+            Archetype archetype = projectiles.getArchetype();
+            int row = projectiles.getWorld().getRow(handle);
+            event.spawned = spawned;
+            event.type = ProjectileType.of(archetype.getKind()[row]).name();
+            event.x = archetype.getPositionX()[row];
+            event.y = archetype.getPositionY()[row];
+            event.commit();
+        }
+    }
+
+    /**
+     * Notifies the listener about every actor of the specified list.
+     *
+     * @param actors the actors to announce
+     */
+    private void notifyActorsAdded(List<ActiveActorDestructible> actors) {
+        for (int i = 0; i < actors.size(); i++) {
+            listener.actorAdded(actors.get(i));
+        }
+    }
+
+    /**
+     * Ends the level with the specified outcome and notifies the listener, once the pending game events have been
+     * dispatched. Only the first outcome counts.
+     *
+     * @param levelOutcome how the level ended
+     */
+    private void endLevel(Outcome levelOutcome) {
+        if (outcome == Outcome.IN_PROGRESS) {
+            outcome = levelOutcome;
+            events.dispatch();
+            listener.levelEnded(levelOutcome);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.demo.simulation;
+
+import com.example.demo.characters.Boss;
+
+/**
+ * The LevelTwoSimulation class holds the rules of the final level of the game.
+ * A single boss is spawned; the game is won when it is destroyed and lost if the player is destroyed.
+ */
+public class LevelTwoSimulation extends LevelSimulation {
+
+    public static final int PLAYER_INITIAL_HEALTH = 5;
+    private final Boss boss;
+
+    /**
+     * Constructs a new LevelTwoSimulation with the specified screen height and width.
+     *
+     * @param screenHeight the height of the screen
+     * @param screenWidth the width of the screen
+     */
+    public LevelTwoSimulation(double screenHeight, double screenWidth) {
+        this(screenHeight, screenWidth, GameRandom.sessionSeed());
+    }
+
+    /**
+     * Constructs a new LevelTwoSimulation with the specified screen height and width and session seed.
+     *
+     * @param screenHeight the height of the screen
+     * @param screenWidth the width of the screen
+     * @param sessionSeed the seed of the session
+     */
+    public LevelTwoSimulation(double screenHeight, double screenWidth, long sessionSeed) {
+        super(screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, sessionSeed);
+        boss = createBoss();
+    }
+
+    /**
+     * Creates and returns a new Boss instance.
+     *
+     * @return a new Boss instance
+     */
+    protected Boss createBoss() {
+        return new Boss(getProjectiles(), getEvents(), getRandom().getBoss()); // Customize initialization of Boss
+    }
+
+    /**
+     * Gets the boss of this level.
+     *
+     * @return the boss
+     */
+    public Boss getBoss() {
+        return boss;
+    }
+
+    /**
+     * Checks if the game is over by evaluating the player's health and the boss's health.
+     * If the player is destroyed, the game is lost. If the boss is destroyed, the game is won.
+     */
+    @Override
+    protected void checkIfGameOver() {
+        if (userIsDestroyed()) {
+            loseGame();
+        } else if (boss.isDestroyed()) {
+            winGame();
+        }
+    }
+
+    /**
+     * Spawns the boss if no enemies are present.
+     */
+    @Override
+    public void spawnEnemyUnits() {
+        if (getCurrentNumberOfEnemies() == 0) {
+            addEnemyUnit(boss);
+        }
+    }
+}
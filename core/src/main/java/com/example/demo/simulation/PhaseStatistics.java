@@ -0,0 +1,83 @@
+package com.example.demo.simulation;
+
+import java.util.Locale;
+
+/**
+ * The latency statistics of one {@link TickPhase}, as captured by {@link TickProfiler#snapshot()}.
+ */
+public final class PhaseStatistics {
+
+    private final TickPhase phase;
+    private final long count;
+    private final long p50Nanos;
+    private final long p99Nanos;
+    private final long maxNanos;
+
+    /**
+     * Constructs the statistics of a phase.
+     *
+     * @param phase    the phase
+     * @param count    the number of timed runs
+     * @param p50Nanos the median duration in nanoseconds
+     * @param p99Nanos the 99th percentile duration in nanoseconds
+     * @param maxNanos the longest duration in nanoseconds
+     */
+    public PhaseStatistics(TickPhase phase, long count, long p50Nanos, long p99Nanos, long maxNanos) {
+        this.phase = phase;
+        this.count = count;
+        this.p50Nanos = p50Nanos;
+        this.p99Nanos = p99Nanos;
+        this.maxNanos = maxNanos;
+    }
+
+    /**
+     * Gets the phase the statistics describe.
+     *
+     * @return the phase
+     */
+    public TickPhase getPhase() {
+        return phase;
+    }
+
+    /**
+     * Gets the number of times the phase was timed.
+     *
+     * @return the number of timed runs
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the median duration of the phase.
+     *
+     * @return the median duration in nanoseconds
+     */
+    public long getP50Nanos() {
+        return p50Nanos;
+    }
+
+    /**
+     * Gets the duration that 99% of the runs of the phase did not exceed.
+     *
+     * @return the 99th percentile duration in nanoseconds
+     */
+    public long getP99Nanos() {
+        return p99Nanos;
+    }
+
+    /**
+     * Gets the longest duration of the phase.
+     *
+     * @return the longest duration in nanoseconds
+     */
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "%-16s %9d %10.1f %10.1f %10.1f",
+                phase, count, p50Nanos / 1000.0, p99Nanos / 1000.0, maxNanos / 1000.0);
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.demo.simulation;
+
+import com.example.demo.ecs.Archetype;
+import com.example.demo.ecs.CommandBuffer;
+import com.example.demo.ecs.Component;
+import com.example.demo.ecs.EntityListener;
+import com.example.demo.ecs.EntityWorld;
+import com.example.demo.ecs.LifetimeSystem;
+import com.example.demo.ecs.MovementSystem;
+
+/**
+ * The ProjectileSystem class stores every projectile of a level as an entity of an {@link EntityWorld}.
+ * <p>
+ * Projectiles are by far the most numerous actors, so instead of one object per shot they live in a single
+ * archetype of dense component arrays: position, velocity, hitbox, health, faction, lifetime and kind (the
+ * ordinal of their {@link ProjectileType}). Spawns and destructions are queued in a {@link CommandBuffer} and
+ * only applied by {@link #flush()}, so the rows never change while they are being iterated. The flush also keeps
+ * the number of live projectiles of each faction, so counting them never walks the rows.
+ * </p>
+ */
+public class ProjectileSystem {
+
+    private static final EntityListener NO_LISTENER = new EntityListener() {};
+
+    private final EntityWorld world;
+    private final Archetype projectiles;
+    private final CommandBuffer commands;
+    private final int[] liveCounts;  // Live projectiles by faction ordinal
+    private final EntityListener counter;
+    private EntityListener listener;
+
+    /**
+     * Constructs an empty projectile system.
+     */
+    public ProjectileSystem() {
+        this.world = new EntityWorld();
+        this.projectiles = world.createArchetype(Component.POSITION, Component.VELOCITY, Component.HITBOX,
+                Component.HEALTH, Component.FACTION, Component.LIFETIME, Component.KIND);
+        this.commands = new CommandBuffer();
+        this.liveCounts = new int[Faction.values().length];
+        this.counter = new EntityListener() {
+            @Override
+            public void entityCreated(int handle) {
+                liveCounts[projectiles.getFaction()[world.getRow(handle)]]++;
+                listener.entityCreated(handle);
+            }
+
+            @Override
+            public void entityDestroyed(int handle) {
+                liveCounts[projectiles.getFaction()[world.getRow(handle)]]--;
+                listener.entityDestroyed(handle);
+            }
+        };
+        this.listener = NO_LISTENER;
+    }
+
+    /**
+     * Sets the listener told about every projectile that enters or leaves the world during a flush.
+     *
+     * @param listener the listener, or null to remove the current one
+     */
+    public void setListener(EntityListener listener) {
+        this.listener = listener != null ? listener : NO_LISTENER;
+    }
+
+    /**
+     * Queues a new projectile. It enters the world at the next {@link #flush()}.
+     *
+     * @param type the type of the projectile
+     * @param x    the x position of the projectile's top left corner
+     * @param y    the y position of the projectile's top left corner
+     */
+    public void spawn(ProjectileType type, double x, double y) {
+        int spawn = commands.spawn(projectiles);
+        commands.setPosition(spawn, x, y);
+        commands.setVelocity(spawn, type.getHorizontalVelocity(), 0);
+        commands.setHitbox(spawn, type.getWidth(), type.getHeight());
+        commands.setFaction(spawn, type.getFaction().ordinal());
+        commands.setKind(spawn, type.ordinal());
+        commands.setLifetime(spawn, type.getMaxLifetime());
+    }
+
+    /**
+     * Moves every projectile and records its previous position for interpolation.
+     *
+     * @param deltaSeconds the length of the simulation step (in seconds)
+     */
+    public void move(double deltaSeconds) {
+        MovementSystem.update(projectiles, deltaSeconds);
+    }
+
+    /**
+     * Queues the removal of projectiles whose lifetime ran out.
+     *
+     * @param deltaSeconds the length of the simulation step (in seconds)
+     */
+    public void expire(double deltaSeconds) {
+        LifetimeSystem.update(projectiles, commands, deltaSeconds);
+    }
+
+    /**
+     * Queues the removal of projectiles lying entirely outside a region.
+     *
+     * @param minX the left edge of the region
+     * @param minY the top edge of the region
+     * @param maxX the right edge of the region
+     * @param maxY the bottom edge of the region
+     */
+    public void cull(double minX, double minY, double maxX, double maxY) {
+        int size = projectiles.size();
+        double[] x = projectiles.getPositionX();
+        double[] y = projectiles.getPositionY();
+        double[] width = projectiles.getWidth();
+        double[] height = projectiles.getHeight();
+        int[] entities = projectiles.getEntities();
+        for (int row = 0; row < size; row++) {
+            if (x[row] + width[row] < minX || x[row] > maxX || y[row] + height[row] < minY || y[row] > maxY) {
+                commands.destroy(entities[row]);
+            }
+        }
+    }
+
+    /**
+     * Damages the projectile of a row, queueing its removal once its health is used up.
+     *
+     * @param row the row of the projectile
+     */
+    public void damage(int row) {
+        int[] health = projectiles.getHealth();
+        health[row]--;
+        if (health[row] <= 0) {
+            commands.destroy(projectiles.getEntities()[row]);
+        }
+    }
+
+    /**
+     * Applies the queued spawns and removals.
+     */
+    public void flush() {
+        commands.flush(world, counter);
+    }
+
+    /**
+     * Gets the archetype holding the projectiles. Its rows can be read between flushes.
+     *
+     * @return the projectile archetype
+     */
+    public Archetype getArchetype() {
+        return projectiles;
+    }
+
+    /**
+     * Gets the world the projectiles are stored in.
+     *
+     * @return the entity world
+     */
+    public EntityWorld getWorld() {
+        return world;
+    }
+
+    /**
+     * Gets the number of projectiles in the world.
+     *
+     * @return the projectile count
+     */
+    public int size() {
+        return projectiles.size();
+    }
+
+    /**
+     * Gets the number of projectiles fired by one side that are in the world.
+     *
+     * @param faction the side
+     * @return the number of projectiles of the faction
+     */
+    public int count(Faction faction) {
+        return liveCounts[faction.ordinal()];
+    }
+}
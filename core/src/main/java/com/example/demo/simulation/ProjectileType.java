@@ -0,0 +1,108 @@
+package com.example.demo.simulation;
+
+/**
+ * The kinds of projectiles fired in the game, with the image that draws them and the way they fly.
+ * <p>
+ * Projectiles are entities of a {@link ProjectileSystem}; their {@link com.example.demo.ecs.Component#KIND}
+ * component holds the ordinal of their type.
+ * </p>
+ */
+public enum ProjectileType {
+    USER("userfire1.png", 10, 888.0 / 151, 300, Faction.FRIENDLY, 6),   // userfire1.png is 888x151
+    ENEMY("enemyfire1.png", 80, 612.0 / 408, -200, Faction.ENEMY, 9),   // enemyfire1.png is 612x408
+    BOSS("fireball1.png", 70, 500.0 / 280, -300, Faction.ENEMY, 6);    // fireball1.png is 500x280
+
+    private static final ProjectileType[] TYPES = values();
+
+    private final String imageName;
+    private final double height;
+    private final double width;
+    private final double horizontalVelocity;
+    private final Faction faction;
+    private final double maxLifetime;
+
+    /**
+     * Constructs a projectile type.
+     *
+     * @param imageName          the name of the image drawing the projectile
+     * @param height             the height of the projectile (in pixels)
+     * @param aspectRatio        the width of the image divided by its height
+     * @param horizontalVelocity the horizontal velocity (in pixels per second)
+     * @param faction            the side that fires the projectile
+     * @param maxLifetime        the longest time the projectile stays in the world (in seconds)
+     */
+    ProjectileType(String imageName, double height, double aspectRatio, double horizontalVelocity, Faction faction,
+                   double maxLifetime) {
+        this.imageName = imageName;
+        this.height = height;
+        this.width = height * aspectRatio;
+        this.horizontalVelocity = horizontalVelocity;
+        this.faction = faction;
+        this.maxLifetime = maxLifetime;
+    }
+
+    /**
+     * Gets the type stored in a {@link com.example.demo.ecs.Component#KIND} component.
+     *
+     * @param kind the stored value
+     * @return the projectile type
+     */
+    public static ProjectileType of(int kind) {
+        return TYPES[kind];
+    }
+
+    /**
+     * Gets the name of the image drawing the projectile.
+     *
+     * @return the image name
+     */
+    public String getImageName() {
+        return imageName;
+    }
+
+    /**
+     * Gets the height of the projectile.
+     *
+     * @return the height (in pixels)
+     */
+    public double getHeight() {
+        return height;
+    }
+
+    /**
+     * Gets the width of the projectile.
+     *
+     * @return the width (in pixels)
+     */
+    public double getWidth() {
+        return width;
+    }
+
+    /**
+     * Gets the horizontal velocity of the projectile.
+     *
+     * @return the velocity (in pixels per second)
+     */
+    public double getHorizontalVelocity() {
+        return horizontalVelocity;
+    }
+
+    /**
+     * Gets the side that fires the projectile.
+     *
+     * @return the faction
+     */
+    public Faction getFaction() {
+        return faction;
+    }
+
+    /**
+     * Gets the longest time a projectile of this type stays in the world. It is long enough to cross the whole
+     * screen, so it only bounds projectiles that linger without leaving it.
+     *
+     * @return the maximum lifetime (in seconds)
+     */
+    public double getMaxLifetime() {
+        return maxLifetime;
+    }
+}
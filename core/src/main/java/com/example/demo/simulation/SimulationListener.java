@@ -0,0 +1,65 @@
+package com.example.demo.simulation;
+
+import com.example.demo.characters.ActiveActorDestructible;
+
+/**
+ * Receives the changes of a {@link LevelSimulation} that a view needs to follow.
+ * <p>
+ * Every method has an empty default, so a headless run can simply use no listener at all
+ * and a view only overrides what it draws.
+ * </p>
+ */
+public interface SimulationListener {
+
+    /**
+     * Called when an actor enters the world, including actors that were already present when the listener was set.
+     *
+     * @param actor the added actor
+     */
+    default void actorAdded(ActiveActorDestructible actor) {
+    }
+
+    /**
+     * Called when a destroyed actor is removed from the world.
+     *
+     * @param actor the removed actor
+     */
+    default void actorRemoved(ActiveActorDestructible actor) {
+    }
+
+    /**
+     * Called when a projectile enters the world, including projectiles that were already present when the listener
+     * was set. Its components can be read from {@link LevelSimulation#getProjectiles()}.
+     *
+     * @param handle the entity handle of the projectile
+     */
+    default void projectileAdded(int handle) {
+    }
+
+    /**
+     * Called right before a projectile leaves the world, while its components can still be read.
+     *
+     * @param handle the entity handle of the projectile
+     */
+    default void projectileRemoved(int handle) {
+    }
+
+    /**
+     * Called when the step applies a key press or release that arrived through the level's {@link InputQueue},
+     * on the thread that steps the level.
+     *
+     * @param tick    the number of steps the simulation had run before the step that applies the input
+     * @param keys    the bits of the keys, see {@link UserInput}
+     * @param pressed whether the keys were pressed or released
+     */
+    default void inputApplied(long tick, int keys, boolean pressed) {
+    }
+
+    /**
+     * Called once when the level is won, lost or completed.
+     *
+     * @param outcome how the level ended
+     */
+    default void levelEnded(LevelSimulation.Outcome outcome) {
+    }
+}
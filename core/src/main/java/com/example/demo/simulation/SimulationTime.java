@@ -0,0 +1,48 @@
+package com.example.demo.simulation;
+
+/**
+ * The SimulationTime class holds helpers for converting the game's tuning values between step lengths.
+ * <p>
+ * Velocities are expressed in pixels per second and durations in seconds, so they scale with the step
+ * length directly. Random chances such as fire rates and spawn probabilities were tuned per tick of the
+ * original 50 ms loop; {@link #chancePerStep(double, double)} rescales them so the expected frequency of
+ * an event stays the same at any simulation rate.
+ * </p>
+ */
+public final class SimulationTime {
+
+    /** The step length the per-tick chances of the game were tuned at (in seconds). */
+    public static final double REFERENCE_STEP_SECONDS = 0.05;
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private SimulationTime() {
+    }
+
+    /**
+     * Converts a chance tuned for one reference step into the chance for a step of the specified length.
+     *
+     * @param chancePerReferenceStep the probability of the event during one 50 ms reference step
+     * @param deltaSeconds           the length of the current step (in seconds)
+     * @return the probability of the event during the current step
+     */
+    public static double chancePerStep(double chancePerReferenceStep, double deltaSeconds) {
+        if (deltaSeconds == REFERENCE_STEP_SECONDS) {
+            return chancePerReferenceStep;
+        }
+        return 1.0 - Math.pow(1.0 - chancePerReferenceStep, deltaSeconds / REFERENCE_STEP_SECONDS);
+    }
+
+    /**
+     * Converts a duration to whole nanoseconds, so durations built from many steps add up exactly.
+     *
+     * @param seconds the duration (in seconds)
+     * @return the duration (in nanoseconds)
+     */
+    public static long toNanos(double seconds) {
+        return Math.round(seconds * NANOS_PER_SECOND);
+    }
+}
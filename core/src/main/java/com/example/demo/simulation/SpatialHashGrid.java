@@ -0,0 +1,362 @@
+package com.example.demo.simulation;
+
+import java.util.Arrays;
+
+/**
+ * The SpatialHashGrid class is a uniform-grid broadphase used by the {@link CollisionManager}.
+ * <p>
+ * Items are identified by their index in the list they come from and are bucketed into every
+ * world cell their axis-aligned bounds overlap. A query returns, in ascending order and without
+ * duplicates, the indices of the items that share at least one cell with the queried bounds.
+ * Cells are hashed into a fixed-size table, so the grid works for actors anywhere in the world
+ * (including off-screen spawns) and never needs to be resized. All storage is preallocated and
+ * reused between ticks, so rebuilding the grid every tick does not create garbage once the
+ * arrays have grown to the peak actor count.
+ * </p>
+ */
+public class SpatialHashGrid {
+
+    private static final double DEFAULT_CELL_SIZE = 128;
+    private static final int DEFAULT_TABLE_SIZE = 1024;  // Must be a power of two
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int NO_ENTRY = -1;
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+    private static final int SCAN_FRACTION = 8;  // Candidates above 1/8 of the items are ordered by a scan, not a sort
+
+    private final double cellSize;
+    private final int tableMask;
+
+    /** Head entry of each hash bucket, valid only when the bucket stamp matches the generation. */
+    private final int[] bucketHeads;
+    private final int[] bucketStamps;
+    private int generation;
+
+    /** Linked entries mapping a cell (bucket) to an item. */
+    private int[] entryItems;
+    private int[] entryNext;
+    private int entryCount;
+
+    /** Bounds of each inserted item, indexed by item. */
+    private double[] minX;
+    private double[] minY;
+    private double[] maxX;
+    private double[] maxY;
+    private int itemCount;
+
+    /** Scratch space for de-duplicating and returning query results. */
+    private int[] candidateStamps;
+    private int[] candidates;
+    private int candidateCount;
+    private int queryStamp;
+
+    /**
+     * Constructs a new SpatialHashGrid with the default cell size and table size.
+     */
+    public SpatialHashGrid() {
+        this(DEFAULT_CELL_SIZE, DEFAULT_TABLE_SIZE);
+    }
+
+    /**
+     * Constructs a new SpatialHashGrid with the specified cell size and table size.
+     *
+     * @param cellSize the width and height of a world cell
+     * @param tableSize the number of hash buckets, must be a power of two
+     * @throws IllegalArgumentException if the cell size is not positive or the table size is not a power of two
+     */
+    public SpatialHashGrid(double cellSize, int tableSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("Cell size must be positive: " + cellSize);
+        }
+        if (tableSize <= 0 || Integer.bitCount(tableSize) != 1) {
+            throw new IllegalArgumentException("Table size must be a power of two: " + tableSize);
+        }
+        this.cellSize = cellSize;
+        this.tableMask = tableSize - 1;
+        this.bucketHeads = new int[tableSize];
+        this.bucketStamps = new int[tableSize];
+        this.entryItems = new int[INITIAL_CAPACITY];
+        this.entryNext = new int[INITIAL_CAPACITY];
+        this.minX = new double[INITIAL_CAPACITY];
+        this.minY = new double[INITIAL_CAPACITY];
+        this.maxX = new double[INITIAL_CAPACITY];
+        this.maxY = new double[INITIAL_CAPACITY];
+        this.candidateStamps = new int[INITIAL_CAPACITY];
+        this.candidates = new int[INITIAL_CAPACITY];
+        this.generation = 1;
+    }
+
+    /**
+     * Removes every item from the grid.
+     * Buckets are invalidated by bumping the generation instead of being cleared one by one.
+     */
+    public void clear() {
+        generation++;
+        if (generation == 0) {
+            // Generation wrapped around, so stale bucket stamps could match the new one
+            Arrays.fill(bucketStamps, 0);
+            generation = 1;
+        }
+        entryCount = 0;
+        itemCount = 0;
+    }
+
+    /**
+     * Inserts the next item with the specified bounds.
+     * Items must be inserted in order, starting from index zero after each {@link #clear()}.
+     *
+     * @param boundsMinX the minimum x of the item's bounds
+     * @param boundsMinY the minimum y of the item's bounds
+     * @param boundsMaxX the maximum x of the item's bounds
+     * @param boundsMaxY the maximum y of the item's bounds
+     * @return the index assigned to the inserted item
+     */
+    public int insert(double boundsMinX, double boundsMinY, double boundsMaxX, double boundsMaxY) {
+        int item = itemCount++;
+        ensureItemCapacity(itemCount);
+        minX[item] = boundsMinX;
+        minY[item] = boundsMinY;
+        maxX[item] = boundsMaxX;
+        maxY[item] = boundsMaxY;
+
+        long firstCellX = cellOf(boundsMinX);
+        long lastCellX = cellOf(boundsMaxX);
+        long firstCellY = cellOf(boundsMinY);
+        long lastCellY = cellOf(boundsMaxY);
+        for (long cellX = firstCellX; cellX <= lastCellX; cellX++) {
+            for (long cellY = firstCellY; cellY <= lastCellY; cellY++) {
+                addEntry(bucketOf(cellX, cellY), item);
+            }
+        }
+        return item;
+    }
+
+    /**
+     * Collects the items sharing at least one cell with the specified bounds.
+     * The results are sorted in ascending item order and can be read with {@link #getCandidate(int)}
+     * until the next query.
+     *
+     * @param boundsMinX the minimum x of the queried bounds
+     * @param boundsMinY the minimum y of the queried bounds
+     * @param boundsMaxX the maximum x of the queried bounds
+     * @param boundsMaxY the maximum y of the queried bounds
+     * @return the number of candidate items found
+     */
+    public int query(double boundsMinX, double boundsMinY, double boundsMaxX, double boundsMaxY) {
+        candidateCount = 0;
+        queryStamp++;
+        if (queryStamp == 0) {
+            // Stamp wrapped around, so older stamps could collide with the new one
+            Arrays.fill(candidateStamps, 0);
+            queryStamp = 1;
+        }
+
+        long firstCellX = cellOf(boundsMinX);
+        long lastCellX = cellOf(boundsMaxX);
+        long firstCellY = cellOf(boundsMinY);
+        long lastCellY = cellOf(boundsMaxY);
+        for (long cellX = firstCellX; cellX <= lastCellX; cellX++) {
+            for (long cellY = firstCellY; cellY <= lastCellY; cellY++) {
+                collectBucket(bucketOf(cellX, cellY));
+            }
+        }
+        sortCandidates();
+        return candidateCount;
+    }
+
+    /**
+     * Gets a candidate item found by the last query.
+     *
+     * @param index the position of the candidate in the query results
+     * @return the item index of the candidate
+     */
+    public int getCandidate(int index) {
+        return candidates[index];
+    }
+
+    /**
+     * Checks whether an inserted item's bounds intersect the specified bounds.
+     * Edges that touch count as an intersection, as they do with JavaFX's {@code Bounds.intersects}.
+     *
+     * @param item the index of the inserted item
+     * @param boundsMinX the minimum x of the other bounds
+     * @param boundsMinY the minimum y of the other bounds
+     * @param boundsMaxX the maximum x of the other bounds
+     * @param boundsMaxY the maximum y of the other bounds
+     * @return true if the bounds intersect, false otherwise
+     */
+    public boolean intersects(int item, double boundsMinX, double boundsMinY, double boundsMaxX, double boundsMaxY) {
+        return boundsMaxX >= minX[item] && boundsMaxY >= minY[item]
+                && boundsMinX <= maxX[item] && boundsMinY <= maxY[item];
+    }
+
+    /**
+     * Gets the number of items currently in the grid.
+     *
+     * @return the number of inserted items
+     */
+    public int size() {
+        return itemCount;
+    }
+
+    /**
+     * Converts a world coordinate to a cell coordinate.
+     *
+     * @param coordinate the world coordinate
+     * @return the cell coordinate containing it
+     */
+    private long cellOf(double coordinate) {
+        return (long) Math.floor(coordinate / cellSize);
+    }
+
+    /**
+     * Hashes a cell to a bucket of the table.
+     * Unrelated cells may share a bucket; the narrowphase filters out the extra candidates.
+     *
+     * @param cellX the x coordinate of the cell
+     * @param cellY the y coordinate of the cell
+     * @return the bucket index
+     */
+    private int bucketOf(long cellX, long cellY) {
+        long hash = cellX * 73856093L ^ cellY * 19349663L;
+        return (int) (hash ^ (hash >>> 32)) & tableMask;
+    }
+
+    /**
+     * Links an item into a bucket.
+     *
+     * @param bucket the bucket index
+     * @param item the item index
+     */
+    private void addEntry(int bucket, int item) {
+        if (bucketStamps[bucket] != generation) {
+            bucketStamps[bucket] = generation;
+            bucketHeads[bucket] = NO_ENTRY;
+        }
+        if (entryCount == entryItems.length) {
+            entryItems = Arrays.copyOf(entryItems, entryCount * 2);
+            entryNext = Arrays.copyOf(entryNext, entryCount * 2);
+        }
+        entryItems[entryCount] = item;
+        entryNext[entryCount] = bucketHeads[bucket];
+        bucketHeads[bucket] = entryCount;
+        entryCount++;
+    }
+
+    /**
+     * Puts the candidates in ascending item order without allocating.
+     * <p>
+     * {@link Arrays#sort(int[], int, int)} is not used: bucket chains yield descending runs, which it merges
+     * through a temporary buffer on every query. Small sets use an insertion sort, sets covering a large share of
+     * the items are rebuilt by scanning the stamps, and everything in between uses an in-place heapsort.
+     * </p>
+     */
+    private void sortCandidates() {
+        if (candidateCount <= INSERTION_SORT_THRESHOLD) {
+            insertionSortCandidates();
+        } else if (candidateCount > itemCount / SCAN_FRACTION) {
+            collectStampedItems();
+        } else {
+            heapSortCandidates();
+        }
+    }
+
+    /**
+     * Sorts the candidates with an insertion sort.
+     */
+    private void insertionSortCandidates() {
+        for (int i = 1; i < candidateCount; i++) {
+            int item = candidates[i];
+            int j = i - 1;
+            while (j >= 0 && candidates[j] > item) {
+                candidates[j + 1] = candidates[j];
+                j--;
+            }
+            candidates[j + 1] = item;
+        }
+    }
+
+    /**
+     * Sorts the candidates with an in-place heapsort.
+     */
+    private void heapSortCandidates() {
+        for (int i = candidateCount / 2 - 1; i >= 0; i--) {
+            siftDown(i, candidateCount);
+        }
+        for (int end = candidateCount - 1; end > 0; end--) {
+            int largest = candidates[0];
+            candidates[0] = candidates[end];
+            candidates[end] = largest;
+            siftDown(0, end);
+        }
+    }
+
+    /**
+     * Moves a candidate down the max-heap held in the first {@code size} candidates.
+     *
+     * @param index the position of the candidate
+     * @param size the size of the heap
+     */
+    private void siftDown(int index, int size) {
+        int item = candidates[index];
+        int child;
+        while ((child = 2 * index + 1) < size) {
+            if (child + 1 < size && candidates[child + 1] > candidates[child]) {
+                child++;
+            }
+            if (candidates[child] <= item) {
+                break;
+            }
+            candidates[index] = candidates[child];
+            index = child;
+        }
+        candidates[index] = item;
+    }
+
+    /**
+     * Rewrites the candidates in ascending item order by scanning the items stamped by this query.
+     */
+    private void collectStampedItems() {
+        int count = 0;
+        for (int item = 0; item < itemCount && count < candidateCount; item++) {
+            if (candidateStamps[item] == queryStamp) {
+                candidates[count++] = item;
+            }
+        }
+    }
+
+    /**
+     * Adds every item of a bucket to the candidates, skipping items already collected by this query.
+     *
+     * @param bucket the bucket index
+     */
+    private void collectBucket(int bucket) {
+        if (bucketStamps[bucket] != generation) {
+            return;
+        }
+        for (int entry = bucketHeads[bucket]; entry != NO_ENTRY; entry = entryNext[entry]) {
+            int item = entryItems[entry];
+            if (candidateStamps[item] != queryStamp) {
+                candidateStamps[item] = queryStamp;
+                candidates[candidateCount++] = item;
+            }
+        }
+    }
+
+    /**
+     * Grows the per-item arrays so they can hold at least the specified number of items.
+     *
+     * @param capacity the required number of items
+     */
+    private void ensureItemCapacity(int capacity) {
+        if (capacity <= minX.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, minX.length * 2);
+        minX = Arrays.copyOf(minX, newCapacity);
+        minY = Arrays.copyOf(minY, newCapacity);
+        maxX = Arrays.copyOf(maxX, newCapacity);
+        maxY = Arrays.copyOf(maxY, newCapacity);
+        candidateStamps = Arrays.copyOf(candidateStamps, newCapacity);
+        candidates = Arrays.copyOf(candidates, newCapacity);
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.demo.simulation;
+
+/**
+ * The phases of a tick timed by a {@link TickProfiler}, in the order they run.
+ * The profiler's report and the flight recorder's phase events name the phases as listed here, with one row each;
+ * {@link #VIEW} is timed by the view between steps and {@link #TICK} spans the whole step.
+ */
+public enum TickPhase {
+    INPUT,            // Queued keys are applied and sampled; the user plane steers and fires
+    SPAWN,            // Levels spawn enemy units
+    UPDATE_ACTORS,    // Planes update, projectiles move
+    ENEMY_FIRE,       // Enemies fire and new projectiles enter the world
+    CULL,             // Actors and projectiles outside the world or past their lifetime leave it
+    COLLISIONS,       // Collisions and enemy penetration are resolved
+    KILL_COUNT,       // Enemies shot down are counted as the user's kills
+    REMOVAL,          // Projectiles and actors destroyed by collisions leave the world
+    GAME_OVER_CHECK,  // The level checks its end condition
+    EVENTS,           // The game events of the step are dispatched, the view's HUD follows them
+    VIEW,             // The view refreshes its level-specific elements
+    TICK              // The whole simulation step
+}
@@ -0,0 +1,70 @@
+package com.example.demo.simulation;
+
+/**
+ * The UserInput class captures the keys of the user as a bitset, to be sampled once at the start of every step.
+ * <p>
+ * Keys are pressed and released whenever the input arrives, but only change the simulation when it is sampled, so
+ * the keyboard's repeat rate and the timing of its events do not change the cost or the outcome of a step. A key
+ * pressed and released between two samples still counts as pressed for the next one, so quick taps are not lost.
+ * </p>
+ */
+public final class UserInput {
+
+    /** The key moving the user plane up. */
+    public static final int UP = 1;
+    /** The key moving the user plane down. */
+    public static final int DOWN = 1 << 1;
+    /** The key firing the user's projectiles. */
+    public static final int FIRE = 1 << 2;
+
+    private int heldKeys;
+    private int pressedKeys;  // Pressed since the last sample, even if released meanwhile
+
+    /**
+     * Presses keys.
+     *
+     * @param keys the bits of the keys
+     */
+    public void press(int keys) {
+        heldKeys |= keys;
+        pressedKeys |= keys;
+    }
+
+    /**
+     * Releases keys.
+     *
+     * @param keys the bits of the keys
+     */
+    public void release(int keys) {
+        heldKeys &= ~keys;
+    }
+
+    /**
+     * Checks if all of the specified keys are held.
+     *
+     * @param keys the bits of the keys
+     * @return true if every key is held
+     */
+    public boolean isHeld(int keys) {
+        return (heldKeys & keys) == keys;
+    }
+
+    /**
+     * Samples the keys for a step: the keys held now, and those pressed since the last sample.
+     *
+     * @return the bits of the sampled keys
+     */
+    public int sample() {
+        int keys = heldKeys | pressedKeys;
+        pressedKeys = 0;
+        return keys;
+    }
+
+    /**
+     * Releases every key, and forgets the keys pressed since the last sample.
+     */
+    public void clear() {
+        heldKeys = 0;
+        pressedKeys = 0;
+    }
+}
@@ -0,0 +1,15 @@
+module com.example.demo.core {
+
+    requires java.management;
+    requires jdk.jfr;
+    requires jdk.management;
+
+    exports com.example.demo.characters;
+    exports com.example.demo.diagnostics;
+    exports com.example.demo.ecs;
+    exports com.example.demo.event;
+    exports com.example.demo.headless;
+    exports com.example.demo.render;
+    exports com.example.demo.replay;
+    exports com.example.demo.simulation;
+}
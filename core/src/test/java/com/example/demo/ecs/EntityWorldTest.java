@@ -0,0 +1,122 @@
+package com.example.demo.ecs;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EntityWorldTest {
+
+    @Test
+    void testStaleHandleIsNotAliveAfterSlotReuse() {
+        EntityWorld world = new EntityWorld();
+        Archetype archetype = world.createArchetype(Component.POSITION);
+
+        int first = world.createEntity(archetype);
+        assertTrue(world.destroyEntity(first));
+        int second = world.createEntity(archetype);
+
+        assertEquals(Entity.index(first), Entity.index(second), "The freed slot is reused.");
+        assertNotEquals(first, second);
+        assertFalse(world.isAlive(first));
+        assertTrue(world.isAlive(second));
+        assertFalse(world.destroyEntity(first), "A stale handle must not destroy the new entity.");
+        assertFalse(world.isAlive(Entity.NULL));
+    }
+
+    @Test
+    void testCountsPeakSizeSlotReuseAndGrowth() {
+        EntityWorld world = new EntityWorld();
+        Archetype archetype = world.createArchetype(Component.POSITION);
+        int initialCapacity = archetype.getCapacity();
+
+        List<Integer> handles = new ArrayList<>();
+        for (int i = 0; i <= initialCapacity; i++) {
+            handles.add(world.createEntity(archetype));
+        }
+        for (int handle : handles) {
+            world.destroyEntity(handle);
+        }
+        for (int i = 0; i < 10; i++) {
+            world.createEntity(archetype);
+        }
+
+        assertEquals(initialCapacity + 1, world.getPeakSize());
+        assertEquals(initialCapacity + 1, archetype.getPeakSize());
+        assertEquals(1, archetype.getGrowthCount(), "One row past the capacity grows the arrays once.");
+        assertEquals(2 * initialCapacity, archetype.getCapacity());
+        assertEquals(initialCapacity + 11, world.getCreatedCount());
+        assertEquals(10, world.getReusedCount());
+        assertEquals(10.0 / (initialCapacity + 11), world.getReuseRate(), 1e-12);
+    }
+
+    @Test
+    void testSwapRemoveKeepsComponentsOfMovedEntity() {
+        EntityWorld world = new EntityWorld();
+        Archetype archetype = world.createArchetype(Component.POSITION, Component.HEALTH);
+        int[] handles = new int[100];
+        for (int i = 0; i < handles.length; i++) {
+            handles[i] = world.createEntity(archetype);
+            archetype.getPositionX()[world.getRow(handles[i])] = i;
+            archetype.getHealth()[world.getRow(handles[i])] = i * 10;
+        }
+
+        world.destroyEntity(handles[3]);
+
+        assertEquals(99, archetype.size());
+        for (int i = 0; i < handles.length; i++) {
+            if (i != 3) {
+                int row = world.getRow(handles[i]);
+                assertEquals(handles[i], archetype.getEntities()[row]);
+                assertEquals(i, archetype.getPositionX()[row]);
+                assertEquals(i * 10, archetype.getHealth()[row]);
+            }
+        }
+    }
+
+    @Test
+    void testCommandBufferDefersChangesUntilFlush() {
+        EntityWorld world = new EntityWorld();
+        Archetype archetype = world.createArchetype(Component.POSITION, Component.VELOCITY, Component.LIFETIME);
+        CommandBuffer commands = new CommandBuffer();
+        List<Integer> created = new ArrayList<>();
+        List<Integer> destroyed = new ArrayList<>();
+        EntityListener listener = new EntityListener() {
+            @Override
+            public void entityCreated(int handle) {
+                created.add(handle);
+            }
+
+            @Override
+            public void entityDestroyed(int handle) {
+                destroyed.add(handle);
+            }
+        };
+
+        int spawn = commands.spawn(archetype);
+        commands.setPosition(spawn, 10, 20);
+        commands.setVelocity(spawn, 300, 0);
+        commands.setLifetime(spawn, 0.1);
+        assertEquals(0, archetype.size(), "Spawns wait for the flush.");
+        commands.flush(world, listener);
+
+        assertEquals(1, created.size());
+        int row = world.getRow(created.get(0));
+        assertEquals(10, archetype.getPreviousX()[row]);
+        MovementSystem.update(world, 0.05);
+        assertEquals(25, archetype.getPositionX()[row], 1e-9);
+        assertEquals(10, archetype.getPreviousX()[row], 1e-9);
+
+        LifetimeSystem.update(world, commands, 0.05);
+        LifetimeSystem.update(world, commands, 0.05);
+        commands.destroy(created.get(0));  // Destroying twice is ignored
+        assertEquals(1, archetype.size(), "Destructions wait for the flush.");
+        commands.flush(world, listener);
+
+        assertEquals(created, destroyed);
+        assertEquals(0, world.size());
+        assertTrue(commands.isEmpty());
+    }
+}
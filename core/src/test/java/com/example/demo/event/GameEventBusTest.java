@@ -0,0 +1,55 @@
+package com.example.demo.event;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameEventBusTest {
+
+    @Test
+    void testEventsAreDispatchedInOrderToTheirTypeOnly() {
+        GameEventBus bus = new GameEventBus(4);
+        List<String> received = new ArrayList<>();
+        bus.subscribe(GameEventType.ENEMY_KILLED, event -> received.add("kills " + event.getValue()));
+        bus.subscribe(GameEventType.PLAYER_DAMAGED, event -> received.add("health " + event.getValue()));
+
+        bus.publish(GameEventType.ENEMY_KILLED, 1);
+        bus.publish(GameEventType.PLAYER_DAMAGED, 4);
+        bus.publish(GameEventType.WAVE_STARTED, 2);  // Nobody listens
+        bus.publish(GameEventType.ENEMY_KILLED, 2);
+        assertTrue(received.isEmpty(), "Events wait for the dispatch.");
+        assertEquals(4, bus.getPendingCount());
+
+        assertEquals(4, bus.dispatch());
+        assertEquals(List.of("kills 1", "health 4", "kills 2"), received);
+        assertEquals(0, bus.getPendingCount());
+    }
+
+    @Test
+    void testFullRingDispatchesTheOldestEventAndReusesItsSlot() {
+        GameEventBus bus = new GameEventBus(2);
+        List<Integer> received = new ArrayList<>();
+        List<GameEvent> slots = new ArrayList<>();
+        bus.subscribe(GameEventType.ENEMY_KILLED, event -> {
+            received.add(event.getValue());
+            slots.add(event);
+        });
+
+        for (int kills = 1; kills <= 5; kills++) {
+            bus.publish(GameEventType.ENEMY_KILLED, kills);
+        }
+        assertEquals(List.of(1, 2, 3), received, "Only the events that did not fit were dispatched early.");
+        bus.dispatch();
+        assertEquals(List.of(1, 2, 3, 4, 5), received);
+        assertSame(slots.get(0), slots.get(2), "Events are preallocated slots of the ring.");
+
+        bus.clear();
+        bus.publish(GameEventType.ENEMY_KILLED, 6);
+        bus.dispatch();
+        assertEquals(5, received.size(), "A cleared bus has no listeners.");
+        assertThrows(IllegalArgumentException.class, () -> new GameEventBus(3));
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.demo.headless;
+
+import java.util.Locale;
+import java.util.Map;
+
+import com.example.demo.diagnostics.AllocationMeter;
+import com.example.demo.simulation.LatencyHistogram;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Fails when a tick allocates more than its budget, so garbage sources removed from the tick stay removed.
+ * <p>
+ * Each scenario plays a real level with the scripted bot, first until the JIT has compiled the tick, then for a
+ * measured number of ticks over as many games as it takes. Only the stepping of each game is measured, not the
+ * building of its level. The budgets are about twice what a tick allocates today: enemies that spawn and the
+ * projectile world growing past its initial capacity once per level are the only allocations left.
+ * </p>
+ */
+class AllocationBudgetTest {
+
+    private static final double STEP_SECONDS = 0.05;
+    private static final long WARMUP_TICKS = 5_000;
+    private static final long MEASURED_TICKS = 5_000;
+    private static final long MAX_TICKS_PER_GAME = 100_000;
+
+    @BeforeEach
+    void requireAllocationCounting() {
+        assumeTrue(AllocationMeter.isSupported(), "The JVM does not count allocated bytes per thread.");
+    }
+
+    @Test
+    void testSteadyStateStaysWithinBudget() {
+        // Waves of enemies spawning, moving and firing, with the user firing at the normal rate.
+        assertWithinBudget("LevelOne", 4, 32);
+    }
+
+    @Test
+    void testHeavyFiringStaysWithinBudget() {
+        // A shot every step fills the projectile world, which grows past its initial capacity once per level.
+        assertWithinBudget("LevelSemi", 1, 96);
+        assertWithinBudget("LevelOne", 1, 256);
+    }
+
+    @Test
+    void testBossFightStaysWithinBudget() {
+        // The boss moves, fires and raises its shield without allocating.
+        assertWithinBudget("LevelTwo", 4, 8);
+    }
+
+    private static void assertWithinBudget(String levelName, int fireInterval, double budgetBytesPerTick) {
+        playTicks(levelName, fireInterval, WARMUP_TICKS, 0);
+        long[] measured = playTicks(levelName, fireInterval, MEASURED_TICKS, WARMUP_TICKS);
+        double bytesPerTick = (double) measured[1] / measured[0];
+        assertTrue(bytesPerTick <= budgetBytesPerTick, String.format(Locale.ROOT,
+                "%s with a shot every %d steps allocated %.1f B/tick, over its budget of %.0f B/tick", levelName,
+                fireInterval, bytesPerTick, budgetBytesPerTick));
+    }
+
+    /**
+     * Plays games until a number of ticks has been stepped.
+     *
+     * @return the ticks stepped and the bytes they allocated
+     */
+    private static long[] playTicks(String levelName, int fireInterval, long ticks, long firstSeed) {
+        long stepped = 0;
+        long allocatedBytes = 0;
+        for (long seed = firstSeed; stepped < ticks; seed++) {
+            HeadlessRun run = HeadlessRunner.runBot(levelName, Map.of(), seed, STEP_SECONDS, fireInterval,
+                    MAX_TICKS_PER_GAME, new LatencyHistogram());
+            stepped += run.getTicks();
+            allocatedBytes += run.getAllocatedBytes();
+        }
+        return new long[]{stepped, allocatedBytes};
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.demo.headless;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchRunnerTest {
+
+    private static final int TIMING_COLUMNS = 2;
+
+    @Test
+    void testParallelSweepMatchesSequentialSweep() throws IOException {
+        ParameterGrid grid = new ParameterGrid().add("enemySpawnProbability", List.of(0.1, 0.3));
+        BatchRunner runner = new BatchRunner("LevelOne", grid, 42, 20, 0.05, 100_000, 4);
+
+        StringBuilder sequential = new StringBuilder();
+        StringBuilder parallel = new StringBuilder();
+        List<BatchAggregate> results = runSweep(runner, 1, sequential);
+        runSweep(runner, 4, parallel);
+
+        String[] sequentialRows = sequential.toString().split(System.lineSeparator());
+        String[] parallelRows = parallel.toString().split(System.lineSeparator());
+        assertEquals(3, sequentialRows.length, "A header and one row per point");
+        assertTrue(sequentialRows[0].startsWith("level,enemySpawnProbability,runs,win_rate"));
+        assertTrue(sequentialRows[1].startsWith("LevelOne,0.1,20,"));
+        assertTrue(sequentialRows[2].startsWith("LevelOne,0.3,20,"));
+        for (int i = 0; i < sequentialRows.length; i++) {
+            assertEquals(withoutTimings(sequentialRows[i]), withoutTimings(parallelRows[i]),
+                    "Results must not depend on how the seeds were spread over threads.");
+        }
+        assertEquals(20, results.get(0).getRuns());
+        assertTrue(results.get(1).getPeakEntities() > 1);
+    }
+
+    @Test
+    void testUnknownParameterIsRejected() {
+        ParameterGrid grid = new ParameterGrid().add("bossHealth", List.of(1.0));
+        BatchRunner runner = new BatchRunner("LevelOne", grid, 0, 1, 0.05, 10, 4);
+
+        assertThrows(IllegalArgumentException.class, () -> runSweep(runner, 1, new StringBuilder()));
+    }
+
+    private static List<BatchAggregate> runSweep(BatchRunner runner, int threads, StringBuilder csv)
+            throws IOException {
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            return runner.run(pool, csv);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static String withoutTimings(String row) {
+        String[] columns = row.split(",");
+        return String.join(",", Arrays.copyOf(columns, columns.length - TIMING_COLUMNS));
+    }
+}
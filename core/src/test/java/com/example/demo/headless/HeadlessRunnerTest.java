@@ -0,0 +1,65 @@
+package com.example.demo.headless;
+
+import java.util.Map;
+
+import com.example.demo.replay.InputKey;
+import com.example.demo.replay.InputLog;
+import com.example.demo.replay.InputRecorder;
+import com.example.demo.simulation.LatencyHistogram;
+import com.example.demo.simulation.LevelSimulation;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeadlessRunnerTest {
+
+    private static final double STEP_SECONDS = 0.05;
+
+    @Test
+    void testBotRunsAreReproducibleAndEndWithTheLevel() {
+        HeadlessRun first = bot("LevelSemi", 100_000);
+        HeadlessRun second = bot("com.example.demo.LevelSemi", 100_000);
+
+        assertEquals("com.example.demo.LevelSemi", first.getLevelName());
+        assertNotEquals(LevelSimulation.Outcome.IN_PROGRESS, first.getOutcome(), "The bot plays until the level ends.");
+        assertEquals(first.getOutcome(), second.getOutcome());
+        assertEquals(first.getTicks(), second.getTicks());
+        assertEquals(first.getKills(), second.getKills());
+        assertTrue(first.getKills() > 0);
+        assertTrue(first.getPeakEntities() > 1);
+
+        HeadlessRun capped = bot("LevelSemi", 10);
+        assertEquals(10, capped.getTicks());
+        assertEquals(LevelSimulation.Outcome.IN_PROGRESS, capped.getOutcome());
+        assertThrows(IllegalArgumentException.class, () -> bot("LevelThree", 1));
+    }
+
+    @Test
+    void testReplayRunStopsWhereTheRecordingStopped() {
+        InputRecorder recorder = new InputRecorder("LevelOne", 7, 750, 1300, STEP_SECONDS);
+        recorder.record(0, InputKey.FIRE, true);
+        recorder.record(5, InputKey.UP, true);
+        recorder.record(9, InputKey.UP, false);
+        InputLog log = InputLog.decode(recorder.finish(30));
+
+        HeadlessRun run = HeadlessRunner.runReplay(log, 100_000, new LatencyHistogram());
+
+        assertEquals("com.example.demo.LevelOne", run.getLevelName());
+        assertEquals(7, run.getSessionSeed());
+        assertEquals(30, run.getTicks());
+        assertEquals(30 * STEP_SECONDS, run.getSimulatedSeconds(), 1e-9);
+    }
+
+    @Test
+    void testOptionWithoutValueIsRejected() {
+        String[] args = {"LevelOne", "--seed", "42", "--ticks"};
+        assertEquals("42", HeadlessRunner.requireValue(args, 1));
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> HeadlessRunner.requireValue(args, 3));
+        assertEquals("Missing value for --ticks", e.getMessage());
+    }
+
+    private static HeadlessRun bot(String levelName, long maxTicks) {
+        return HeadlessRunner.runBot(levelName, Map.of(), 42, STEP_SECONDS, 4, maxTicks, new LatencyHistogram());
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.demo.render;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PixelSurfaceTest {
+
+    private static final int WIDTH = 12;
+    private static final int HEIGHT = 8;
+
+    @Test
+    void testBlendedSpritesMatchReferenceImage() {
+        SpriteBitmap opaque = SpriteBitmap.fromArgb(4, 3, filled(4 * 3, 0xFF3366CC));
+        int[] translucentArgb = new int[5 * 4];
+        for (int i = 0; i < translucentArgb.length; i++) {
+            translucentArgb[i] = ((i * 13) % 256) << 24 | 0xE0A040 + i;  // Alphas from transparent to almost opaque
+        }
+        SpriteBitmap translucent = SpriteBitmap.fromArgb(5, 4, translucentArgb);
+
+        PixelSurface surface = new PixelSurface(WIDTH, HEIGHT);
+        surface.beginFrame();
+        surface.blit(opaque, 2, 1);
+        surface.blit(translucent, 4, 2);
+
+        double[][] reference = new double[WIDTH * HEIGHT][4];
+        composite(reference, 4, 3, filled(4 * 3, 0xFF3366CC), 2, 1);
+        composite(reference, 5, 4, translucentArgb, 4, 2);
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                assertPixel(reference[y * WIDTH + x], surface.getPixel(x, y), x, y);
+            }
+        }
+    }
+
+    @Test
+    void testSpritesAreClippedAndChangedRegionCoversClearedPixels() {
+        SpriteBitmap sprite = new SpriteBitmap(3, 3, filled(9, 0xFFFFFFFF));
+        PixelSurface surface = new PixelSurface(WIDTH, HEIGHT);
+
+        surface.beginFrame();
+        assertFalse(surface.isChanged());
+        surface.blit(sprite, -1, -2);  // Only the bottom right 2x1 pixels are on the surface
+        surface.blit(sprite, WIDTH, 0);  // Entirely off the surface
+        assertEquals(0xFFFFFFFF, surface.getPixel(0, 0));
+        assertEquals(0xFFFFFFFF, surface.getPixel(1, 0));
+        assertEquals(0, surface.getPixel(2, 0));
+        assertEquals(0, surface.getPixel(0, 1));
+        assertChangedRegion(surface, 0, 0, 2, 1);
+
+        surface.beginFrame();
+        surface.blit(sprite, 8, 4);
+        assertEquals(0, surface.getPixel(0, 0));
+        assertEquals(0xFFFFFFFF, surface.getPixel(10, 6));
+        assertChangedRegion(surface, 0, 0, 11, 7);
+
+        surface.beginFrame();
+        assertChangedRegion(surface, 8, 4, 11, 7);
+        surface.beginFrame();
+        assertFalse(surface.isChanged());
+    }
+
+    private static int[] filled(int length, int argb) {
+        int[] pixels = new int[length];
+        Arrays.fill(pixels, argb);
+        return pixels;
+    }
+
+    /**
+     * Composites non-premultiplied pixels over a premultiplied reference image in floating point.
+     */
+    private static void composite(double[][] image, int width, int height, int[] argb, int left, int top) {
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int pixel = argb[y * width + x];
+                double alpha = (pixel >>> 24) / 255.0;
+                double[] target = image[(top + y) * WIDTH + left + x];
+                target[0] = alpha + target[0] * (1 - alpha);
+                for (int channel = 1; channel < 4; channel++) {
+                    double color = ((pixel >> (24 - channel * 8)) & 0xFF) / 255.0;
+                    target[channel] = color * alpha + target[channel] * (1 - alpha);
+                }
+            }
+        }
+    }
+
+    private static void assertPixel(double[] expected, int actual, int x, int y) {
+        for (int channel = 0; channel < 4; channel++) {
+            int value = (actual >>> (24 - channel * 8)) & 0xFF;
+            assertEquals(expected[channel] * 255, value, 1.0,
+                    "Channel " + channel + " of pixel (" + x + ", " + y + ")");
+        }
+    }
+
+    private static void assertChangedRegion(PixelSurface surface, int minX, int minY, int maxX, int maxY) {
+        assertTrue(surface.isChanged());
+        assertEquals(minX, surface.getChangedMinX());
+        assertEquals(minY, surface.getChangedMinY());
+        assertEquals(maxX, surface.getChangedMaxX());
+        assertEquals(maxY, surface.getChangedMaxY());
+    }
+}
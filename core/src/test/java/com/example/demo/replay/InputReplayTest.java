@@ -0,0 +1,119 @@
+package com.example.demo.replay;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.example.demo.characters.ActiveActorDestructible;
+import com.example.demo.simulation.LevelSemiSimulation;
+import com.example.demo.simulation.LevelSimulation;
+import com.example.demo.simulation.SimulationListener;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InputReplayTest {
+
+    private static final double STEP_SECONDS = 0.05;
+    private static final String LEVEL_NAME = "com.example.demo.LevelSemi";
+
+    @Test
+    void testLogRoundTripsInOneBytePerNearbyInput() {
+        InputRecorder recorder = new InputRecorder(LEVEL_NAME, -5, 750, 1300, STEP_SECONDS);
+        int headerSize = recorder.finish(0).length - 1;
+
+        recorder = new InputRecorder(LEVEL_NAME, -5, 750, 1300, STEP_SECONDS);
+        recorder.record(3, InputKey.UP, true);
+        recorder.record(3, InputKey.FIRE, true);
+        recorder.record(10, InputKey.UP, false);
+        recorder.record(100_000, InputKey.DOWN, true);
+        byte[] data = recorder.finish(100_001);
+        InputRecorder finished = recorder;
+        assertThrows(IllegalStateException.class, () -> finished.record(100_002, InputKey.FIRE, true));
+
+        assertEquals(headerSize + 3 + 3 + 1, data.length, "Three near inputs take a byte each, a far one three.");
+        InputLog log = InputLog.decode(data);
+        assertEquals(LEVEL_NAME, log.getLevelName());
+        assertEquals(-5, log.getSessionSeed());
+        assertEquals(750, log.getScreenHeight());
+        assertEquals(1300, log.getScreenWidth());
+        assertEquals(STEP_SECONDS, log.getStepSeconds());
+        assertEquals(4, log.size());
+        assertEquals(List.of(3L, 3L, 10L, 100_000L), List.of(log.getTick(0), log.getTick(1), log.getTick(2), log.getTick(3)));
+        assertEquals(List.of(InputKey.UP, InputKey.FIRE, InputKey.UP, InputKey.DOWN),
+                List.of(log.getKey(0), log.getKey(1), log.getKey(2), log.getKey(3)));
+        assertTrue(log.isPressed(0) && log.isPressed(1) && !log.isPressed(2) && log.isPressed(3));
+        assertEquals(100_001, log.getEndTick());
+        assertThrows(IllegalArgumentException.class, () -> InputLog.decode(Arrays.copyOf(data, data.length - 1)));
+
+        // An entry with code 0b110, the release of a fourth key that does not exist, before the end marker
+        byte[] empty = new InputRecorder(LEVEL_NAME, -5, 750, 1300, STEP_SECONDS).finish(0);
+        byte[] unknownKey = Arrays.copyOf(empty, empty.length + 1);
+        unknownKey[empty.length] = unknownKey[empty.length - 1];
+        unknownKey[empty.length - 1] = 0b110;
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> InputLog.decode(unknownKey));
+        assertEquals("Unknown key in input log: 3", e.getMessage());
+    }
+
+    @Test
+    void testFastForwardedReplayPlaysTheRecordedGame() {
+        LevelSimulation recorded = new LevelSemiSimulation(750, 1300, 99);
+        InputRecorder recorder = new InputRecorder(LEVEL_NAME, 99, 750, 1300, STEP_SECONDS);
+        recorded.setListener(new SimulationListener() {
+            @Override
+            public void inputApplied(long tick, int keys, boolean pressed) {
+                recorder.record(tick, keys, pressed);  // As the keyboard's inputs are recorded, when applied
+            }
+        });
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 800 && recorded.getOutcome() == LevelSimulation.Outcome.IN_PROGRESS; i++) {
+            if (i % 5 == 0) {
+                offer(recorded, InputKey.FIRE, true);
+            }
+            if (i % 5 == 1) {
+                offer(recorded, InputKey.FIRE, false);
+            }
+            if (i % 40 == 0) {
+                offer(recorded, i % 80 == 0 ? InputKey.UP : InputKey.DOWN, true);
+            }
+            if (i % 40 == 20) {
+                offer(recorded, i % 80 == 20 ? InputKey.UP : InputKey.DOWN, false);
+            }
+            recorded.step(STEP_SECONDS);
+            expected.add(trace(recorded));
+        }
+        InputLog log = InputLog.decode(recorder.finish(recorded.getStepCount()));
+
+        LevelSimulation replayed = new LevelSemiSimulation(log.getScreenHeight(), log.getScreenWidth(),
+                log.getSessionSeed());
+        InputReplay replay = new InputReplay(log);
+        List<String> actual = new ArrayList<>();
+        while (!replay.isFinished(replayed) && replayed.getOutcome() == LevelSimulation.Outcome.IN_PROGRESS) {
+            replay.applyDueInputs(replayed);
+            replayed.step(log.getStepSeconds());
+            actual.add(trace(replayed));
+        }
+
+        assertEquals(expected, actual);
+        assertEquals(recorded.getUser().getNumberOfKills(), replayed.getUser().getNumberOfKills());
+
+        LevelSimulation fastForwarded = new LevelSemiSimulation(log.getScreenHeight(), log.getScreenWidth(),
+                log.getSessionSeed());
+        assertEquals(expected.size(), new InputReplay(log).fastForward(fastForwarded));
+        assertEquals(expected.get(expected.size() - 1), trace(fastForwarded));
+    }
+
+    private static void offer(LevelSimulation simulation, InputKey key, boolean pressed) {
+        assertTrue(simulation.getInputQueue().offer(key.getBit(), pressed));
+    }
+
+    private static String trace(LevelSimulation simulation) {
+        StringBuilder step = new StringBuilder()
+                .append(simulation.getUser().getPositionY()).append(' ')
+                .append(simulation.getProjectiles().size());
+        for (ActiveActorDestructible enemy : simulation.getEnemyUnits()) {
+            step.append(' ').append(enemy.getPositionX()).append(',').append(enemy.getPositionY());
+        }
+        return step.toString();
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.demo.simulation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InputQueueTest {
+
+    @Test
+    void testCommandsAreAppliedInOrderAndDroppedWhenFull() {
+        InputQueue queue = new InputQueue(2);
+        UserInput input = new UserInput();
+
+        assertTrue(queue.offer(UserInput.UP, true));
+        assertTrue(queue.offer(UserInput.UP, false));
+        assertFalse(queue.offer(UserInput.FIRE, true), "A full queue drops the command instead of blocking.");
+        assertEquals(1, queue.getDroppedCount());
+        assertEquals(2, queue.getPendingCount());
+
+        assertEquals(2, queue.drainTo(input));
+        assertFalse(input.isHeld(UserInput.UP));
+        assertEquals(UserInput.UP, input.sample(), "A press released before the step is still sampled once.");
+        assertEquals(2, queue.getLatencyNanos().getCount());
+
+        assertTrue(queue.offer(UserInput.DOWN | UserInput.FIRE, true), "Drained slots are reused.");
+        assertEquals(1, queue.drainTo(input));
+        assertTrue(input.isHeld(UserInput.DOWN | UserInput.FIRE));
+        assertEquals(0, queue.drainTo(input));
+    }
+
+    @Test
+    void testCommandsOfferedOnAnotherThreadAreAllApplied() throws InterruptedException {
+        InputQueue queue = new InputQueue(8);
+        UserInput input = new UserInput();
+        int presses = 10_000;
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < presses; i++) {
+                boolean pressed = i % 2 == 0;
+                while (!queue.offer(UserInput.FIRE, pressed)) {
+                    Thread.yield();
+                }
+            }
+        });
+        producer.start();
+
+        long applied = 0;
+        int sampledPresses = 0;
+        while (applied < presses) {
+            int count = queue.drainTo(input);
+            applied += count;
+            if (count == 0) {
+                Thread.yield();
+            } else if ((input.sample() & UserInput.FIRE) != 0) {
+                sampledPresses++;
+            }
+        }
+        producer.join();
+
+        assertEquals(presses, applied);
+        assertEquals(presses, queue.getLatencyNanos().getCount());
+        assertFalse(input.isHeld(UserInput.FIRE), "The last command was a release.");
+        assertTrue(sampledPresses > 0);
+    }
+}
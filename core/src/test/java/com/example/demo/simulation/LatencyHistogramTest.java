@@ -0,0 +1,43 @@
+package com.example.demo.simulation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    void testPercentilesStayWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long nanos = 1; nanos <= 100_000; nanos++) {
+            histogram.record(nanos * 100);  // 100 ns to 10 ms, evenly spread
+        }
+
+        assertEquals(100_000, histogram.getCount());
+        assertEquals(10_000_000, histogram.getMax());
+        assertPrecise(5_000_000, histogram.getValueAtPercentile(50));
+        assertPrecise(9_900_000, histogram.getValueAtPercentile(99));
+        assertEquals(10_000_000, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    void testSmallValuesAreExactAndResetEmpties() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(3);
+        histogram.record(7);
+        histogram.record(-5);  // Counted as zero
+
+        assertEquals(3, histogram.getValueAtPercentile(50));
+        assertEquals(7, histogram.getValueAtPercentile(99));
+
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getValueAtPercentile(50));
+        assertEquals(0, histogram.getMax());
+    }
+
+    private static void assertPrecise(long expected, long actual) {
+        assertTrue(actual >= expected && actual <= expected * 1.035,
+                "Expected about " + expected + " but was " + actual);
+    }
+}
@@ -0,0 +1,281 @@
+package com.example.demo.simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.demo.characters.ActiveActorDestructible;
+import com.example.demo.characters.EnemyPlane;
+import com.example.demo.ecs.Archetype;
+import com.example.demo.event.GameEventType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LevelSimulationTest {
+
+    private static final double STEP_SECONDS = 0.05;
+
+    @Test
+    void testStepsHeadlessAndNotifiesListener() {
+        // The level runs without the JavaFX toolkit; the listener sees every actor and projectile that enters and leaves.
+        LevelOneSimulation simulation = new LevelOneSimulation(750, 1300);
+        List<ActiveActorDestructible> live = new ArrayList<>();
+        List<Integer> liveProjectiles = new ArrayList<>();
+        simulation.setListener(new SimulationListener() {
+            @Override
+            public void actorAdded(ActiveActorDestructible actor) {
+                live.add(actor);
+            }
+
+            @Override
+            public void actorRemoved(ActiveActorDestructible actor) {
+                assertTrue(live.remove(actor), "Only added actors can be removed.");
+            }
+
+            @Override
+            public void projectileAdded(int handle) {
+                liveProjectiles.add(handle);
+            }
+
+            @Override
+            public void projectileRemoved(int handle) {
+                assertTrue(liveProjectiles.remove(Integer.valueOf(handle)), "Only added projectiles can be removed.");
+            }
+        });
+        assertEquals(List.of(simulation.getUser()), live);
+
+        for (int i = 0; i < 2000 && simulation.getOutcome() == LevelSimulation.Outcome.IN_PROGRESS; i++) {
+            if (i % 4 == 0) {
+                simulation.fireUserProjectile();
+            }
+            simulation.step(STEP_SECONDS);
+        }
+
+        assertTrue(simulation.getStepCount() > 0);
+        assertEquals(simulation.getFriendlyUnits().size() + simulation.getEnemyUnits().size(), live.size());
+        assertEquals(simulation.getProjectiles().size(), liveProjectiles.size());
+        assertEquals(simulation.getProjectiles().size(), simulation.getProjectiles().getWorld().size());
+        int[] factions = simulation.getProjectiles().getArchetype().getFaction();
+        int friendly = 0;
+        for (int row = 0; row < simulation.getProjectiles().size(); row++) {
+            friendly += factions[row] == Faction.FRIENDLY.ordinal() ? 1 : 0;
+        }
+        assertEquals(friendly, simulation.getProjectiles().count(Faction.FRIENDLY), "Live counts follow every flush.");
+        assertEquals(simulation.getProjectiles().size() - friendly, simulation.getProjectiles().count(Faction.ENEMY));
+    }
+
+    @Test
+    void testUserProjectileMovesInPixelsPerSecond() {
+        LevelOneSimulation simulation = new LevelOneSimulation(750, 1300);
+        simulation.fireUserProjectile();
+        assertEquals(1, simulation.getProjectiles().count(Faction.FRIENDLY));
+        Archetype projectiles = simulation.getProjectiles().getArchetype();
+        int handle = projectiles.getEntities()[0];
+        assertEquals(ProjectileType.USER, ProjectileType.of(projectiles.getKind()[0]));
+
+        double startX = projectiles.getPositionX()[0];
+        simulation.step(STEP_SECONDS);
+        simulation.step(STEP_SECONDS);
+
+        int row = simulation.getProjectiles().getWorld().getRow(handle);
+        assertEquals(startX + 300 * 2 * STEP_SECONDS, projectiles.getPositionX()[row], 1e-9);
+        assertEquals(startX + 300 * STEP_SECONDS, projectiles.getPreviousX()[row], 1e-9);
+        assertEquals(ProjectileType.USER.getWidth(), projectiles.getWidth()[row], 1e-9);
+    }
+
+    @Test
+    void testHeldFireIsRateLimitedByTheCooldownAndTheProjectileCap() {
+        LevelOneSimulation simulation = new LevelOneSimulation(750, 1300);
+        simulation.getUser().setFireCooldown(0.15);  // Three steps
+        simulation.getUser().setMaxLiveProjectiles(2);
+        simulation.getInput().press(UserInput.FIRE);
+
+        List<Integer> fired = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            simulation.step(STEP_SECONDS);
+            fired.add(simulation.getProjectiles().count(Faction.FRIENDLY));
+        }
+
+        // Shots at steps 1 and 4; the shot due at step 7 is refused while two projectiles fly
+        assertEquals(List.of(1, 1, 1, 2, 2, 2, 2, 2, 2, 2, 2, 2), fired);
+    }
+
+    @Test
+    void testKeysAreSampledOnceAtTheStartOfAStep() {
+        LevelOneSimulation simulation = new LevelOneSimulation(750, 1300);
+        UserInput input = simulation.getInput();
+        double startY = simulation.getUser().getPositionY();
+
+        // A tap between two steps still fires once, however many times it is repeated
+        input.press(UserInput.FIRE);
+        input.release(UserInput.FIRE);
+        input.press(UserInput.FIRE);
+        input.release(UserInput.FIRE);
+        simulation.step(STEP_SECONDS);
+        assertEquals(1, simulation.getProjectiles().count(Faction.FRIENDLY));
+        assertFalse(input.isHeld(UserInput.FIRE));
+
+        // Up and down held together cancel out
+        input.press(UserInput.UP | UserInput.DOWN);
+        simulation.step(STEP_SECONDS);
+        assertEquals(startY, simulation.getUser().getPositionY(), 1e-9);
+
+        input.release(UserInput.DOWN);
+        simulation.step(STEP_SECONDS);
+        assertEquals(startY - 160 * STEP_SECONDS, simulation.getUser().getPositionY(), 1e-9);
+    }
+
+    @Test
+    void testMissedProjectilesAreCulledOutsideTheMargin() {
+        LevelSimulation simulation = new LevelSimulation(750, 1300, 5) {
+            @Override
+            public void spawnEnemyUnits() {  // No enemy shots, whatever the session seed
+            }
+
+            @Override
+            protected void checkIfGameOver() {
+            }
+        };
+        simulation.getCullingSystem().setMargin(50);
+        simulation.getProjectiles().spawn(ProjectileType.USER, 1300, 0);  // Fired from the right edge, misses everything
+        simulation.getProjectiles().flush();
+
+        int steps = 0;
+        while (simulation.getProjectiles().count(Faction.FRIENDLY) > 0) {
+            simulation.step(STEP_SECONDS);
+            steps++;
+        }
+
+        // The shot is fully outside the margin once it flew 50 px past the edge, after 50 / 300 s
+        assertEquals(4, steps);
+        assertEquals(0, simulation.getProjectiles().getWorld().size());
+    }
+
+    @Test
+    void testEnemiesWaitingBeyondTheEdgeAreHiddenAndCulledWithoutCountingAsKills() {
+        LevelSimulation simulation = new LevelSimulation(750, 1300, 5) {
+            @Override
+            public void spawnEnemyUnits() {
+                if (getStepCount() == 1) {
+                    addEnemyUnit(new EnemyPlane(1400, 100, -600, 0, 1, getProjectiles(), getRandom().getEnemyFire()));  // 30 px per step
+                }
+            }
+
+            @Override
+            protected void checkIfGameOver() {
+            }
+        };
+        simulation.getCullingSystem().setMargin(0);
+
+        simulation.step(STEP_SECONDS);
+        ActiveActorDestructible enemy = simulation.getEnemyUnits().get(0);
+        assertFalse(enemy.isOnScreen(), "An enemy flying in from beyond the edge waits off screen.");
+        for (int i = 0; i < 3; i++) {
+            simulation.step(STEP_SECONDS);
+            assertEquals(List.of(enemy), simulation.getEnemyUnits(), "An enemy that never entered is not culled.");
+        }
+        assertTrue(enemy.isOnScreen());
+
+        // Push it back out to the right: once it has been on screen, leaving the world culls it
+        while (!enemy.isDestroyed()) {
+            enemy.updatePosition(-4 * STEP_SECONDS);
+            simulation.step(STEP_SECONDS);
+        }
+        assertTrue(simulation.getEnemyUnits().isEmpty());
+        assertEquals(0, simulation.getUser().getNumberOfKills(), "A culled enemy is not a kill.");
+    }
+
+    @Test
+    void testPenetratingEnemyDamagesTheUserWithoutCountingAsAKill() {
+        LevelSimulation simulation = new LevelSimulation(750, 1300, 5) {
+            @Override
+            public void spawnEnemyUnits() {
+                if (getStepCount() == 1) {
+                    // Far below the user, flying left at 1400 px per step: past the screen width after one step
+                    addEnemyUnit(new EnemyPlane(1000, 600, -28_000, 0, 1, getProjectiles(), getRandom().getEnemyFire()));
+                }
+            }
+
+            @Override
+            protected void checkIfGameOver() {
+            }
+        };
+        simulation.getCullingSystem().setMargin(10_000);
+        List<String> events = new ArrayList<>();
+        simulation.getEvents().subscribe(GameEventType.PLAYER_DAMAGED, event -> events.add("health " + event.getValue()));
+        simulation.getEvents().subscribe(GameEventType.ENEMY_KILLED, event -> events.add("kills " + event.getValue()));
+
+        simulation.step(STEP_SECONDS);
+
+        assertTrue(simulation.getEnemyUnits().isEmpty());
+        assertEquals(0, simulation.getUser().getNumberOfKills(), "An enemy that got through is not a kill.");
+        assertEquals(List.of("health 4"), events, "Events are dispatched at the end of the step.");
+    }
+
+    @Test
+    void testProfilerTimesEveryPhaseOnlyWhenEnabled() {
+        LevelOneSimulation simulation = new LevelOneSimulation(750, 1300);
+        TickProfiler profiler = simulation.getProfiler();
+        profiler.setEnabled(false);
+        simulation.step(STEP_SECONDS);
+        assertTrue(profiler.snapshot().isEmpty());
+
+        profiler.setEnabled(true);
+        for (int i = 0; i < 10; i++) {
+            simulation.step(STEP_SECONDS);
+        }
+
+        List<PhaseStatistics> statistics = profiler.snapshot();
+        assertEquals(TickPhase.values().length - 1, statistics.size(), "Every phase but the view's is timed.");
+        for (PhaseStatistics phase : statistics) {
+            assertEquals(10, phase.getCount(), phase.getPhase().name());
+            assertTrue(phase.getP50Nanos() <= phase.getP99Nanos() && phase.getP99Nanos() <= phase.getMaxNanos());
+        }
+    }
+
+    @Test
+    void testLevelEndsOnceWhenUserIsDestroyed() {
+        LevelTwoSimulation simulation = new LevelTwoSimulation(750, 1300);
+        List<LevelSimulation.Outcome> outcomes = new ArrayList<>();
+        simulation.setListener(new SimulationListener() {
+            @Override
+            public void levelEnded(LevelSimulation.Outcome outcome) {
+                outcomes.add(outcome);
+            }
+        });
+
+        simulation.getUser().destroy();
+        simulation.step(STEP_SECONDS);
+        long stepsWhenEnded = simulation.getStepCount();
+        simulation.step(STEP_SECONDS);
+
+        assertEquals(List.of(LevelSimulation.Outcome.LOST), outcomes);
+        assertEquals(stepsWhenEnded, simulation.getStepCount(), "An ended level must not advance.");
+    }
+
+    @Test
+    void testSameSeedPlaysTheSameGame() {
+        assertEquals(play(new LevelSemiSimulation(750, 1300, 42)), play(new LevelSemiSimulation(750, 1300, 42)));
+        assertEquals(play(new LevelTwoSimulation(750, 1300, 42)), play(new LevelTwoSimulation(750, 1300, 42)));
+        assertNotEquals(play(new LevelSemiSimulation(750, 1300, 42)), play(new LevelSemiSimulation(750, 1300, 43)));
+    }
+
+    /**
+     * Plays a level with a fixed input and traces where every enemy is and how many projectiles fly at every step.
+     */
+    private static List<String> play(LevelSimulation simulation) {
+        List<String> trace = new ArrayList<>();
+        for (int i = 0; i < 600 && simulation.getOutcome() == LevelSimulation.Outcome.IN_PROGRESS; i++) {
+            if (i % 4 == 0) {
+                simulation.fireUserProjectile();
+            }
+            simulation.step(STEP_SECONDS);
+            StringBuilder step = new StringBuilder().append(simulation.getProjectiles().size());
+            for (ActiveActorDestructible enemy : simulation.getEnemyUnits()) {
+                step.append(' ').append(enemy.getPositionX()).append(',').append(enemy.getPositionY());
+            }
+            trace.add(step.toString());
+        }
+        return trace;
+    }
+}
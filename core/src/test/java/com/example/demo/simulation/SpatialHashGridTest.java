@@ -0,0 +1,98 @@
+package com.example.demo.simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpatialHashGridTest {
+
+    @Test
+    void testQueryMatchesBruteForcePairs() {
+        // Random boxes, including some far off-screen, must produce the same pairs in the same order.
+        Random random = new Random(42);
+        double[][] first = randomBoxes(random, 200);
+        double[][] second = randomBoxes(random, 300);
+
+        SpatialHashGrid grid = new SpatialHashGrid(64, 256);
+        for (double[] box : second) {
+            grid.insert(box[0], box[1], box[2], box[3]);
+        }
+
+        List<String> expected = new ArrayList<>();
+        List<String> actual = new ArrayList<>();
+        for (int i = 0; i < first.length; i++) {
+            double[] a = first[i];
+            for (int j = 0; j < second.length; j++) {
+                double[] b = second[j];
+                if (a[2] >= b[0] && a[3] >= b[1] && a[0] <= b[2] && a[1] <= b[3]) {
+                    expected.add(i + ":" + j);
+                }
+            }
+            int candidateCount = grid.query(a[0], a[1], a[2], a[3]);
+            for (int c = 0; c < candidateCount; c++) {
+                int j = grid.getCandidate(c);
+                if (grid.intersects(j, a[0], a[1], a[2], a[3])) {
+                    actual.add(i + ":" + j);
+                }
+            }
+        }
+
+        assertFalse(expected.isEmpty(), "The random layout should contain overlapping boxes.");
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void testCandidatesAreInAscendingOrderForAnyQuerySize() {
+        // Small, medium and large candidate sets are ordered by different strategies; all must match item order.
+        Random random = new Random(7);
+        SpatialHashGrid grid = new SpatialHashGrid(64, 1024);
+        for (double[] box : randomBoxes(random, 3000)) {
+            grid.insert(box[0], box[1], box[2], box[3]);
+        }
+
+        int[] querySizes = {10, 100, 400, 2000};
+        for (int size : querySizes) {
+            int candidateCount = grid.query(0, 0, size, size);
+            assertTrue(candidateCount > 0);
+            for (int c = 1; c < candidateCount; c++) {
+                assertTrue(grid.getCandidate(c - 1) < grid.getCandidate(c), "Candidates must be strictly ascending.");
+            }
+        }
+    }
+
+    @Test
+    void testTouchingEdgesIntersect() {
+        // Bounds that only share an edge collide, as they do with JavaFX Bounds.intersects.
+        SpatialHashGrid grid = new SpatialHashGrid();
+        grid.insert(0, 0, 128, 10);
+
+        assertEquals(1, grid.query(128, 0, 200, 10));
+        assertTrue(grid.intersects(grid.getCandidate(0), 128, 0, 200, 10));
+    }
+
+    @Test
+    void testClearRemovesItems() {
+        SpatialHashGrid grid = new SpatialHashGrid();
+        grid.insert(0, 0, 10, 10);
+        grid.clear();
+
+        assertEquals(0, grid.size());
+        assertEquals(0, grid.query(0, 0, 10, 10));
+    }
+
+    private static double[][] randomBoxes(Random random, int count) {
+        double[][] boxes = new double[count][];
+        for (int i = 0; i < count; i++) {
+            double x = random.nextDouble() * 1600 - 100;
+            double y = random.nextDouble() * 800 - 50;
+            double width = 5 + random.nextDouble() * 150;
+            double height = 5 + random.nextDouble() * 90;
+            boxes[i] = new double[] {x, y, x + width, y + height};
+        }
+        return boxes;
+    }
+}